@@ -2,9 +2,12 @@ package credit;
 
 import credit.model.*;
 import credit.repository.BankRepository;
+import credit.repository.ClientRepository;
+import credit.repository.CreditCatalog;
 import credit.repository.CreditRepository;
 import credit.service.CreditSearchService;
 import credit.service.CreditSelectionService;
+import credit.service.PrequalificationCache;
 import credit.util.FileDataManager;
 
 import java.math.BigDecimal;
@@ -15,7 +18,8 @@ import java.util.Scanner;
 public class Application {
     // Тут зберігаються банки та кредити
     private BankRepository bankRepository;
-    private CreditRepository creditRepository;
+    private CreditCatalog creditRepository;
+    private ClientRepository clientRepository;
     
     // Сервіси для пошуку кредитів
     private CreditSearchService creditSearchService;
@@ -31,7 +35,8 @@ public class Application {
     public Application() {
         this.bankRepository = new BankRepository();
         this.creditRepository = new CreditRepository();
-        this.creditSearchService = new CreditSearchService(creditRepository);
+        this.clientRepository = new ClientRepository();
+        this.creditSearchService = new CreditSearchService(creditRepository, new PrequalificationCache());
         this.creditSelectionService = new CreditSelectionService(creditRepository, creditSearchService);
         this.fileDataManager = new FileDataManager();
         this.scanner = new Scanner(System.in);
@@ -46,14 +51,18 @@ public class Application {
                 bankRepository.addBank(bank);
             }
 
-            List<Credit> credits = fileDataManager.loadCredits();
+            List<Credit> credits = fileDataManager.loadCredits(bankRepository);
             for (Credit credit : credits) {
                 creditRepository.addCredit(credit);
             }
 
+            for (Client client : fileDataManager.loadClients()) {
+                clientRepository.addClient(client);
+            }
+
             // Якщо немає кредитів - створюємо тестові дані
             // (банки можуть бути з попереднього запуску, але кредити потрібні для демонстрації)
-            if (creditRepository.findAll().isEmpty()) {
+            if (creditRepository.size() == 0) {
                 initializeDefaultData();
             }
         } catch (Exception e) {
@@ -302,7 +311,7 @@ public class Application {
         System.out.println("║ [DEMO 5] Searching Credits by Type (MORTGAGE)             ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         System.out.println("Filtering all mortgage credits from the system...\n");
-        List<Credit> mortgages = creditSelectionService.selectByCreditType("MORTGAGE");
+        List<Credit> mortgages = creditSelectionService.selectByCreditType(CreditType.MORTGAGE);
         displayCredits(mortgages, "Mortgage Credits");
         if (!mortgages.isEmpty() && mortgages.get(0) instanceof MortgageCredit) {
             MortgageCredit m = (MortgageCredit) mortgages.get(0);
@@ -375,7 +384,7 @@ public class Application {
             System.out.println("╚══════════════════════════════════════════════════════════╝");
             System.out.println("Displaying detailed information about car credits, including");
             System.out.println("car specifications and depreciation rate calculations.\n");
-            List<Credit> carCredits = creditSelectionService.selectByCreditType("CAR");
+            List<Credit> carCredits = creditSelectionService.selectByCreditType(CreditType.CAR);
             for (Credit credit : carCredits) {
                 if (credit instanceof CarCredit) {
                     CarCredit carCredit = (CarCredit) credit;
@@ -412,7 +421,7 @@ public class Application {
             System.out.println("║ [DEMO 11] Consumer Credit Details                        ║");
             System.out.println("╚══════════════════════════════════════════════════════════╝");
             System.out.println("Displaying consumer credit information with purpose and limits.\n");
-            List<Credit> consumerCredits = creditSelectionService.selectByCreditType("CONSUMER");
+            List<Credit> consumerCredits = creditSelectionService.selectByCreditType(CreditType.CONSUMER);
             for (Credit credit : consumerCredits) {
                 if (credit instanceof ConsumerCredit) {
                     ConsumerCredit consumer = (ConsumerCredit) credit;
@@ -438,11 +447,11 @@ public class Application {
         System.out.println("║                    DEMO SUMMARY                            ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         System.out.println("\nSystem Statistics:");
-        System.out.println("  • Total Banks: " + bankRepository.findAll().size());
-        System.out.println("  • Total Credits: " + creditRepository.findAll().size());
-        System.out.println("  • Mortgage Credits: " + creditSelectionService.selectByCreditType("MORTGAGE").size());
-        System.out.println("  • Consumer Credits: " + creditSelectionService.selectByCreditType("CONSUMER").size());
-        System.out.println("  • Car Credits: " + creditSelectionService.selectByCreditType("CAR").size());
+        System.out.println("  • Total Banks: " + bankRepository.size());
+        System.out.println("  • Total Credits: " + creditRepository.size());
+        System.out.println("  • Mortgage Credits: " + creditSelectionService.selectByCreditType(CreditType.MORTGAGE).size());
+        System.out.println("  • Consumer Credits: " + creditSelectionService.selectByCreditType(CreditType.CONSUMER).size());
+        System.out.println("  • Car Credits: " + creditSelectionService.selectByCreditType(CreditType.CAR).size());
         
         System.out.println("\nFeatures Demonstrated:");
         System.out.println("  ✓ Bank management and rating system");
@@ -647,9 +656,9 @@ public class Application {
         System.out.println("  • MORTGAGE - For purchasing real estate");
         System.out.println("  • CAR - For purchasing vehicles");
         System.out.print("\nEnter credit type: ");
-        String type = scanner.nextLine().trim().toUpperCase();
+        CreditType type = CreditType.fromString(scanner.nextLine().trim());
         
-        if (!type.equals("CONSUMER") && !type.equals("MORTGAGE") && !type.equals("CAR")) {
+        if (type == null) {
             System.out.println("❌ Invalid credit type. Please enter CONSUMER, MORTGAGE, or CAR.");
             return;
         }
@@ -668,7 +677,7 @@ public class Application {
         System.out.println("║              SEARCH BY BANK                               ║");
         System.out.println("╚══════════════════════════════════════════════════════════╝");
         System.out.println("\nAvailable banks:");
-        bankRepository.findAll().forEach(bank -> 
+        bankRepository.forEach(bank -> 
             System.out.println("  • " + bank.getName() + " (Rating: " + bank.getRating() + ")"));
         System.out.print("\nEnter bank name: ");
         String bankName = scanner.nextLine().trim();
@@ -866,8 +875,17 @@ public class Application {
         System.out.println(String.format("  Total Payment: %s", credit.calculateTotalPayment()));
         System.out.println(String.format("  Early Repayment: %s", 
                 credit.isEarlyRepaymentAllowed() ? "Yes" : "No"));
-        System.out.println(String.format("  Credit Line Increase: %s", 
+        System.out.println(String.format("  Credit Line Increase: %s",
                 credit.isCreditLineIncreaseAllowed() ? "Yes" : "No"));
+
+        // Показуємо перший рік графіку - решта місяців не рахується
+        System.out.println("\n  First 12 payments:");
+        credit.getAmortizationSchedule().stream()
+                .limit(12)
+                .forEach(entry -> System.out.println(String.format(
+                        "   %3d. %s | Payment: %s | Principal: %s | Interest: %s | Balance: %s",
+                        entry.getMonth(), entry.getPaymentDate(), entry.getPayment(),
+                        entry.getPrincipal(), entry.getInterest(), entry.getRemainingBalance())));
     }
 
     // Створюємо клієнта з введених даних
@@ -896,6 +914,8 @@ public class Application {
                 System.out.println("⚠️  Warning: Credit score should typically be between 300-850.");
             }
 
+            // Тимчасовий профіль для одного пошуку: без справжніх даних клієнта,
+            // тому в clientRepository (і в clients.json) не потрапляє
             return new Client("CLI001", "John", "Doe", "john@example.com",
                     income, score, false);
         } catch (NumberFormatException e) {
@@ -909,6 +929,7 @@ public class Application {
         try {
             fileDataManager.saveBanks(bankRepository.findAll());
             fileDataManager.saveCredits(creditRepository.findAll());
+            fileDataManager.saveClients(clientRepository.findAll());
         } catch (Exception e) {
             System.err.println("Failed to save data: " + e.getMessage());
         }
@@ -0,0 +1,85 @@
+package credit.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// Результат пакетної перевірки доступності: для кожного клієнта - бітова карта кредитів
+// каталогу (біт j = кредит creditIds[j] клієнту по кишені і за рейтингом).
+// Всі карти лежать в одному масиві long, по wordsPerClient слів на клієнта:
+// 100 000 клієнтів x 10 000 кредитів - це 125 МБ замість мільярда boolean
+public final class AffordabilityMatrix {
+    private final String[] clientIds;
+    private final String[] creditIds;
+    private final int wordsPerClient;
+    private final long[] words;
+
+    public AffordabilityMatrix(String[] clientIds, String[] creditIds, long[] words) {
+        this.clientIds = clientIds;
+        this.creditIds = creditIds;
+        this.wordsPerClient = wordsFor(creditIds.length);
+        if (words.length != (long) clientIds.length * wordsPerClient) {
+            throw new IllegalArgumentException("Expected " + (long) clientIds.length * wordsPerClient
+                    + " words, got " + words.length);
+        }
+        this.words = words;
+    }
+
+    // Скільки слів long займає карта на creditCount кредитів
+    public static int wordsFor(int creditCount) {
+        return (creditCount + 63) >>> 6;
+    }
+
+    public int clientCount() {
+        return clientIds.length;
+    }
+
+    public int creditCount() {
+        return creditIds.length;
+    }
+
+    public String getClientId(int client) {
+        return clientIds[client];
+    }
+
+    public String getCreditId(int credit) {
+        return creditIds[credit];
+    }
+
+    public boolean isAffordable(int client, int credit) {
+        if (credit < 0 || credit >= creditIds.length) {
+            throw new IndexOutOfBoundsException("Credit " + credit + " of " + creditIds.length);
+        }
+        return (words[client * wordsPerClient + (credit >>> 6)] & (1L << credit)) != 0;
+    }
+
+    public int countAffordable(int client) {
+        int count = 0;
+        int from = client * wordsPerClient;
+        for (int i = from; i < from + wordsPerClient; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    // Копія карти клієнта
+    public BitSet getAffordable(int client) {
+        int from = client * wordsPerClient;
+        long[] copy = new long[wordsPerClient];
+        System.arraycopy(words, from, copy, 0, wordsPerClient);
+        return BitSet.valueOf(copy);
+    }
+
+    public List<String> getAffordableCreditIds(int client) {
+        List<String> ids = new ArrayList<>();
+        int from = client * wordsPerClient;
+        for (int w = 0; w < wordsPerClient; w++) {
+            long word = words[from + w];
+            while (word != 0) {
+                ids.add(creditIds[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,79 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+// Один рядок графіку погашення: платіж за місяць і залишок боргу після нього
+public final class AmortizationEntry {
+    private final int month;
+    private final LocalDate paymentDate;
+    private final BigDecimal payment;
+    private final BigDecimal principal;
+    private final BigDecimal interest;
+    private final BigDecimal remainingBalance;
+
+    public AmortizationEntry(int month, LocalDate paymentDate, BigDecimal payment,
+                             BigDecimal principal, BigDecimal interest, BigDecimal remainingBalance) {
+        this.month = month;
+        this.paymentDate = paymentDate;
+        this.payment = payment;
+        this.principal = principal;
+        this.interest = interest;
+        this.remainingBalance = remainingBalance;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public LocalDate getPaymentDate() {
+        return paymentDate;
+    }
+
+    public BigDecimal getPayment() {
+        return payment;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public BigDecimal getInterest() {
+        return interest;
+    }
+
+    public BigDecimal getRemainingBalance() {
+        return remainingBalance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AmortizationEntry that = (AmortizationEntry) o;
+        return month == that.month &&
+                Objects.equals(paymentDate, that.paymentDate) &&
+                Objects.equals(payment, that.payment) &&
+                Objects.equals(principal, that.principal) &&
+                Objects.equals(interest, that.interest) &&
+                Objects.equals(remainingBalance, that.remainingBalance);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, paymentDate, payment, principal, interest, remainingBalance);
+    }
+
+    @Override
+    public String toString() {
+        return "AmortizationEntry{" +
+                "month=" + month +
+                ", paymentDate=" + paymentDate +
+                ", payment=" + payment +
+                ", principal=" + principal +
+                ", interest=" + interest +
+                ", remainingBalance=" + remainingBalance +
+                '}';
+    }
+}
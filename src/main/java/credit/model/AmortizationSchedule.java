@@ -0,0 +1,86 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Графік погашення кредиту, який рахується лениво - рядок за рядком
+// Зберігається тільки поточний залишок, тому пам'ять не залежить від терміну:
+// щоб показати перші 12 місяців 300-місячної іпотеки, решта рядків не створюється
+public final class AmortizationSchedule implements Iterable<AmortizationEntry> {
+    private final BigDecimal amount;
+    private final BigDecimal monthlyRate;
+    private final BigDecimal payment;
+    private final int termMonths;
+    private final LocalDate startDate;
+
+    AmortizationSchedule(BigDecimal amount, BigDecimal interestRate, BigDecimal payment,
+                         int termMonths, LocalDate startDate) {
+        this.amount = amount;
+        // Місячна ставка рахується так само, як для ануїтетного коефіцієнта
+        this.monthlyRate = interestRate == null ? BigDecimal.ZERO
+                : AnnuityFactorCache.monthlyRate(interestRate);
+        this.payment = payment;
+        this.termMonths = amount == null || interestRate == null ? 0 : Math.max(termMonths, 0);
+        this.startDate = startDate;
+    }
+
+    public int getTermMonths() {
+        return termMonths;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    @Override
+    public Iterator<AmortizationEntry> iterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public Spliterator<AmortizationEntry> spliterator() {
+        // Кількість рядків може бути меншою за термін, якщо борг погашено раніше,
+        // тому розмір не повідомляється
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    public Stream<AmortizationEntry> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private class EntryIterator implements Iterator<AmortizationEntry> {
+        private int month;
+        private BigDecimal balance = amount;
+
+        @Override
+        public boolean hasNext() {
+            return month < termMonths && balance.signum() > 0;
+        }
+
+        @Override
+        public AmortizationEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            month++;
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principal = payment.subtract(interest);
+            // Останній платіж закриває весь залишок (з урахуванням округлень)
+            if (month == termMonths || principal.compareTo(balance) >= 0) {
+                principal = balance;
+            }
+            balance = balance.subtract(principal);
+            LocalDate paymentDate = startDate == null ? null : startDate.plusMonths(month);
+            return new AmortizationEntry(month, paymentDate, principal.add(interest),
+                    principal, interest, balance);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Спільний кеш ануїтетних коефіцієнтів для всіх типів кредитів
+// Коефіцієнт залежить тільки від пари (річна ставка, термін), тому
+// для каталогу з кількома тисячами різних пар рахуємо його один раз
+public final class AnnuityFactorCache {
+    // Максимальна кількість пар у кеші - при переповненні кеш очищується
+    static final int MAX_ENTRIES = 10_000;
+
+    // Маркер для пар, де знаменник формули дорівнює нулю (ставка занадто мала)
+    private static final BigDecimal NO_FACTOR = new BigDecimal(-1);
+
+    private static final ConcurrentHashMap<Key, BigDecimal> FACTORS = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private AnnuityFactorCache() {
+    }
+
+    // Повертає місячний ануїтетний коефіцієнт (scale 4) або null,
+    // якщо формула ануїтету не застосовується і платіж дорівнює сумі кредиту
+    public static BigDecimal getFactor(BigDecimal interestRate, int termMonths) {
+        Key key = new Key(interestRate.stripTrailingZeros(), termMonths);
+        BigDecimal factor = FACTORS.get(key);
+        if (factor != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            factor = computeFactor(monthlyRate(interestRate), termMonths);
+            if (FACTORS.size() >= MAX_ENTRIES) {
+                FACTORS.clear();
+            }
+            FACTORS.putIfAbsent(key, factor);
+        }
+        return factor == NO_FACTOR ? null : factor;
+    }
+
+    // Місячна ставка з річної у відсотках, scale 4
+    static BigDecimal monthlyRate(BigDecimal interestRate) {
+        return interestRate.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP)
+                .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+    }
+
+    // Та сама формула, що раніше була в Credit.calculateTotalPayment
+    static BigDecimal computeFactor(BigDecimal monthlyRate, int termMonths) {
+        double powValue = Math.pow(1 + monthlyRate.doubleValue(), termMonths);
+        BigDecimal denominator = BigDecimal.valueOf(powValue - 1);
+
+        if (denominator.compareTo(BigDecimal.ZERO) == 0) {
+            return NO_FACTOR;
+        }
+
+        return monthlyRate.multiply(BigDecimal.valueOf(powValue))
+                .divide(denominator, 4, RoundingMode.HALF_UP);
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static int size() {
+        return FACTORS.size();
+    }
+
+    // Скидає кеш і лічильники (для тестів і після зміни формули)
+    public static void clear() {
+        FACTORS.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    // Ключ (ставка без хвостових нулів, термін) - спільний з RatePowerCache
+    static final class Key {
+        private final BigDecimal interestRate;
+        private final int termMonths;
+
+        Key(BigDecimal interestRate, int termMonths) {
+            this.interestRate = interestRate;
+            this.termMonths = termMonths;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return termMonths == key.termMonths &&
+                    interestRate.equals(key.interestRate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(interestRate, termMonths);
+        }
+    }
+}
@@ -6,6 +6,8 @@ public class Bank {
     private String name;
     private String licenseNumber;
     private double rating;
+    // true для знімка з snapshot(): сеттери кидають IllegalStateException
+    private transient boolean frozen;
 
     public Bank() {
     }
@@ -16,11 +18,33 @@ public class Bank {
         this.rating = rating;
     }
 
+    // Незмінна копія банку для знімків кредитів (SnapshotCreditRepository): зміни банку,
+    // з якого її зробили, опублікованої версії каталогу не торкаються. Знімок знімка - він сам
+    public Bank snapshot() {
+        if (frozen) {
+            return this;
+        }
+        Bank snapshot = new Bank(name, licenseNumber, rating);
+        snapshot.frozen = true;
+        return snapshot;
+    }
+
+    public boolean isSnapshot() {
+        return frozen;
+    }
+
+    private void checkModifiable() {
+        if (frozen) {
+            throw new IllegalStateException("Bank " + name + " is a read-only snapshot");
+        }
+    }
+
     public String getName() {
         return name;
     }
 
     public void setName(String name) {
+        checkModifiable();
         this.name = name;
     }
 
@@ -29,6 +53,7 @@ public class Bank {
     }
 
     public void setLicenseNumber(String licenseNumber) {
+        checkModifiable();
         this.licenseNumber = licenseNumber;
     }
 
@@ -37,6 +62,7 @@ public class Bank {
     }
 
     public void setRating(double rating) {
+        checkModifiable();
         this.rating = rating;
     }
 
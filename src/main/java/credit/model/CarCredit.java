@@ -29,6 +29,20 @@ public class CarCredit extends Credit {
         this.newCar = newCar;
     }
 
+    protected CarCredit(CarCredit other) {
+        super(other);
+        this.carBrand = other.carBrand;
+        this.carModel = other.carModel;
+        this.carYear = other.carYear;
+        this.carValue = other.carValue;
+        this.newCar = other.newCar;
+    }
+
+    @Override
+    public CarCredit copy() {
+        return new CarCredit(this);
+    }
+
     // Розраховує відсоток депреціації - скільки від вартості авто становить кредит
     public BigDecimal calculateDepreciationRate() {
         if (carValue == null || carValue.compareTo(BigDecimal.ZERO) == 0) {
@@ -43,6 +57,7 @@ public class CarCredit extends Credit {
     }
 
     public void setCarBrand(String carBrand) {
+        checkModifiable();
         this.carBrand = carBrand;
     }
 
@@ -51,6 +66,7 @@ public class CarCredit extends Credit {
     }
 
     public void setCarModel(String carModel) {
+        checkModifiable();
         this.carModel = carModel;
     }
 
@@ -59,6 +75,7 @@ public class CarCredit extends Credit {
     }
 
     public void setCarYear(int carYear) {
+        checkModifiable();
         this.carYear = carYear;
     }
 
@@ -67,6 +84,7 @@ public class CarCredit extends Credit {
     }
 
     public void setCarValue(BigDecimal carValue) {
+        checkModifiable();
         this.carValue = carValue;
     }
 
@@ -75,6 +93,7 @@ public class CarCredit extends Credit {
     }
 
     public void setNewCar(boolean newCar) {
+        checkModifiable();
         this.newCar = newCar;
     }
 }
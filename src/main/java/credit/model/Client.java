@@ -1,6 +1,7 @@
 package credit.model;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 // Клас для представлення клієнта
@@ -13,6 +14,10 @@ public class Client {
     private int creditScore;  // від 300 до 850
     private boolean hasExistingCredits;
 
+    // Максимальний платіж (40% доходу) в копійках, рахується один раз
+    private transient boolean paymentCeilingReady;
+    private transient long paymentCeilingMinor;
+
     public Client() {
     }
 
@@ -37,6 +42,49 @@ public class Client {
         return monthlyPayment.compareTo(maxPayment) <= 0 && creditScore >= 600;
     }
 
+    // Той самий варіант перевірки для платежу в копійках - без створення BigDecimal
+    public boolean isEligibleForCredit(long monthlyPaymentMinor) {
+        long ceiling = getPaymentCeilingMinor();
+        return ceiling >= 0 && monthlyPaymentMinor <= ceiling && creditScore >= 600;
+    }
+
+    // 40% доходу в копійках, округлено вниз (платіж у цілих копійках не може бути більшим)
+    // -1 якщо дохід не вказаний або не додатний
+    public long getPaymentCeilingMinor() {
+        if (!paymentCeilingReady) {
+            if (monthlyIncome == null || monthlyIncome.compareTo(BigDecimal.ZERO) <= 0) {
+                paymentCeilingMinor = -1;
+            } else {
+                paymentCeilingMinor = monthlyIncome.multiply(BigDecimal.valueOf(40))
+                        .setScale(0, RoundingMode.FLOOR).longValueExact();
+            }
+            paymentCeilingReady = true;
+        }
+        return paymentCeilingMinor;
+    }
+
+    // Скільки клієнт може позичити під ставку interestRate (% річних) на termMonths місяців
+    // за правилом 40% доходу - "можете позичити до X". Рахується оберненою формулою,
+    // без перебору сум. 0.00, якщо клієнт не проходить за доходом чи рейтингом
+    public BigDecimal calculateMaxAffordableAmount(BigDecimal interestRate, int termMonths) {
+        if (interestRate == null || termMonths <= 0) {
+            throw new IllegalArgumentException("Interest rate and a positive term are required");
+        }
+        if (!isEligibleForCredit(0)) {
+            return FixedPointMoney.fromMinorUnits(0);
+        }
+        return FixedPointMoney.fromMinorUnits(FixedPointMoney.maxPrincipalMinor(getPaymentCeilingMinor(),
+                FixedPointMoney.toBasisPoints(interestRate), termMonths));
+    }
+
+    // Те саме для ставки і терміну конкретного кредиту
+    public BigDecimal calculateMaxAffordableAmount(Credit credit) {
+        if (credit == null) {
+            throw new IllegalArgumentException("Credit is required");
+        }
+        return calculateMaxAffordableAmount(credit.getInterestRate(), credit.getTermMonths());
+    }
+
     public String getId() {
         return id;
     }
@@ -75,6 +123,7 @@ public class Client {
 
     public void setMonthlyIncome(BigDecimal monthlyIncome) {
         this.monthlyIncome = monthlyIncome;
+        this.paymentCeilingReady = false;
     }
 
     public int getCreditScore() {
@@ -24,6 +24,18 @@ public class ConsumerCredit extends Credit {
         this.maxAmount = maxAmount;
     }
 
+    protected ConsumerCredit(ConsumerCredit other) {
+        super(other);
+        this.purpose = other.purpose;
+        this.requiresCollateral = other.requiresCollateral;
+        this.maxAmount = other.maxAmount;
+    }
+
+    @Override
+    public ConsumerCredit copy() {
+        return new ConsumerCredit(this);
+    }
+
     // Перевіряє чи сума кредиту не перевищує максимальну
     public boolean isAmountWithinLimit() {
         return maxAmount != null && getAmount().compareTo(maxAmount) <= 0;
@@ -34,6 +46,7 @@ public class ConsumerCredit extends Credit {
     }
 
     public void setPurpose(String purpose) {
+        checkModifiable();
         this.purpose = purpose;
     }
 
@@ -42,6 +55,7 @@ public class ConsumerCredit extends Credit {
     }
 
     public void setRequiresCollateral(boolean requiresCollateral) {
+        checkModifiable();
         this.requiresCollateral = requiresCollateral;
     }
 
@@ -50,6 +64,7 @@ public class ConsumerCredit extends Credit {
     }
 
     public void setMaxAmount(BigDecimal maxAmount) {
+        checkModifiable();
         this.maxAmount = maxAmount;
     }
 }
@@ -18,6 +18,21 @@ public class Credit {
     private boolean creditLineIncreaseAllowed;
     private LocalDate startDate;
 
+    // Закешовані похідні значення - рахуються при першому зверненні
+    // і скидаються сеттерами суми, ставки та терміну.
+    // transient - щоб Gson їх не зберігав і не відновлював з файлу
+    private transient BigDecimal totalPayment;
+    private transient BigDecimal monthlyPayment;
+    // Ті самі платежі в копійках для гарячих шляхів без алокацій
+    private transient boolean minorPaymentsReady;
+    private transient long monthlyPaymentMinor;
+    private transient long totalPaymentMinor;
+    private transient long annuityFactorUnits;
+    // Розібраний creditType; рядкове поле лишається для сумісності з JSON
+    private transient CreditType type;
+    // true для знімка з snapshot(): сеттери кидають IllegalStateException
+    private transient boolean frozen;
+
     public Credit() {
     }
 
@@ -35,9 +50,72 @@ public class Credit {
         this.startDate = LocalDate.now();
     }
 
+    // Копіює поля іншого кредиту; кеші платежів рахуються заново
+    protected Credit(Credit other) {
+        this.id = other.id;
+        this.bank = other.bank;
+        this.creditType = other.creditType;
+        this.amount = other.amount;
+        this.interestRate = other.interestRate;
+        this.termMonths = other.termMonths;
+        this.earlyRepaymentAllowed = other.earlyRepaymentAllowed;
+        this.creditLineIncreaseAllowed = other.creditLineIncreaseAllowed;
+        this.startDate = other.startDate;
+    }
+
+    // Змінна копія того самого класу, зокрема знімка - з неї будується наступна версія
+    // (наприклад, з новою ставкою). Підкласи перевизначають, щоб копіювати свої поля
+    public Credit copy() {
+        return new Credit(this);
+    }
+
+    // Незмінний знімок того самого класу: всі похідні значення пораховані наперед,
+    // тому читання нічого не записує, а сеттери кидають IllegalStateException.
+    // Після безпечної публікації (volatile, final, AtomicReference) його можна
+    // читати з будь-якої кількості потоків без блокувань. Знімок знімка - він сам.
+    // Банк не копіюється - знімок посилається на той самий екземпляр; SnapshotCreditRepository
+    // перед цим підставляє незмінний знімок банку (Bank.snapshot())
+    public Credit snapshot() {
+        if (frozen) {
+            return this;
+        }
+        Credit snapshot = copy();
+        snapshot.freeze();
+        return snapshot;
+    }
+
+    public boolean isSnapshot() {
+        return frozen;
+    }
+
+    private void freeze() {
+        calculateMonthlyPayment();
+        if (!minorPaymentsReady) {
+            computeMinorPayments();
+        }
+        getType();
+        frozen = true;
+    }
+
+    // Викликається першим рядком кожного сеттера, зокрема в підкласах
+    protected final void checkModifiable() {
+        if (frozen) {
+            throw new IllegalStateException("Credit " + id + " is a read-only snapshot");
+        }
+    }
+
     // Розраховує загальну суму яку потрібно повернути
     // Використовується формула ануїтетного платежу
     public BigDecimal calculateTotalPayment() {
+        BigDecimal cached = totalPayment;
+        if (cached == null) {
+            cached = computeTotalPayment();
+            totalPayment = cached;
+        }
+        return cached;
+    }
+
+    private BigDecimal computeTotalPayment() {
         if (amount == null || interestRate == null || termMonths <= 0) {
             return BigDecimal.ZERO;
         }
@@ -45,32 +123,139 @@ public class Credit {
             return amount;
         }
         
-        // Обчислюємо місячну ставку
-        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP)
-                .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
-        
-        double powValue = Math.pow(1 + monthlyRate.doubleValue(), termMonths);
-        BigDecimal denominator = BigDecimal.valueOf(powValue - 1);
-        
-        if (denominator.compareTo(BigDecimal.ZERO) == 0) {
+        // Коефіцієнт ануїтету беремо зі спільного кешу - він залежить тільки від ставки і терміну
+        BigDecimal factor = AnnuityFactorCache.getFactor(interestRate, termMonths);
+        if (factor == null) {
             return amount;
         }
-        
+
         // Формула ануїтету
-        BigDecimal monthlyPayment = amount.multiply(
-                monthlyRate.multiply(BigDecimal.valueOf(powValue))
-                        .divide(denominator, 4, RoundingMode.HALF_UP)
-        );
+        BigDecimal monthlyPayment = amount.multiply(factor);
         
         return monthlyPayment.multiply(BigDecimal.valueOf(termMonths));
     }
 
     // Просто ділимо загальну суму на кількість місяців
     public BigDecimal calculateMonthlyPayment() {
-        if (termMonths <= 0) {
+        BigDecimal cached = monthlyPayment;
+        if (cached == null) {
+            cached = termMonths <= 0 ? BigDecimal.ZERO
+                    : calculateTotalPayment().divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+            monthlyPayment = cached;
+        }
+        return cached;
+    }
+
+    // Точний щомісячний платіж: (1 + r)^n рахується в BigDecimal (див. RatePowerCache),
+    // місячна ставка не округлюється до 4 знаків. Результат округлюється тільки до копійок
+    public BigDecimal calculateExactMonthlyPayment() {
+        if (amount == null || interestRate == null || termMonths <= 0) {
             return BigDecimal.ZERO;
         }
-        return calculateTotalPayment().divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        BigDecimal factor = RatePowerCache.getFactor(interestRate, termMonths);
+        if (factor == null) {
+            return amount.divide(BigDecimal.valueOf(termMonths), 2, RoundingMode.HALF_UP);
+        }
+        return amount.multiply(factor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal calculateExactTotalPayment() {
+        if (amount == null || interestRate == null || termMonths <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal factor = RatePowerCache.getFactor(interestRate, termMonths);
+        if (factor == null) {
+            return amount;
+        }
+        return amount.multiply(factor).multiply(BigDecimal.valueOf(termMonths))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Щомісячний платіж в копійках (див. FixedPointMoney)
+    // Після першого виклику не створює жодного об'єкта
+    public long calculateMonthlyPaymentMinor() {
+        if (!minorPaymentsReady) {
+            computeMinorPayments();
+        }
+        return monthlyPaymentMinor;
+    }
+
+    public long calculateTotalPaymentMinor() {
+        if (!minorPaymentsReady) {
+            computeMinorPayments();
+        }
+        return totalPaymentMinor;
+    }
+
+    // Щомісячний платіж в копійках, якби сума кредиту була amountMinor
+    // при тих самих ставці і терміні - використовує вже порахований коефіцієнт
+    public long calculateMonthlyPaymentMinor(long amountMinor) {
+        if (!minorPaymentsReady) {
+            computeMinorPayments();
+        }
+        return FixedPointMoney.monthlyPaymentMinorForFactor(amountMinor, annuityFactorUnits, termMonths);
+    }
+
+    // Чи вкладається щомісячний платіж у межу (копійки). Поки платежі не пораховані,
+    // спершу порівнює суму з межею як за нульової ставки (ануїтет не дешевший)
+    // і відкидає завідомо задорогі кредити без піднесення до степеня
+    public boolean isMonthlyPaymentWithin(long paymentCeilingMinor) {
+        if (!minorPaymentsReady && amount != null && interestRate != null && termMonths > 0
+                && FixedPointMoney.toMinorUnits(amount)
+                > FixedPointMoney.maxPrincipalMinor(paymentCeilingMinor, -1L, termMonths)) {
+            return false;
+        }
+        return calculateMonthlyPaymentMinor() <= paymentCeilingMinor;
+    }
+
+    // Найбільша сума (копійки) з тією самою ставкою і терміном, платіж якої вкладається в межу
+    // -1, якщо ставка не вказана або межа від'ємна
+    public long calculateMaxAffordableAmountMinor(long paymentCeilingMinor) {
+        if (interestRate == null) {
+            return -1;
+        }
+        if (amount == null) {
+            return FixedPointMoney.maxPrincipalMinor(paymentCeilingMinor,
+                    FixedPointMoney.toBasisPoints(interestRate), termMonths);
+        }
+        if (!minorPaymentsReady) {
+            computeMinorPayments();
+        }
+        return FixedPointMoney.maxPrincipalMinor(paymentCeilingMinor, annuityFactorUnits, termMonths);
+    }
+
+    private void computeMinorPayments() {
+        if (amount == null || interestRate == null || termMonths <= 0) {
+            annuityFactorUnits = -1;
+            monthlyPaymentMinor = 0;
+            totalPaymentMinor = 0;
+        } else {
+            long amountMinor = FixedPointMoney.toMinorUnits(amount);
+            int rateBasisPoints = FixedPointMoney.toBasisPoints(interestRate);
+            annuityFactorUnits = FixedPointMoney.annuityFactorUnits(
+                    FixedPointMoney.monthlyRateUnits(rateBasisPoints), termMonths);
+            monthlyPaymentMinor = FixedPointMoney.monthlyPaymentMinorForFactor(amountMinor, annuityFactorUnits, termMonths);
+            totalPaymentMinor = FixedPointMoney.totalPaymentMinorForFactor(amountMinor, annuityFactorUnits, termMonths);
+        }
+        minorPaymentsReady = true;
+    }
+
+    // Графік погашення по місяцях, дати платежів відраховуються від startDate
+    // Рядки рахуються тільки при проході по графіку
+    public AmortizationSchedule getAmortizationSchedule() {
+        return getAmortizationSchedule(startDate);
+    }
+
+    public AmortizationSchedule getAmortizationSchedule(LocalDate scheduleStartDate) {
+        return new AmortizationSchedule(amount, interestRate, calculateMonthlyPayment(),
+                termMonths, scheduleStartDate);
+    }
+
+    // Скидає закешовані платежі після зміни суми, ставки або терміну
+    private void invalidatePayments() {
+        totalPayment = null;
+        monthlyPayment = null;
+        minorPaymentsReady = false;
     }
 
     public String getId() {
@@ -78,6 +263,7 @@ public class Credit {
     }
 
     public void setId(String id) {
+        checkModifiable();
         this.id = id;
     }
 
@@ -86,6 +272,7 @@ public class Credit {
     }
 
     public void setBank(Bank bank) {
+        checkModifiable();
         this.bank = bank;
     }
 
@@ -94,7 +281,25 @@ public class Credit {
     }
 
     public void setCreditType(String creditType) {
+        checkModifiable();
         this.creditType = creditType;
+        this.type = null;
+    }
+
+    // null, якщо creditType не є одним зі стандартних типів
+    public CreditType getType() {
+        CreditType cached = type;
+        if (cached == null && creditType != null) {
+            cached = CreditType.fromString(creditType);
+            type = cached;
+        }
+        return cached;
+    }
+
+    public void setType(CreditType type) {
+        checkModifiable();
+        this.creditType = type == null ? null : type.name();
+        this.type = type;
     }
 
     public BigDecimal getAmount() {
@@ -102,7 +307,9 @@ public class Credit {
     }
 
     public void setAmount(BigDecimal amount) {
+        checkModifiable();
         this.amount = amount;
+        invalidatePayments();
     }
 
     public BigDecimal getInterestRate() {
@@ -110,7 +317,9 @@ public class Credit {
     }
 
     public void setInterestRate(BigDecimal interestRate) {
+        checkModifiable();
         this.interestRate = interestRate;
+        invalidatePayments();
     }
 
     public int getTermMonths() {
@@ -118,7 +327,9 @@ public class Credit {
     }
 
     public void setTermMonths(int termMonths) {
+        checkModifiable();
         this.termMonths = termMonths;
+        invalidatePayments();
     }
 
     public boolean isEarlyRepaymentAllowed() {
@@ -126,6 +337,7 @@ public class Credit {
     }
 
     public void setEarlyRepaymentAllowed(boolean earlyRepaymentAllowed) {
+        checkModifiable();
         this.earlyRepaymentAllowed = earlyRepaymentAllowed;
     }
 
@@ -134,6 +346,7 @@ public class Credit {
     }
 
     public void setCreditLineIncreaseAllowed(boolean creditLineIncreaseAllowed) {
+        checkModifiable();
         this.creditLineIncreaseAllowed = creditLineIncreaseAllowed;
     }
 
@@ -142,6 +355,7 @@ public class Credit {
     }
 
     public void setStartDate(LocalDate startDate) {
+        checkModifiable();
         this.startDate = startDate;
     }
 
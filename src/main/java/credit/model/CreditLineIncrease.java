@@ -0,0 +1,73 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Збільшення кредитного ліміту для what-if розрахунку:
+// на відсоток від поточної суми або на фіксовану суму
+public final class CreditLineIncrease {
+    private final BigDecimal percent;
+    private final BigDecimal amount;
+    // Те саме у базисних пунктах / копійках, щоб не перераховувати для кожного кредиту
+    private final long percentBasisPoints;
+    private final long amountMinor;
+
+    private CreditLineIncrease(BigDecimal percent, BigDecimal amount) {
+        this.percent = percent;
+        this.amount = amount;
+        this.percentBasisPoints = percent == null ? 0 : FixedPointMoney.toBasisPoints(percent);
+        this.amountMinor = amount == null ? 0 : FixedPointMoney.toMinorUnits(amount);
+    }
+
+    public static CreditLineIncrease byPercent(BigDecimal percent) {
+        if (percent == null || percent.signum() < 0) {
+            throw new IllegalArgumentException("Increase percent must be non-negative");
+        }
+        return new CreditLineIncrease(percent, null);
+    }
+
+    public static CreditLineIncrease byAmount(BigDecimal amount) {
+        if (amount == null || amount.signum() < 0) {
+            throw new IllegalArgumentException("Increase amount must be non-negative");
+        }
+        return new CreditLineIncrease(null, amount);
+    }
+
+    // На скільки копійок збільшується сума amountMinor
+    // Відсоток переводиться в базисні пункти, результат округлюється HALF_UP до копійки
+    public long increaseMinor(long amountMinor) {
+        if (amount != null) {
+            return this.amountMinor;
+        }
+        return FixedPointMoney.divideHalfUp(Math.multiplyExact(amountMinor, percentBasisPoints),
+                FixedPointMoney.RATE_UNITS);
+    }
+
+    public BigDecimal getPercent() {
+        return percent;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreditLineIncrease that = (CreditLineIncrease) o;
+        return Objects.equals(percent, that.percent) &&
+                Objects.equals(amount, that.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(percent, amount);
+    }
+
+    @Override
+    public String toString() {
+        return percent != null ? "CreditLineIncrease{percent=" + percent + '}'
+                : "CreditLineIncrease{amount=" + amount + '}';
+    }
+}
@@ -0,0 +1,75 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Результат what-if розрахунку збільшення ліміту для одного кредиту
+public final class CreditLineIncreaseResult {
+    private final String creditId;
+    private final BigDecimal newAmount;
+    private final BigDecimal currentMonthlyPayment;
+    private final BigDecimal newMonthlyPayment;
+    private final boolean clientEligible;
+
+    public CreditLineIncreaseResult(String creditId, BigDecimal newAmount, BigDecimal currentMonthlyPayment,
+                                    BigDecimal newMonthlyPayment, boolean clientEligible) {
+        this.creditId = creditId;
+        this.newAmount = newAmount;
+        this.currentMonthlyPayment = currentMonthlyPayment;
+        this.newMonthlyPayment = newMonthlyPayment;
+        this.clientEligible = clientEligible;
+    }
+
+    public String getCreditId() {
+        return creditId;
+    }
+
+    public BigDecimal getNewAmount() {
+        return newAmount;
+    }
+
+    public BigDecimal getCurrentMonthlyPayment() {
+        return currentMonthlyPayment;
+    }
+
+    public BigDecimal getNewMonthlyPayment() {
+        return newMonthlyPayment;
+    }
+
+    public BigDecimal getPaymentIncrease() {
+        return newMonthlyPayment.subtract(currentMonthlyPayment);
+    }
+
+    // Чи проходить клієнт перевірку Client.isEligibleForCredit з новим платежем
+    public boolean isClientEligible() {
+        return clientEligible;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreditLineIncreaseResult that = (CreditLineIncreaseResult) o;
+        return clientEligible == that.clientEligible &&
+                Objects.equals(creditId, that.creditId) &&
+                Objects.equals(newAmount, that.newAmount) &&
+                Objects.equals(currentMonthlyPayment, that.currentMonthlyPayment) &&
+                Objects.equals(newMonthlyPayment, that.newMonthlyPayment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(creditId, newAmount, currentMonthlyPayment, newMonthlyPayment, clientEligible);
+    }
+
+    @Override
+    public String toString() {
+        return "CreditLineIncreaseResult{" +
+                "creditId='" + creditId + '\'' +
+                ", newAmount=" + newAmount +
+                ", currentMonthlyPayment=" + currentMonthlyPayment +
+                ", newMonthlyPayment=" + newMonthlyPayment +
+                ", clientEligible=" + clientEligible +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package credit.model;
+
+import java.util.Locale;
+
+// Тип кредиту. У JSON і в Credit.creditType зберігається як рядок з назвою константи
+public enum CreditType {
+    CONSUMER,
+    MORTGAGE,
+    CAR;
+
+    // Без урахування регістру; null для невідомих і порожніх значень
+    public static CreditType fromString(String creditType) {
+        if (creditType == null) {
+            return null;
+        }
+        switch (creditType.toUpperCase(Locale.ROOT)) {
+            case "CONSUMER":
+                return CONSUMER;
+            case "MORTGAGE":
+                return MORTGAGE;
+            case "CAR":
+                return CAR;
+            default:
+                return null;
+        }
+    }
+}
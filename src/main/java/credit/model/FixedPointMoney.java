@@ -0,0 +1,160 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Арифметика з фіксованою точкою на примітивних long для гарячих шляхів
+// Суми зберігаються в копійках (minor units), річні ставки - в базисних пунктах
+// (1% = 100 bp), місячні ставки і ануїтетні коефіцієнти - в одиницях 0.0001.
+// Результати збігаються з BigDecimal-розрахунками Credit (HALF_UP, scale 2/4)
+// для сум, що мають не більше двох знаків після коми.
+public final class FixedPointMoney {
+    public static final long MINOR_UNITS = 100;
+    public static final long RATE_UNITS = 10_000;
+
+    private FixedPointMoney() {
+    }
+
+    // ---- Перетворення на межі API ----
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, 2);
+    }
+
+    // Річна ставка у відсотках -> базисні пункти
+    // Те саме округлення, що й interestRate / 100 до scale 4
+    public static int toBasisPoints(BigDecimal interestRate) {
+        return interestRate.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    public static BigDecimal fromBasisPoints(int basisPoints) {
+        return BigDecimal.valueOf(basisPoints, 2);
+    }
+
+    // ---- Розрахунки без алокацій ----
+
+    // Місячна ставка в одиницях 0.0001 - як (ставка / 100 / 12) з округленням до scale 4
+    public static int monthlyRateUnits(int annualBasisPoints) {
+        return (int) divideHalfUp(annualBasisPoints, 12);
+    }
+
+    // Ануїтетний коефіцієнт в одиницях 0.0001 або -1, якщо формула не застосовується
+    public static long annuityFactorUnits(int monthlyRateUnits, int termMonths) {
+        if (monthlyRateUnits == 0 || termMonths <= 0) {
+            return -1;
+        }
+        double monthlyRate = monthlyRateUnits / (double) RATE_UNITS;
+        double powValue = Math.pow(1 + monthlyRate, termMonths);
+        double scaled = monthlyRate * powValue / (powValue - 1) * RATE_UNITS;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        // Дуже близько до половини double може округлити не так, як BigDecimal -
+        // в цьому рідкісному випадку рахуємо точно
+        if (Math.abs(fraction - 0.5) < 1e-6) {
+            return AnnuityFactorCache.computeFactor(BigDecimal.valueOf(monthlyRateUnits, 4), termMonths)
+                    .unscaledValue().longValueExact();
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    // Те саме, що Credit.calculateMonthlyPayment, але в копійках
+    public static long monthlyPaymentMinor(long amountMinor, int annualBasisPoints, int termMonths) {
+        if (termMonths <= 0) {
+            return 0;
+        }
+        return monthlyPaymentMinorForFactor(amountMinor,
+                annuityFactorUnits(monthlyRateUnits(annualBasisPoints), termMonths), termMonths);
+    }
+
+    // Щомісячний платіж для вже відомого коефіцієнта (-1 - без ануїтету).
+    // Окрема назва, а не перевантаження: long-ставка не повинна потрапити сюди як коефіцієнт
+    public static long monthlyPaymentMinorForFactor(long amountMinor, long factorUnits, int termMonths) {
+        if (termMonths <= 0) {
+            return 0;
+        }
+        if (factorUnits < 0) {
+            return divideHalfUp(amountMinor, termMonths);
+        }
+        return divideHalfUp(Math.multiplyExact(amountMinor, factorUnits), RATE_UNITS);
+    }
+
+    // Те саме, що Credit.calculateTotalPayment з округленням до копійок
+    public static long totalPaymentMinor(long amountMinor, int annualBasisPoints, int termMonths) {
+        if (termMonths <= 0) {
+            return 0;
+        }
+        return totalPaymentMinorForFactor(amountMinor,
+                annuityFactorUnits(monthlyRateUnits(annualBasisPoints), termMonths), termMonths);
+    }
+
+    // Загальна сума для вже відомого коефіцієнта (-1 - без ануїтету)
+    public static long totalPaymentMinorForFactor(long amountMinor, long factorUnits, int termMonths) {
+        if (termMonths <= 0) {
+            return 0;
+        }
+        if (factorUnits < 0) {
+            return amountMinor;
+        }
+        return divideHalfUp(Math.multiplyExact(Math.multiplyExact(amountMinor, factorUnits), termMonths),
+                RATE_UNITS);
+    }
+
+    // ---- Обернена задача: яку суму можна позичити ----
+
+    // Найбільша сума в копійках, щомісячний платіж якої не перевищує paymentCeilingMinor.
+    // Точний обернений розрахунок для monthlyPaymentMinor: при округленні HALF_UP
+    // round(x / d) <= C  <=>  2x < (2C + 1) * d. -1, якщо межа від'ємна;
+    // Long.MAX_VALUE, якщо платіж завжди нульовий
+    public static long maxPrincipalMinor(long paymentCeilingMinor, int annualBasisPoints, int termMonths) {
+        if (termMonths <= 0) {
+            return paymentCeilingMinor < 0 ? -1 : Long.MAX_VALUE;
+        }
+        return maxPrincipalMinor(paymentCeilingMinor,
+                annuityFactorUnits(monthlyRateUnits(annualBasisPoints), termMonths), termMonths);
+    }
+
+    // Для вже відомого коефіцієнта (-1 - без ануїтету, платіж = сума / термін)
+    public static long maxPrincipalMinor(long paymentCeilingMinor, long factorUnits, int termMonths) {
+        if (paymentCeilingMinor < 0) {
+            return -1;
+        }
+        if (termMonths <= 0 || factorUnits == 0) {
+            return Long.MAX_VALUE;
+        }
+        long divisor = factorUnits < 0 ? termMonths : RATE_UNITS;
+        long doubledCeiling = Math.addExact(Math.multiplyExact(paymentCeilingMinor, 2), 1);
+        long maxDividend = (Math.multiplyExact(doubledCeiling, divisor) - 1) / 2;
+        return factorUnits < 0 ? maxDividend : maxDividend / factorUnits;
+    }
+
+    // Найменший термін, за якого сума principalMinor взагалі може вкластися в межу платежу.
+    // Рахується як за нульової ставки: ануїтетний платіж за будь-якої ставки >= 0 не менший
+    // (коефіцієнт * термін >= 1), тож коротші терміни можна відкидати без розрахунку платежу.
+    // Integer.MAX_VALUE, якщо межа від'ємна
+    public static int minTermMonths(long principalMinor, long paymentCeilingMinor) {
+        if (paymentCeilingMinor < 0) {
+            return Integer.MAX_VALUE;
+        }
+        if (principalMinor <= 0) {
+            return 1;
+        }
+        // round(P / n) <= C  <=>  n > 2P / (2C + 1)
+        long doubledCeiling = Math.addExact(Math.multiplyExact(paymentCeilingMinor, 2), 1);
+        long term = Math.multiplyExact(principalMinor, 2) / doubledCeiling + 1;
+        return (int) Math.min(term, Integer.MAX_VALUE);
+    }
+
+    // Ділення з округленням HALF_UP (половина - від нуля), дільник додатний
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += dividend < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
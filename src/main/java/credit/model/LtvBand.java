@@ -0,0 +1,24 @@
+package credit.model;
+
+import java.math.BigDecimal;
+
+// Діапазони Loan-to-Value, з якими працює іпотечний відділ
+public enum LtvBand {
+    UP_TO_60,       // LTV <= 60%
+    FROM_60_TO_80,  // 60% < LTV <= 80%
+    ABOVE_80;       // LTV > 80%
+
+    private static final BigDecimal SIXTY = BigDecimal.valueOf(60);
+    private static final BigDecimal EIGHTY = BigDecimal.valueOf(80);
+
+    // LTV у відсотках, як повертає MortgageCredit.calculateLoanToValue
+    public static LtvBand of(BigDecimal loanToValue) {
+        if (loanToValue.compareTo(SIXTY) <= 0) {
+            return UP_TO_60;
+        }
+        if (loanToValue.compareTo(EIGHTY) <= 0) {
+            return FROM_60_TO_80;
+        }
+        return ABOVE_80;
+    }
+}
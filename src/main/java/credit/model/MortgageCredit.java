@@ -25,6 +25,18 @@ public class MortgageCredit extends Credit {
         this.propertyType = propertyType;
     }
 
+    protected MortgageCredit(MortgageCredit other) {
+        super(other);
+        this.propertyValue = other.propertyValue;
+        this.downPayment = other.downPayment;
+        this.propertyType = other.propertyType;
+    }
+
+    @Override
+    public MortgageCredit copy() {
+        return new MortgageCredit(this);
+    }
+
     // Розраховує Loan-to-Value (LTV) - скільки відсотків від вартості нерухомості становить кредит
     public BigDecimal calculateLoanToValue() {
         if (propertyValue == null || propertyValue.compareTo(BigDecimal.ZERO) == 0) {
@@ -34,11 +46,25 @@ public class MortgageCredit extends Credit {
                 .multiply(BigDecimal.valueOf(100));
     }
 
+    public LtvBand getLtvBand() {
+        return LtvBand.of(calculateLoanToValue());
+    }
+
+    // Частка першого внеску у вартості нерухомості, у відсотках
+    public BigDecimal calculateDownPaymentRatio() {
+        if (downPayment == null || propertyValue == null || propertyValue.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return downPayment.divide(propertyValue, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
     public BigDecimal getPropertyValue() {
         return propertyValue;
     }
 
     public void setPropertyValue(BigDecimal propertyValue) {
+        checkModifiable();
         this.propertyValue = propertyValue;
     }
 
@@ -47,6 +73,7 @@ public class MortgageCredit extends Credit {
     }
 
     public void setDownPayment(BigDecimal downPayment) {
+        checkModifiable();
         this.downPayment = downPayment;
     }
 
@@ -55,6 +82,7 @@ public class MortgageCredit extends Credit {
     }
 
     public void setPropertyType(String propertyType) {
+        checkModifiable();
         this.propertyType = propertyType;
     }
 }
@@ -0,0 +1,74 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Результат одного сценарію дострокового погашення для одного кредиту
+public final class PrepaymentResult {
+    private final String creditId;
+    private final PrepaymentScenario scenario;
+    private final BigDecimal interestSaved;
+    private final int originalTermMonths;
+    private final int newTermMonths;
+
+    public PrepaymentResult(String creditId, PrepaymentScenario scenario, BigDecimal interestSaved,
+                            int originalTermMonths, int newTermMonths) {
+        this.creditId = creditId;
+        this.scenario = scenario;
+        this.interestSaved = interestSaved;
+        this.originalTermMonths = originalTermMonths;
+        this.newTermMonths = newTermMonths;
+    }
+
+    public String getCreditId() {
+        return creditId;
+    }
+
+    public PrepaymentScenario getScenario() {
+        return scenario;
+    }
+
+    public BigDecimal getInterestSaved() {
+        return interestSaved;
+    }
+
+    public int getOriginalTermMonths() {
+        return originalTermMonths;
+    }
+
+    public int getNewTermMonths() {
+        return newTermMonths;
+    }
+
+    public int getMonthsSaved() {
+        return originalTermMonths - newTermMonths;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PrepaymentResult that = (PrepaymentResult) o;
+        return originalTermMonths == that.originalTermMonths &&
+                newTermMonths == that.newTermMonths &&
+                Objects.equals(creditId, that.creditId) &&
+                Objects.equals(scenario, that.scenario) &&
+                Objects.equals(interestSaved, that.interestSaved);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(creditId, scenario, interestSaved, originalTermMonths, newTermMonths);
+    }
+
+    @Override
+    public String toString() {
+        return "PrepaymentResult{" +
+                "creditId='" + creditId + '\'' +
+                ", scenario=" + scenario +
+                ", interestSaved=" + interestSaved +
+                ", originalTermMonths=" + originalTermMonths +
+                ", newTermMonths=" + newTermMonths +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+// Сценарій дострокового погашення
+// У місяці startMonth разом з черговим платежем вноситься lumpSum,
+// а починаючи з цього місяця кожен платіж збільшується на extraMonthly.
+// "Переплачувати X щомісяця" - це startMonth = 1, lumpSum = 0;
+// "внести суму в місяці N" - extraMonthly = 0
+public final class PrepaymentScenario {
+    private final int startMonth;
+    private final BigDecimal lumpSum;
+    private final BigDecimal extraMonthly;
+
+    public PrepaymentScenario(int startMonth, BigDecimal lumpSum, BigDecimal extraMonthly) {
+        if (startMonth < 1) {
+            throw new IllegalArgumentException("Start month must be at least 1");
+        }
+        if (lumpSum == null || lumpSum.signum() < 0 || extraMonthly == null || extraMonthly.signum() < 0) {
+            throw new IllegalArgumentException("Prepayment amounts must be non-negative");
+        }
+        this.startMonth = startMonth;
+        this.lumpSum = lumpSum;
+        this.extraMonthly = extraMonthly;
+    }
+
+    public static PrepaymentScenario extraMonthly(BigDecimal extraMonthly) {
+        return new PrepaymentScenario(1, BigDecimal.ZERO, extraMonthly);
+    }
+
+    public static PrepaymentScenario lumpSum(int month, BigDecimal lumpSum) {
+        return new PrepaymentScenario(month, lumpSum, BigDecimal.ZERO);
+    }
+
+    public int getStartMonth() {
+        return startMonth;
+    }
+
+    public BigDecimal getLumpSum() {
+        return lumpSum;
+    }
+
+    public BigDecimal getExtraMonthly() {
+        return extraMonthly;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PrepaymentScenario that = (PrepaymentScenario) o;
+        return startMonth == that.startMonth &&
+                Objects.equals(lumpSum, that.lumpSum) &&
+                Objects.equals(extraMonthly, that.extraMonthly);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startMonth, lumpSum, extraMonthly);
+    }
+
+    @Override
+    public String toString() {
+        return "PrepaymentScenario{" +
+                "startMonth=" + startMonth +
+                ", lumpSum=" + lumpSum +
+                ", extraMonthly=" + extraMonthly +
+                '}';
+    }
+}
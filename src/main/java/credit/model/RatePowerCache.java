@@ -0,0 +1,142 @@
+package credit.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Точний ануїтетний коефіцієнт без переходу на double
+// (1 + r)^n рахується піднесенням до степеня через квадрати в BigDecimal з PRECISION.
+// Для кожної річної ставки один раз зберігаються степені (1 + r)^(2^k), тому
+// новий термін для відомої ставки - це не більше MAX_BITS множень.
+// Готові коефіцієнти кешуються за парою (ставка, термін), як в AnnuityFactorCache
+public final class RatePowerCache {
+    public static final MathContext PRECISION = MathContext.DECIMAL128;
+
+    // Максимальна кількість ставок і пар у кеші - при переповненні кеш очищується
+    static final int MAX_ENTRIES = 10_000;
+    // Степені (1 + r)^(2^k) для k < MAX_BITS покривають терміни до 4095 місяців
+    static final int MAX_BITS = 12;
+
+    private static final BigDecimal MONTHS_IN_PERCENT = BigDecimal.valueOf(1200);
+
+    private static final ConcurrentHashMap<AnnuityFactorCache.Key, BigDecimal> FACTORS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<BigDecimal, BigDecimal[]> POWERS = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private RatePowerCache() {
+    }
+
+    // Місячний ануїтетний коефіцієнт з точністю PRECISION або null,
+    // якщо ставка нульова і платіж - це просто сума кредиту поділена на термін
+    public static BigDecimal getFactor(BigDecimal interestRate, int termMonths) {
+        if (termMonths <= 0 || interestRate.signum() == 0) {
+            return null;
+        }
+        BigDecimal rateKey = interestRate.stripTrailingZeros();
+        AnnuityFactorCache.Key key = new AnnuityFactorCache.Key(rateKey, termMonths);
+        BigDecimal factor = FACTORS.get(key);
+        if (factor != null) {
+            HITS.increment();
+            return factor;
+        }
+        MISSES.increment();
+        BigDecimal monthlyRate = monthlyRate(interestRate);
+        BigDecimal power = termMonths < (1 << MAX_BITS)
+                ? powFromSquares(squares(rateKey), termMonths)
+                : pow(BigDecimal.ONE.add(monthlyRate), termMonths);
+        factor = factor(monthlyRate, power);
+        if (FACTORS.size() >= MAX_ENTRIES) {
+            FACTORS.clear();
+        }
+        FACTORS.putIfAbsent(key, factor);
+        return factor;
+    }
+
+    // Той самий коефіцієнт без кешу - для разових ставок і для порівняння в бенчмарках
+    public static BigDecimal computeFactor(BigDecimal interestRate, int termMonths) {
+        if (termMonths <= 0 || interestRate.signum() == 0) {
+            return null;
+        }
+        BigDecimal monthlyRate = monthlyRate(interestRate);
+        return factor(monthlyRate, pow(BigDecimal.ONE.add(monthlyRate), termMonths));
+    }
+
+    // Місячна ставка з річної у відсотках без округлення до scale 4
+    public static BigDecimal monthlyRate(BigDecimal interestRate) {
+        return interestRate.divide(MONTHS_IN_PERCENT, PRECISION);
+    }
+
+    // base^exponent піднесенням через квадрати: O(log n) множень замість n
+    static BigDecimal pow(BigDecimal base, int exponent) {
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = base;
+        for (int n = exponent; n > 0; n >>>= 1) {
+            if ((n & 1) != 0) {
+                result = result.multiply(square, PRECISION);
+            }
+            if (n > 1) {
+                square = square.multiply(square, PRECISION);
+            }
+        }
+        return result;
+    }
+
+    private static BigDecimal powFromSquares(BigDecimal[] squares, int exponent) {
+        BigDecimal result = BigDecimal.ONE;
+        for (int bit = 0, n = exponent; n > 0; bit++, n >>>= 1) {
+            if ((n & 1) != 0) {
+                result = result.multiply(squares[bit], PRECISION);
+            }
+        }
+        return result;
+    }
+
+    private static BigDecimal factor(BigDecimal monthlyRate, BigDecimal power) {
+        return monthlyRate.multiply(power, PRECISION)
+                .divide(power.subtract(BigDecimal.ONE, PRECISION), PRECISION);
+    }
+
+    private static BigDecimal[] squares(BigDecimal rateKey) {
+        BigDecimal[] squares = POWERS.get(rateKey);
+        if (squares != null) {
+            return squares;
+        }
+        squares = new BigDecimal[MAX_BITS];
+        squares[0] = BigDecimal.ONE.add(monthlyRate(rateKey));
+        for (int bit = 1; bit < MAX_BITS; bit++) {
+            squares[bit] = squares[bit - 1].multiply(squares[bit - 1], PRECISION);
+        }
+        if (POWERS.size() >= MAX_ENTRIES) {
+            POWERS.clear();
+        }
+        POWERS.putIfAbsent(rateKey, squares);
+        return squares;
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    public static int size() {
+        return FACTORS.size();
+    }
+
+    // Кількість ставок, для яких збережені степені
+    public static int rateCount() {
+        return POWERS.size();
+    }
+
+    // Скидає кеш і лічильники (для тестів)
+    public static void clear() {
+        FACTORS.clear();
+        POWERS.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+}
@@ -3,23 +3,54 @@ package credit.repository;
 import credit.model.Bank;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class BankRepository {
     private List<Bank> banks;
+    // Назва банку (без урахування регістру) -> екземпляр з репозиторію, для canonicalize
+    // Назву банку не слід змінювати після додавання - інакше його не знайде хеш
+    private Map<String, Bank> canonicalBanks;
 
     public BankRepository() {
         this.banks = new ArrayList<>();
+        this.canonicalBanks = new HashMap<>();
     }
 
     public void addBank(Bank bank) {
         if (bank != null && bank.getName() != null) {
             banks.add(bank);
+            canonicalBanks.putIfAbsent(nameKey(bank.getName()), bank);
         }
     }
 
+    // Flyweight: повертає вже доданий банк з тією самою назвою (без урахування регістру,
+    // як findByName), а якщо такого немає - додає цей і повертає його ж.
+    // Так всі кредити одного банку посилаються на один екземпляр, навіть якщо в кредиті
+    // збережено застарілий рейтинг чи ліцензію - діють дані з репозиторію
+    public Bank canonicalize(Bank bank) {
+        if (bank == null || bank.getName() == null) {
+            return bank;
+        }
+        Bank canonical = findCanonical(bank);
+        if (canonical == null) {
+            addBank(bank);
+            canonical = bank;
+        }
+        return canonical;
+    }
+
+    // Вже доданий банк з тією самою назвою або null
+    Bank findCanonical(Bank bank) {
+        return canonicalBanks.get(nameKey(bank.getName()));
+    }
+
     public Optional<Bank> findByName(String name) {
         return banks.stream()
                 .filter(bank -> bank.getName().equalsIgnoreCase(name))
@@ -36,6 +67,17 @@ public class BankRepository {
         return new ArrayList<>(banks);
     }
 
+    // Список банків без копіювання - тільки для читання. Бачить подальші зміни репозиторію;
+    // зміна під час обходу дає ConcurrentModificationException. У SnapshotBankRepository
+    // список належить одній незмінній версії
+    public List<Bank> view() {
+        return Collections.unmodifiableList(banks);
+    }
+
+    public void forEach(Consumer<? super Bank> action) {
+        banks.forEach(action);
+    }
+
     public List<Bank> findByMinRating(double minRating) {
         return banks.stream()
                 .filter(bank -> bank.getRating() >= minRating)
@@ -44,14 +86,19 @@ public class BankRepository {
 
     public void removeBank(String name) {
         banks.removeIf(bank -> bank.getName().equalsIgnoreCase(name));
+        canonicalBanks.remove(nameKey(name));
     }
 
     public void clear() {
         banks.clear();
+        canonicalBanks.clear();
     }
 
     public int size() {
         return banks.size();
     }
-}
 
+    private static String nameKey(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,174 @@
+package credit.repository;
+
+import credit.model.CarCredit;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Індекс автокредитів: марка/модель (без урахування регістру), рік випуску
+// і відсортоване співвідношення кредиту до вартості авто (calculateDepreciationRate)
+// Всі значення беруться один раз при додаванні. Якщо після додавання змінити поля
+// авто або суму, кредит треба видалити і додати знову
+public class CarCreditIndex implements CreditIndex {
+    private final Map<String, Map<String, List<CarCredit>>> byBrandAndModel;
+    private final NavigableMap<Integer, List<CarCredit>> byYear;
+    private final NavigableMap<BigDecimal, List<CarCredit>> byFinancedToValue;
+    private final Map<CarCredit, Position> positions;
+
+    public CarCreditIndex() {
+        this.byBrandAndModel = new HashMap<>();
+        this.byYear = new TreeMap<>();
+        this.byFinancedToValue = new TreeMap<>();
+        this.positions = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (!(credit instanceof CarCredit) || positions.containsKey(credit)) {
+            return;
+        }
+        CarCredit car = (CarCredit) credit;
+        Position position = new Position(key(car.getCarBrand()), key(car.getCarModel()), car.getCarYear(),
+                car.getAmount() == null ? BigDecimal.ZERO : car.calculateDepreciationRate(), car.isNewCar());
+        byBrandAndModel.computeIfAbsent(position.brand, brand -> new HashMap<>())
+                .computeIfAbsent(position.model, model -> new ArrayList<>())
+                .add(car);
+        byYear.computeIfAbsent(position.year, year -> new ArrayList<>()).add(car);
+        byFinancedToValue.computeIfAbsent(position.financedToValue, ratio -> new ArrayList<>()).add(car);
+        positions.put(car, position);
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Position position = positions.remove(credit);
+        if (position == null) {
+            return;
+        }
+        Map<String, List<CarCredit>> models = byBrandAndModel.get(position.brand);
+        removeFrom(models, position.model, credit);
+        if (models.isEmpty()) {
+            byBrandAndModel.remove(position.brand);
+        }
+        removeFrom(byYear, position.year, credit);
+        removeFrom(byFinancedToValue, position.financedToValue, credit);
+    }
+
+    @Override
+    public void clear() {
+        byBrandAndModel.clear();
+        byYear.clear();
+        byFinancedToValue.clear();
+        positions.clear();
+    }
+
+    // Комбінований запит; кожен параметр null означає "без обмеження"
+    // Кандидати беруться з найвужчого доступного індексу (марка/модель, потім роки),
+    // решта умов перевіряється по збережених при додаванні значеннях
+    public List<CarCredit> find(String brand, String model, Integer minYear, Integer maxYear,
+                                Boolean newCar, BigDecimal maxFinancedToValue) {
+        Collection<List<CarCredit>> candidates;
+        if (brand != null) {
+            Map<String, List<CarCredit>> models = byBrandAndModel.getOrDefault(key(brand), Map.of());
+            if (model != null) {
+                List<CarCredit> cars = models.get(key(model));
+                candidates = cars == null ? List.of() : List.of(cars);
+            } else {
+                candidates = models.values();
+            }
+        } else if (minYear != null || maxYear != null) {
+            candidates = yearRange(minYear, maxYear).values();
+        } else {
+            candidates = maxFinancedToValue == null ? byFinancedToValue.values()
+                    : byFinancedToValue.headMap(maxFinancedToValue, true).values();
+        }
+
+        String modelKey = model == null ? null : key(model);
+        List<CarCredit> result = new ArrayList<>();
+        for (List<CarCredit> cars : candidates) {
+            for (CarCredit car : cars) {
+                Position position = positions.get(car);
+                if ((modelKey == null || modelKey.equals(position.model))
+                        && (minYear == null || position.year >= minYear)
+                        && (maxYear == null || position.year <= maxYear)
+                        && (newCar == null || position.newCar == newCar)
+                        && (maxFinancedToValue == null
+                        || position.financedToValue.compareTo(maxFinancedToValue) <= 0)) {
+                    result.add(car);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Автокредити зі співвідношенням кредит/вартість у діапазоні (у відсотках), за зростанням
+    // null - без обмеження; min > max - порожній результат
+    public List<CarCredit> findByFinancedToValue(BigDecimal min, BigDecimal max) {
+        List<CarCredit> result = new ArrayList<>();
+        for (List<CarCredit> cars : range(byFinancedToValue, min, max).values()) {
+            result.addAll(cars);
+        }
+        return result;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private NavigableMap<Integer, List<CarCredit>> yearRange(Integer minYear, Integer maxYear) {
+        return range(byYear, minYear, maxYear);
+    }
+
+    // Піддерево [min, max] з межами включно; null - без обмеження
+    private static <K extends Comparable<K>> NavigableMap<K, List<CarCredit>> range(
+            NavigableMap<K, List<CarCredit>> map, K min, K max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            return Collections.emptyNavigableMap();
+        }
+        NavigableMap<K, List<CarCredit>> range = map;
+        if (min != null) {
+            range = range.tailMap(min, true);
+        }
+        if (max != null) {
+            range = range.headMap(max, true);
+        }
+        return range;
+    }
+
+    private static <K> void removeFrom(Map<K, List<CarCredit>> map, K key, Credit credit) {
+        List<CarCredit> cars = map.get(key);
+        cars.removeIf(car -> car == credit);
+        if (cars.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Position {
+        private final String brand;
+        private final String model;
+        private final int year;
+        private final BigDecimal financedToValue;
+        private final boolean newCar;
+
+        Position(String brand, String model, int year, BigDecimal financedToValue, boolean newCar) {
+            this.brand = brand;
+            this.model = model;
+            this.year = year;
+            this.financedToValue = financedToValue;
+            this.newCar = newCar;
+        }
+    }
+}
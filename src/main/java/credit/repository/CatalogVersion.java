@@ -0,0 +1,56 @@
+package credit.repository;
+
+import credit.model.Credit;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// Одна опублікована версія каталогу SnapshotCreditRepository: знімки кредитів (Credit.snapshot())
+// і індекси, побудовані один раз у конструкторі. Після цього нічого не змінюється,
+// тому будь-яка кількість потоків читає версію без блокувань.
+// Зміни каталогу створюють нову версію, а не змінюють цю
+public final class CatalogVersion extends CreditRepository {
+    private final long version;
+    private final List<Credit> credits;
+    private final boolean sealed;
+
+    CatalogVersion(long version, List<Credit> snapshots) {
+        this.version = version;
+        for (Credit credit : snapshots) {
+            super.addCredit(credit);
+        }
+        this.credits = Collections.unmodifiableList(super.findAll());
+        this.sealed = true;
+    }
+
+    // Номер версії, зростає з кожною публікацією
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    // Кредити версії без копіювання: список спільний для всіх читачів і не змінюється
+    @Override
+    public Collection<Credit> view() {
+        return credits;
+    }
+
+    @Override
+    public void addCredit(Credit credit) {
+        if (sealed) {
+            throw new UnsupportedOperationException("Catalog version " + version + " is read-only");
+        }
+        super.addCredit(credit);
+    }
+
+    @Override
+    public void removeCredit(String id) {
+        throw new UnsupportedOperationException("Catalog version " + version + " is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Catalog version " + version + " is read-only");
+    }
+}
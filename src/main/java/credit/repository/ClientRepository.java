@@ -0,0 +1,228 @@
+package credit.repository;
+
+import credit.model.Client;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// Сховище клієнтів з індексами для кампаній на мільйонах записів:
+//  - id і email (без урахування регістру) - хеш-таблиці;
+//  - кредитний рейтинг - діапазони по 50 балів (300-349, 350-399, ..., 800-850),
+//    всередині діапазону клієнти відсортовані за доходом;
+//  - дохід - окреме відсортоване дерево для запитів тільки за доходом.
+// Запит "рейтинг >= 700 і дохід >= 40 000" бере хвости дерев доходу у потрібних діапазонах
+// і не торкається клієнтів, що не підходять (крім неповного першого діапазону).
+// Повторний addClient з тим самим id замінює клієнта - так само оновлюються індекси
+// після зміни доходу чи рейтингу. Індекси будуються за значеннями на момент додавання.
+// Email (без урахування регістру) унікальний: клієнт з email іншого клієнта не додається
+public class ClientRepository {
+    public static final int MIN_SCORE = 300;
+    public static final int MAX_SCORE = 850;
+    public static final int SCORE_BAND_WIDTH = 50;
+    private static final int BAND_COUNT = (MAX_SCORE - MIN_SCORE) / SCORE_BAND_WIDTH;
+    // Клієнти без доходу - на початку кожного дерева, хвіст від будь-якого доходу їх не містить
+    private static final Comparator<BigDecimal> INCOME_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final Map<String, Entry> byId;
+    private final Map<String, String> idsByEmail;
+    private final List<NavigableMap<BigDecimal, Map<String, Client>>> scoreBands;
+    private final NavigableMap<BigDecimal, Map<String, Client>> byIncome;
+
+    public ClientRepository() {
+        this.byId = new LinkedHashMap<>();
+        this.idsByEmail = new HashMap<>();
+        this.scoreBands = new ArrayList<>(BAND_COUNT);
+        for (int i = 0; i < BAND_COUNT; i++) {
+            scoreBands.add(new TreeMap<>(INCOME_ORDER));
+        }
+        this.byIncome = new TreeMap<>(INCOME_ORDER);
+    }
+
+    // IllegalArgumentException, якщо email уже належить клієнту з іншим id
+    public void addClient(Client client) {
+        if (client == null || client.getId() == null) {
+            return;
+        }
+        Entry entry = new Entry(client);
+        String owner = entry.emailKey == null ? null : idsByEmail.get(entry.emailKey);
+        if (owner != null && !owner.equals(client.getId())) {
+            throw new IllegalArgumentException("Email " + client.getEmail() + " is already used by client " + owner);
+        }
+        removeClient(client.getId());
+        byId.put(client.getId(), entry);
+        if (entry.emailKey != null) {
+            idsByEmail.put(entry.emailKey, client.getId());
+        }
+        put(scoreBands.get(entry.band), entry.income, client);
+        put(byIncome, entry.income, client);
+    }
+
+    public Optional<Client> findById(String id) {
+        Entry entry = id == null ? null : byId.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.client);
+    }
+
+    public Optional<Client> findByEmail(String email) {
+        String id = email == null ? null : idsByEmail.get(emailKey(email));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    public List<Client> findAll() {
+        List<Client> clients = new ArrayList<>(byId.size());
+        for (Entry entry : byId.values()) {
+            clients.add(entry.client);
+        }
+        return clients;
+    }
+
+    // Рейтинг у межах [minScore, maxScore]; відсортовано за діапазоном рейтингу, далі за доходом
+    public List<Client> findByScoreRange(int minScore, int maxScore) {
+        List<Client> result = new ArrayList<>();
+        if (minScore > maxScore) {
+            return result;
+        }
+        for (int band = band(minScore); band <= band(maxScore); band++) {
+            for (Map<String, Client> clients : scoreBands.get(band).values()) {
+                for (Client client : clients.values()) {
+                    if (client.getCreditScore() >= minScore && client.getCreditScore() <= maxScore) {
+                        result.add(client);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Дохід у межах [minIncome, maxIncome] (null - без обмеження), за зростанням доходу
+    public List<Client> findByIncomeRange(BigDecimal minIncome, BigDecimal maxIncome) {
+        if (minIncome != null && maxIncome != null && minIncome.compareTo(maxIncome) > 0) {
+            return new ArrayList<>();
+        }
+        // Клієнти без доходу (ключ null) не потрапляють у жоден діапазон
+        NavigableMap<BigDecimal, Map<String, Client>> range = minIncome == null
+                ? byIncome.tailMap(null, false) : byIncome.tailMap(minIncome, true);
+        if (maxIncome != null) {
+            range = range.headMap(maxIncome, true);
+        }
+        return flatten(range.values(), Integer.MIN_VALUE);
+    }
+
+    // Рейтинг >= minScore і дохід >= minIncome. З кожного діапазону рейтингу береться тільки
+    // хвіст дерева доходу; рейтинг перевіряється лише в першому, неповному діапазоні
+    public List<Client> findByMinScoreAndIncome(int minScore, BigDecimal minIncome) {
+        if (minIncome == null) {
+            return findByScoreRange(minScore, Integer.MAX_VALUE);
+        }
+        List<Client> result = new ArrayList<>();
+        int first = band(minScore);
+        for (int band = first; band < BAND_COUNT; band++) {
+            Collection<Map<String, Client>> clients = scoreBands.get(band).tailMap(minIncome, true).values();
+            result.addAll(flatten(clients, band == first ? minScore : Integer.MIN_VALUE));
+        }
+        return result;
+    }
+
+    // Кількість клієнтів у кожному діапазоні рейтингу, від найнижчого
+    public int[] countByScoreBand() {
+        int[] counts = new int[BAND_COUNT];
+        for (int band = 0; band < BAND_COUNT; band++) {
+            for (Map<String, Client> clients : scoreBands.get(band).values()) {
+                counts[band] += clients.size();
+            }
+        }
+        return counts;
+    }
+
+    // Нижня межа діапазону рейтингу, до якого належить score (рейтинги поза 300-850 -
+    // у крайніх діапазонах; 850 належить до 800-850)
+    public static int scoreBandStart(int score) {
+        return MIN_SCORE + band(score) * SCORE_BAND_WIDTH;
+    }
+
+    public void removeClient(String id) {
+        Entry entry = id == null ? null : byId.remove(id);
+        if (entry == null) {
+            return;
+        }
+        if (entry.emailKey != null && id.equals(idsByEmail.get(entry.emailKey))) {
+            idsByEmail.remove(entry.emailKey);
+        }
+        remove(scoreBands.get(entry.band), entry.income, id);
+        remove(byIncome, entry.income, id);
+    }
+
+    public void clear() {
+        byId.clear();
+        idsByEmail.clear();
+        for (NavigableMap<BigDecimal, Map<String, Client>> band : scoreBands) {
+            band.clear();
+        }
+        byIncome.clear();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private static int band(int score) {
+        if (score < MIN_SCORE) {
+            return 0;
+        }
+        return Math.min(BAND_COUNT - 1, (score - MIN_SCORE) / SCORE_BAND_WIDTH);
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void put(NavigableMap<BigDecimal, Map<String, Client>> tree, BigDecimal income, Client client) {
+        tree.computeIfAbsent(income, key -> new LinkedHashMap<>()).put(client.getId(), client);
+    }
+
+    private static void remove(NavigableMap<BigDecimal, Map<String, Client>> tree, BigDecimal income, String id) {
+        Map<String, Client> clients = tree.get(income);
+        if (clients != null) {
+            clients.remove(id);
+            if (clients.isEmpty()) {
+                tree.remove(income);
+            }
+        }
+    }
+
+    private static List<Client> flatten(Collection<Map<String, Client>> groups, int minScore) {
+        List<Client> result = new ArrayList<>();
+        for (Map<String, Client> clients : groups) {
+            for (Client client : clients.values()) {
+                if (client.getCreditScore() >= minScore) {
+                    result.add(client);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Ключі, під якими клієнт лежить в індексах - щоб видалити його, навіть якщо поля вже змінились
+    private static final class Entry {
+        private final Client client;
+        private final String emailKey;
+        private final int band;
+        private final BigDecimal income;
+
+        Entry(Client client) {
+            this.client = client;
+            this.emailKey = client.getEmail() == null ? null : emailKey(client.getEmail());
+            this.band = band(client.getCreditScore());
+            this.income = client.getMonthlyIncome();
+        }
+    }
+}
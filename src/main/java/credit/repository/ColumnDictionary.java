@@ -0,0 +1,57 @@
+package credit.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Словникове кодування для колонок: кожне різне значення зберігається один раз,
+// у рядках лишається тільки int-код. null кодується як -1.
+// Коди не звільняються при видаленні рядків - словник тільки росте
+final class ColumnDictionary<T> {
+    static final int NULL_CODE = -1;
+
+    private final List<T> values;
+    private final Map<T, Integer> codes;
+
+    ColumnDictionary() {
+        this.values = new ArrayList<>();
+        this.codes = new HashMap<>();
+    }
+
+    int encode(T value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    T decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    // Маска кодів, значення яких задовольняють умову - перевірка рядка стає одним читанням масиву
+    boolean[] matching(Predicate<T> predicate) {
+        boolean[] mask = new boolean[values.size()];
+        for (int code = 0; code < mask.length; code++) {
+            mask[code] = predicate.test(values.get(code));
+        }
+        return mask;
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        values.clear();
+        codes.clear();
+    }
+}
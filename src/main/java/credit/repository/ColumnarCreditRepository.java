@@ -0,0 +1,249 @@
+package credit.repository;
+
+import java.util.Arrays;
+
+// Альтернативний бекенд CreditCatalog: каталог зберігається по колонках у примітивних масивах
+// Кодування полів і запити - в EncodedCreditRepository; тут тільки масиви, по одному на поле.
+// Фільтр по одній умові читає один щільний масив, а не поля розкиданих по купі об'єктів
+public class ColumnarCreditRepository extends EncodedCreditRepository {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private String[] ids;
+    private byte[] kinds;
+    private int[] typeCodes;
+    private int[] bankCodes;
+    private long[] amountMinor;
+    private byte[] amountScale;
+    private int[] rateUnscaled;
+    private byte[] rateScale;
+    private int[] termMonths;
+    private byte[] flags;
+    private int[] startDays;
+    private long[] monthlyPaymentMinor;
+    // Поля підкласів: propertyValue / maxAmount / carValue, downPayment,
+    // propertyType / purpose / carBrand, carModel, carYear
+    private long[] valueMinor;
+    private byte[] valueScale;
+    private long[] secondValueMinor;
+    private byte[] secondValueScale;
+    private int[] labelCodes;
+    private int[] secondLabelCodes;
+    private int[] years;
+    // Слоти таблиці id (EncodedCreditRepository)
+    private int[] idTable;
+
+    public ColumnarCreditRepository() {
+        allocate(INITIAL_CAPACITY);
+        this.idTable = new int[0];
+    }
+
+    @Override
+    int rowCount() {
+        return size;
+    }
+
+    @Override
+    void appendRow(EncodedCredit row) {
+        if (size == ids.length) {
+            allocate(ids.length + (ids.length >> 1));
+        }
+        int index = size++;
+        ids[index] = row.id;
+        kinds[index] = row.kind;
+        typeCodes[index] = row.typeCode;
+        bankCodes[index] = row.bankCode;
+        amountMinor[index] = row.amountMinor;
+        amountScale[index] = row.amountScale;
+        rateUnscaled[index] = row.rateUnscaled;
+        rateScale[index] = row.rateScale;
+        termMonths[index] = row.termMonths;
+        flags[index] = row.flags;
+        startDays[index] = row.startDay;
+        monthlyPaymentMinor[index] = row.monthlyPaymentMinor;
+        valueMinor[index] = row.valueMinor;
+        valueScale[index] = row.valueScale;
+        secondValueMinor[index] = row.secondValueMinor;
+        secondValueScale[index] = row.secondValueScale;
+        labelCodes[index] = row.labelCode;
+        secondLabelCodes[index] = row.secondLabelCode;
+        years[index] = row.year;
+    }
+
+    @Override
+    void moveRow(int from, int to) {
+        ids[to] = ids[from];
+        kinds[to] = kinds[from];
+        typeCodes[to] = typeCodes[from];
+        bankCodes[to] = bankCodes[from];
+        amountMinor[to] = amountMinor[from];
+        amountScale[to] = amountScale[from];
+        rateUnscaled[to] = rateUnscaled[from];
+        rateScale[to] = rateScale[from];
+        termMonths[to] = termMonths[from];
+        flags[to] = flags[from];
+        startDays[to] = startDays[from];
+        monthlyPaymentMinor[to] = monthlyPaymentMinor[from];
+        valueMinor[to] = valueMinor[from];
+        valueScale[to] = valueScale[from];
+        secondValueMinor[to] = secondValueMinor[from];
+        secondValueScale[to] = secondValueScale[from];
+        labelCodes[to] = labelCodes[from];
+        secondLabelCodes[to] = secondLabelCodes[from];
+        years[to] = years[from];
+    }
+
+    @Override
+    void truncate(int rowCount) {
+        Arrays.fill(ids, rowCount, size, null);
+        size = rowCount;
+    }
+
+    @Override
+    String id(int row) {
+        return ids[row];
+    }
+
+    @Override
+    byte kind(int row) {
+        return kinds[row];
+    }
+
+    @Override
+    int typeCode(int row) {
+        return typeCodes[row];
+    }
+
+    @Override
+    int bankCode(int row) {
+        return bankCodes[row];
+    }
+
+    @Override
+    long amountMinor(int row) {
+        return amountMinor[row];
+    }
+
+    @Override
+    byte amountScale(int row) {
+        return amountScale[row];
+    }
+
+    @Override
+    int rateUnscaled(int row) {
+        return rateUnscaled[row];
+    }
+
+    @Override
+    byte rateScale(int row) {
+        return rateScale[row];
+    }
+
+    @Override
+    int termMonths(int row) {
+        return termMonths[row];
+    }
+
+    @Override
+    byte flags(int row) {
+        return flags[row];
+    }
+
+    @Override
+    int startDay(int row) {
+        return startDays[row];
+    }
+
+    @Override
+    long monthlyPaymentMinor(int row) {
+        return monthlyPaymentMinor[row];
+    }
+
+    @Override
+    long valueMinor(int row) {
+        return valueMinor[row];
+    }
+
+    @Override
+    byte valueScale(int row) {
+        return valueScale[row];
+    }
+
+    @Override
+    long secondValueMinor(int row) {
+        return secondValueMinor[row];
+    }
+
+    @Override
+    byte secondValueScale(int row) {
+        return secondValueScale[row];
+    }
+
+    @Override
+    int labelCode(int row) {
+        return labelCodes[row];
+    }
+
+    @Override
+    int secondLabelCode(int row) {
+        return secondLabelCodes[row];
+    }
+
+    @Override
+    int year(int row) {
+        return years[row];
+    }
+
+    @Override
+    int idHash(int row) {
+        return ids[row].hashCode();
+    }
+
+    @Override
+    boolean idEquals(int row, String id) {
+        return ids[row].equals(id);
+    }
+
+    @Override
+    int idTableSize() {
+        return idTable.length;
+    }
+
+    @Override
+    void resetIdTable(int size) {
+        idTable = new int[size];
+    }
+
+    @Override
+    int idSlot(int slot) {
+        return idTable[slot];
+    }
+
+    @Override
+    void setIdSlot(int slot, int entry) {
+        idTable[slot] = entry;
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new String[capacity] : Arrays.copyOf(ids, capacity);
+        kinds = kinds == null ? new byte[capacity] : Arrays.copyOf(kinds, capacity);
+        typeCodes = typeCodes == null ? new int[capacity] : Arrays.copyOf(typeCodes, capacity);
+        bankCodes = bankCodes == null ? new int[capacity] : Arrays.copyOf(bankCodes, capacity);
+        amountMinor = amountMinor == null ? new long[capacity] : Arrays.copyOf(amountMinor, capacity);
+        amountScale = amountScale == null ? new byte[capacity] : Arrays.copyOf(amountScale, capacity);
+        rateUnscaled = rateUnscaled == null ? new int[capacity] : Arrays.copyOf(rateUnscaled, capacity);
+        rateScale = rateScale == null ? new byte[capacity] : Arrays.copyOf(rateScale, capacity);
+        termMonths = termMonths == null ? new int[capacity] : Arrays.copyOf(termMonths, capacity);
+        flags = flags == null ? new byte[capacity] : Arrays.copyOf(flags, capacity);
+        startDays = startDays == null ? new int[capacity] : Arrays.copyOf(startDays, capacity);
+        monthlyPaymentMinor = monthlyPaymentMinor == null ? new long[capacity]
+                : Arrays.copyOf(monthlyPaymentMinor, capacity);
+        valueMinor = valueMinor == null ? new long[capacity] : Arrays.copyOf(valueMinor, capacity);
+        valueScale = valueScale == null ? new byte[capacity] : Arrays.copyOf(valueScale, capacity);
+        secondValueMinor = secondValueMinor == null ? new long[capacity] : Arrays.copyOf(secondValueMinor, capacity);
+        secondValueScale = secondValueScale == null ? new byte[capacity] : Arrays.copyOf(secondValueScale, capacity);
+        labelCodes = labelCodes == null ? new int[capacity] : Arrays.copyOf(labelCodes, capacity);
+        secondLabelCodes = secondLabelCodes == null ? new int[capacity] : Arrays.copyOf(secondLabelCodes, capacity);
+        years = years == null ? new int[capacity] : Arrays.copyOf(years, capacity);
+    }
+}
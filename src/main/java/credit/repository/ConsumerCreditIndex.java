@@ -0,0 +1,140 @@
+package credit.repository;
+
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Індекс споживчих кредитів: мета -> чи потрібна застава -> кредити, відсортовані за maxAmount
+// Запит "без застави на EDUCATION з лімітом від 80000" - це два get і tailMap.
+// Кредити, сума яких перевищує ліміт (isAmountWithinLimit == false), зберігаються окремо.
+// Значення беруться при додаванні - після зміни полів кредит треба видалити і додати знову
+public class ConsumerCreditIndex implements CreditIndex {
+    // Ключ для кредитів без ліміту - менший за будь-який реальний ліміт
+    private static final BigDecimal NO_LIMIT = BigDecimal.valueOf(-1);
+
+    private final Map<String, Map<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>>> byPurpose;
+    private final Map<ConsumerCredit, Position> positions;
+    // id (взятий при додаванні) -> кредит, у порядку додавання, тобто в порядку каталогу
+    private final Map<String, ConsumerCredit> overLimit;
+
+    public ConsumerCreditIndex() {
+        this.byPurpose = new HashMap<>();
+        this.positions = new IdentityHashMap<>();
+        this.overLimit = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (!(credit instanceof ConsumerCredit) || positions.containsKey(credit)) {
+            return;
+        }
+        ConsumerCredit consumer = (ConsumerCredit) credit;
+        // Кредити без ліміту йдуть першими - жоден запит з мінімальним лімітом їх не поверне
+        BigDecimal limit = consumer.getMaxAmount() == null ? NO_LIMIT : consumer.getMaxAmount();
+        Position position = new Position(consumer.getId(), key(consumer.getPurpose()),
+                consumer.isRequiresCollateral(), limit);
+        byPurpose.computeIfAbsent(position.purpose, purpose -> new HashMap<>())
+                .computeIfAbsent(position.requiresCollateral, collateral -> new TreeMap<>())
+                .computeIfAbsent(position.maxAmount, maxAmount -> new ArrayList<>())
+                .add(consumer);
+        positions.put(consumer, position);
+        if (consumer.getAmount() == null || !consumer.isAmountWithinLimit()) {
+            overLimit.put(position.id, consumer);
+        }
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Position position = positions.remove(credit);
+        if (position == null) {
+            return;
+        }
+        overLimit.remove(position.id, credit);
+        Map<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>> collaterals = byPurpose.get(position.purpose);
+        NavigableMap<BigDecimal, List<ConsumerCredit>> limits = collaterals.get(position.requiresCollateral);
+        List<ConsumerCredit> consumers = limits.get(position.maxAmount);
+        consumers.removeIf(consumer -> consumer == credit);
+        if (consumers.isEmpty()) {
+            limits.remove(position.maxAmount);
+            if (limits.isEmpty()) {
+                collaterals.remove(position.requiresCollateral);
+                if (collaterals.isEmpty()) {
+                    byPurpose.remove(position.purpose);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        byPurpose.clear();
+        positions.clear();
+        overLimit.clear();
+    }
+
+    // purpose і requiresCollateral == null - будь-які; minMaxAmount - ліміт має бути не меншим
+    // Результат відсортований за лімітом в межах кожної мети
+    public List<ConsumerCredit> find(String purpose, Boolean requiresCollateral, BigDecimal minMaxAmount) {
+        Collection<Map<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>>> purposes;
+        if (purpose == null) {
+            purposes = byPurpose.values();
+        } else {
+            Map<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>> collaterals = byPurpose.get(key(purpose));
+            purposes = collaterals == null ? List.of() : List.of(collaterals);
+        }
+
+        List<ConsumerCredit> result = new ArrayList<>();
+        for (Map<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>> collaterals : purposes) {
+            for (Map.Entry<Boolean, NavigableMap<BigDecimal, List<ConsumerCredit>>> entry : collaterals.entrySet()) {
+                if (requiresCollateral != null && !requiresCollateral.equals(entry.getKey())) {
+                    continue;
+                }
+                NavigableMap<BigDecimal, List<ConsumerCredit>> limits = minMaxAmount == null
+                        ? entry.getValue()
+                        : entry.getValue().tailMap(minMaxAmount.max(BigDecimal.ZERO), true);
+                for (List<ConsumerCredit> consumers : limits.values()) {
+                    result.addAll(consumers);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Масова перевірка isAmountWithinLimit: кредити без ліміту або з сумою понад ліміт, у порядку каталогу
+    public List<ConsumerCredit> findOverLimit() {
+        return new ArrayList<>(overLimit.values());
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private static String key(String purpose) {
+        return purpose == null ? "" : purpose.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Position {
+        private final String id;
+        private final String purpose;
+        private final boolean requiresCollateral;
+        private final BigDecimal maxAmount;
+
+        Position(String id, String purpose, boolean requiresCollateral, BigDecimal maxAmount) {
+            this.id = id;
+            this.purpose = purpose;
+            this.requiresCollateral = requiresCollateral;
+            this.maxAmount = maxAmount;
+        }
+    }
+}
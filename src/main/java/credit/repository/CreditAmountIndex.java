@@ -0,0 +1,98 @@
+package credit.repository;
+
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Кредити, відсортовані за сумою: запит "сума в [min, max]" чи "сума >= min" бере піддерево
+// за O(log n) і проходить тільки k кредитів у ньому - O(log n + k), без сортування результату.
+// Кредити повертаються в порядку сум (з однаковою сумою - у довільному порядку); порядок каталогу
+// відновлює CreditRepository через порядкові номери CreditBitmapIndex, коли він потрібен.
+// Сума береться при додаванні; кредити без суми не індексуються. Якщо після додавання
+// змінити суму, кредит треба видалити і додати знову
+public class CreditAmountIndex implements CreditIndex {
+    private final NavigableMap<BigDecimal, Set<Credit>> byAmount;
+    // Сума кожного кредиту на момент додавання - щоб видалення не залежало від поточного значення
+    private final Map<Credit, BigDecimal> amounts;
+
+    public CreditAmountIndex() {
+        this.byAmount = new TreeMap<>();
+        this.amounts = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (credit.getAmount() == null || amounts.containsKey(credit)) {
+            return;
+        }
+        byAmount.computeIfAbsent(credit.getAmount(), amount -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(credit);
+        amounts.put(credit, credit.getAmount());
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        BigDecimal amount = amounts.remove(credit);
+        if (amount == null) {
+            return;
+        }
+        Set<Credit> credits = byAmount.get(amount);
+        credits.remove(credit);
+        if (credits.isEmpty()) {
+            byAmount.remove(amount);
+        }
+    }
+
+    @Override
+    public void clear() {
+        byAmount.clear();
+        amounts.clear();
+    }
+
+    // Кредити з сумою в межах [minAmount, maxAmount] (null - без обмеження), у порядку сум
+    public List<Credit> find(BigDecimal minAmount, BigDecimal maxAmount) {
+        List<Credit> result = new ArrayList<>();
+        for (Set<Credit> credits : range(minAmount, maxAmount, Integer.MAX_VALUE)) {
+            result.addAll(credits);
+        }
+        return result;
+    }
+
+    // Групи кредитів з однаковою сумою в межах [minAmount, maxAmount] - подання піддерева, без копіювання.
+    // null, якщо в діапазоні більше limit кредитів - тоді дешевше пройти весь каталог
+    Collection<Set<Credit>> range(BigDecimal minAmount, BigDecimal maxAmount, int limit) {
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            return Collections.emptyList();
+        }
+        NavigableMap<BigDecimal, Set<Credit>> range = byAmount;
+        if (minAmount != null) {
+            range = range.tailMap(minAmount, true);
+        }
+        if (maxAmount != null) {
+            range = range.headMap(maxAmount, true);
+        }
+        if (limit < amounts.size()) {
+            int count = 0;
+            for (Set<Credit> credits : range.values()) {
+                count += credits.size();
+                if (count > limit) {
+                    return null;
+                }
+            }
+        }
+        return range.values();
+    }
+
+    public int size() {
+        return amounts.size();
+    }
+}
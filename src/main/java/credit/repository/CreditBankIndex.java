@@ -0,0 +1,81 @@
+package credit.repository;
+
+import credit.model.Credit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Кредити за назвою банку без урахування регістру. Назва береться при додаванні;
+// порядок в межах банку - порядок додавання. Кредити без банку чи назви не індексуються
+public class CreditBankIndex implements CreditIndex {
+    // Для кожного банку - кредити за id (в репозиторії id унікальні), щоб видалення було O(1)
+    private final Map<String, Map<String, Credit>> byBank;
+    // Ключ банку і id на момент додавання - видалення не залежить від поточних полів кредиту
+    private final Map<Credit, Position> positions;
+
+    public CreditBankIndex() {
+        this.byBank = new HashMap<>();
+        this.positions = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (positions.containsKey(credit) || credit.getBank() == null || credit.getBank().getName() == null) {
+            return;
+        }
+        Position position = new Position(bankKey(credit.getBank().getName()), credit.getId());
+        byBank.computeIfAbsent(position.bankKey, name -> new LinkedHashMap<>()).put(position.id, credit);
+        positions.put(credit, position);
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Position position = positions.remove(credit);
+        if (position == null) {
+            return;
+        }
+        Map<String, Credit> credits = byBank.get(position.bankKey);
+        credits.remove(position.id, credit);
+        if (credits.isEmpty()) {
+            byBank.remove(position.bankKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        byBank.clear();
+        positions.clear();
+    }
+
+    public List<Credit> find(String bankName) {
+        Map<String, Credit> credits = bankName == null ? null : byBank.get(bankKey(bankName));
+        return credits == null ? new ArrayList<>() : new ArrayList<>(credits.values());
+    }
+
+    // Кредити банку без копіювання - тільки для читання
+    public Collection<Credit> view(String bankName) {
+        Map<String, Credit> credits = bankName == null ? null : byBank.get(bankKey(bankName));
+        return credits == null ? Collections.emptyList() : Collections.unmodifiableCollection(credits.values());
+    }
+
+    private static String bankKey(String bankName) {
+        return bankName.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Position {
+        private final String bankKey;
+        private final String id;
+
+        Position(String bankKey, String id) {
+            this.bankKey = bankKey;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package credit.repository;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Бітові карти над порядковими номерами кредитів: дострокове погашення, збільшення ліміту
+// і стандартний тип. Номер видається при додаванні, тож порядок бітів - порядок каталогу.
+// Складені умови (тип І прапорець, прапорець АБО прапорець) рахуються операціями над словами
+// BitSet, без звернення до самих кредитів; об'єкти читаються тільки для встановлених бітів.
+// Прапорці і тип беруться при додаванні, тому біти - лише кандидати: find* перевіряють поточне
+// значення прапорця, а CreditRepository.findMatching - всі умови. Кредит, у якого прапорець
+// зняли після додавання, не повертається; щоб знайти кредит, у якого прапорець увімкнули чи
+// змінили тип, його треба видалити і додати знову.
+// Номери видалених кредитів не використовуються повторно; коли таких стає більше половини,
+// номери перераховуються
+public class CreditBitmapIndex implements CreditIndex {
+    private static final int MIN_COMPACT_SLOTS = 64;
+
+    // Кредит за номером; null - видалений
+    private final List<Credit> slots;
+    private final Map<Credit, Integer> ordinals;
+    private final BitSet live;
+    private final BitSet earlyRepayment;
+    private final BitSet creditLineIncrease;
+    private final Map<CreditType, BitSet> types;
+
+    public CreditBitmapIndex() {
+        this.slots = new ArrayList<>();
+        this.ordinals = new IdentityHashMap<>();
+        this.live = new BitSet();
+        this.earlyRepayment = new BitSet();
+        this.creditLineIncrease = new BitSet();
+        this.types = new EnumMap<>(CreditType.class);
+        for (CreditType type : CreditType.values()) {
+            types.put(type, new BitSet());
+        }
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (ordinals.containsKey(credit)) {
+            return;
+        }
+        int ordinal = slots.size();
+        slots.add(credit);
+        ordinals.put(credit, ordinal);
+        live.set(ordinal);
+        earlyRepayment.set(ordinal, credit.isEarlyRepaymentAllowed());
+        creditLineIncrease.set(ordinal, credit.isCreditLineIncreaseAllowed());
+        if (credit.getType() != null) {
+            types.get(credit.getType()).set(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Integer ordinal = ordinals.remove(credit);
+        if (ordinal == null) {
+            return;
+        }
+        slots.set(ordinal, null);
+        live.clear(ordinal);
+        earlyRepayment.clear(ordinal);
+        creditLineIncrease.clear(ordinal);
+        for (BitSet bits : types.values()) {
+            bits.clear(ordinal);
+        }
+        if (slots.size() >= MIN_COMPACT_SLOTS && ordinals.size() < slots.size() / 2) {
+            compact();
+        }
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        ordinals.clear();
+        live.clear();
+        earlyRepayment.clear();
+        creditLineIncrease.clear();
+        for (BitSet bits : types.values()) {
+            bits.clear();
+        }
+    }
+
+    public List<Credit> findWithEarlyRepayment() {
+        return credits(earlyRepayment, Credit::isEarlyRepaymentAllowed);
+    }
+
+    public List<Credit> findWithCreditLineIncrease() {
+        return credits(creditLineIncrease, Credit::isCreditLineIncreaseAllowed);
+    }
+
+    // Номери кредитів, що проходять умови типу і прапорців з criteria (решта умов не перевіряється),
+    // або null, якщо таких умов у criteria немає
+    BitSet select(CreditCriteria criteria) {
+        BitSet result = null;
+        if (criteria.getCreditType() != null) {
+            result = (BitSet) types.get(criteria.getCreditType()).clone();
+        }
+        result = restrict(result, earlyRepayment, criteria.getEarlyRepaymentAllowed());
+        result = restrict(result, creditLineIncrease, criteria.getCreditLineIncreaseAllowed());
+        if (criteria.isFlexibleOnly()) {
+            BitSet flexible = (BitSet) earlyRepayment.clone();
+            flexible.or(creditLineIncrease);
+            result = restrict(result, flexible, Boolean.TRUE);
+        }
+        return result;
+    }
+
+    // Кредити за встановленими бітами, у порядку каталогу
+    List<Credit> credits(BitSet selected) {
+        List<Credit> result = new ArrayList<>(selected.cardinality());
+        for (int ordinal = selected.nextSetBit(0); ordinal >= 0; ordinal = selected.nextSetBit(ordinal + 1)) {
+            result.add(slots.get(ordinal));
+        }
+        return result;
+    }
+
+    // Номери заданих кредитів (невідомі індексу пропускаються) - щоб повернути їх у порядку каталогу
+    BitSet ordinals(Collection<? extends Collection<Credit>> groups) {
+        BitSet result = new BitSet(slots.size());
+        for (Collection<Credit> credits : groups) {
+            for (Credit credit : credits) {
+                Integer ordinal = ordinals.get(credit);
+                if (ordinal != null) {
+                    result.set(ordinal);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Кредити за встановленими бітами, які проходять перевірку поточних значень
+    private List<Credit> credits(BitSet selected, Predicate<Credit> current) {
+        List<Credit> result = new ArrayList<>(selected.cardinality());
+        for (int ordinal = selected.nextSetBit(0); ordinal >= 0; ordinal = selected.nextSetBit(ordinal + 1)) {
+            Credit credit = slots.get(ordinal);
+            if (current.test(credit)) {
+                result.add(credit);
+            }
+        }
+        return result;
+    }
+
+    boolean contains(BitSet selected, Credit credit) {
+        Integer ordinal = ordinals.get(credit);
+        return ordinal != null && selected.get(ordinal);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    // required == true - тільки кредити з бітом, false - тільки без нього, null - без обмеження
+    private BitSet restrict(BitSet result, BitSet flag, Boolean required) {
+        if (required == null) {
+            return result;
+        }
+        if (result == null) {
+            result = (BitSet) live.clone();
+        }
+        if (required) {
+            result.and(flag);
+        } else {
+            result.andNot(flag);
+        }
+        return result;
+    }
+
+    private void compact() {
+        List<Credit> remaining = new ArrayList<>(ordinals.size());
+        for (Credit credit : slots) {
+            if (credit != null) {
+                remaining.add(credit);
+            }
+        }
+        clear();
+        for (Credit credit : remaining) {
+            add(credit);
+        }
+    }
+}
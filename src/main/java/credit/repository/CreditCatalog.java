@@ -0,0 +1,78 @@
+package credit.repository;
+
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Каталог кредитів, з яким працюють сервіси: запис, пошук за id і вторинними умовами, подання без копіювання.
+// Реалізації: CreditRepository (об'єкти на купі з індексами), SnapshotCreditRepository (незмінні версії
+// для конкурентного читання), EncodedCreditRepository (закодовані рядки в колонках чи поза купою).
+// id унікальний: addCredit з id, що вже є, замінює попередній кредит (новий - в кінці каталогу).
+// find* повертають новий список, яким володіє викликач; view* і forEach - тільки для читання
+public interface CreditCatalog {
+
+    void addCredit(Credit credit);
+
+    Optional<Credit> findById(String id);
+
+    List<Credit> findAll();
+
+    Collection<Credit> view();
+
+    void forEach(Consumer<? super Credit> action);
+
+    Collection<Credit> viewByBankName(String bankName);
+
+    Collection<Credit> viewByCreditType(String creditType);
+
+    Collection<Credit> viewByCreditType(CreditType creditType);
+
+    List<Credit> findByBankName(String bankName);
+
+    List<Credit> findByCreditType(String creditType);
+
+    List<Credit> findByCreditType(CreditType creditType);
+
+    List<Credit> findByAmountRange(BigDecimal minAmount, BigDecimal maxAmount);
+
+    List<Credit> findWithEarlyRepayment();
+
+    List<Credit> findWithCreditLineIncrease();
+
+    // Кредити, що задовольняють всі умови criteria, в порядку каталогу
+    List<Credit> findMatching(CreditCriteria criteria);
+
+    List<MortgageCredit> findMortgagesByLtvBand(LtvBand band, String propertyType, BigDecimal minDownPaymentRatio);
+
+    List<CarCredit> findCarCredits(String carBrand, String carModel, Integer minYear, Integer maxYear,
+                                   Boolean newCar, BigDecimal maxFinancedToValue);
+
+    List<CarCredit> findCarCreditsByFinancedToValue(BigDecimal min, BigDecimal max);
+
+    List<ConsumerCredit> findConsumerCredits(String purpose, Boolean requiresCollateral, BigDecimal minMaxAmount);
+
+    List<ConsumerCredit> findConsumerCreditsOverLimit();
+
+    CreditColumns toColumns();
+
+    // Стан каталогу, який не зміниться протягом серії запитів (для неверсіонованих реалізацій - сам каталог)
+    CreditCatalog currentVersion();
+
+    // Номер стану каталогу: змінюється з кожним додаванням, видаленням чи очищенням
+    long getVersion();
+
+    void removeCredit(String id);
+
+    void clear();
+
+    int size();
+}
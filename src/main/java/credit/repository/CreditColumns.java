@@ -0,0 +1,72 @@
+package credit.repository;
+
+import credit.model.Credit;
+import credit.model.FixedPointMoney;
+
+import java.util.Collection;
+
+// Каталог кредитів у вигляді паралельних примітивних масивів (struct-of-arrays)
+// Рядок i у всіх масивах відповідає одному кредиту.
+// Масиви віддаються без копіювання - їх можна змінювати на місці
+// (наприклад, нові ставки при переоцінці) і перераховувати платежі
+public class CreditColumns {
+    private final String[] ids;
+    private final long[] amountMinor;
+    private final int[] rateBasisPoints;
+    private final int[] termMonths;
+    private final long[] monthlyPaymentMinor;
+    private final long[] totalPaymentMinor;
+
+    public CreditColumns(int size) {
+        this.ids = new String[size];
+        this.amountMinor = new long[size];
+        this.rateBasisPoints = new int[size];
+        this.termMonths = new int[size];
+        this.monthlyPaymentMinor = new long[size];
+        this.totalPaymentMinor = new long[size];
+    }
+
+    // Платежі не заповнюються - їх рахує BatchPaymentCalculator
+    public static CreditColumns from(Collection<? extends Credit> credits) {
+        CreditColumns columns = new CreditColumns(credits.size());
+        int i = 0;
+        for (Credit credit : credits) {
+            columns.ids[i] = credit.getId();
+            columns.amountMinor[i] = credit.getAmount() == null ? 0
+                    : FixedPointMoney.toMinorUnits(credit.getAmount());
+            columns.rateBasisPoints[i] = credit.getInterestRate() == null ? 0
+                    : FixedPointMoney.toBasisPoints(credit.getInterestRate());
+            columns.termMonths[i] = credit.getTermMonths();
+            i++;
+        }
+        return columns;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public String[] getIds() {
+        return ids;
+    }
+
+    public long[] getAmountMinor() {
+        return amountMinor;
+    }
+
+    public int[] getRateBasisPoints() {
+        return rateBasisPoints;
+    }
+
+    public int[] getTermMonths() {
+        return termMonths;
+    }
+
+    public long[] getMonthlyPaymentMinor() {
+        return monthlyPaymentMinor;
+    }
+
+    public long[] getTotalPaymentMinor() {
+        return totalPaymentMinor;
+    }
+}
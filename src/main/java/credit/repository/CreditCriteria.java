@@ -0,0 +1,130 @@
+package credit.repository;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+
+import java.math.BigDecimal;
+
+// Умови пошуку, які сервіси передають репозиторію (CreditRepository.findMatching)
+// Кожна реалізація репозиторію перевіряє їх по-своєму: по об'єктах, по колонках тощо.
+// Незадані умови (null / 0 / -1) не обмежують результат
+public class CreditCriteria {
+    private CreditType creditType;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private int minTermMonths;
+    private long maxMonthlyPaymentMinor = -1;
+    private Boolean earlyRepaymentAllowed;
+    private Boolean creditLineIncreaseAllowed;
+    private boolean flexibleOnly;
+
+    public CreditCriteria creditType(CreditType creditType) {
+        this.creditType = creditType;
+        return this;
+    }
+
+    public CreditCriteria minAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+        return this;
+    }
+
+    public CreditCriteria maxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+        return this;
+    }
+
+    public CreditCriteria minTermMonths(int minTermMonths) {
+        this.minTermMonths = minTermMonths;
+        return this;
+    }
+
+    // Щомісячний платіж у копійках не більший за заданий (див. Credit.calculateMonthlyPaymentMinor)
+    public CreditCriteria maxMonthlyPaymentMinor(long maxMonthlyPaymentMinor) {
+        this.maxMonthlyPaymentMinor = maxMonthlyPaymentMinor;
+        return this;
+    }
+
+    public CreditCriteria earlyRepaymentAllowed(Boolean earlyRepaymentAllowed) {
+        this.earlyRepaymentAllowed = earlyRepaymentAllowed;
+        return this;
+    }
+
+    public CreditCriteria creditLineIncreaseAllowed(Boolean creditLineIncreaseAllowed) {
+        this.creditLineIncreaseAllowed = creditLineIncreaseAllowed;
+        return this;
+    }
+
+    // Дострокове погашення АБО збільшення ліміту
+    public CreditCriteria flexibleOnly(boolean flexibleOnly) {
+        this.flexibleOnly = flexibleOnly;
+        return this;
+    }
+
+    // Перевірка по об'єкту - для репозиторіїв, що зберігають Credit
+    public boolean matches(Credit credit) {
+        if (credit == null) {
+            return false;
+        }
+        if (creditType != null && credit.getType() != creditType) {
+            return false;
+        }
+        if ((minAmount != null || maxAmount != null) && credit.getAmount() == null) {
+            return false;
+        }
+        if (minAmount != null && credit.getAmount().compareTo(minAmount) < 0) {
+            return false;
+        }
+        if (maxAmount != null && credit.getAmount().compareTo(maxAmount) > 0) {
+            return false;
+        }
+        if (credit.getTermMonths() < minTermMonths) {
+            return false;
+        }
+        if (!matchesFlags(credit.isEarlyRepaymentAllowed(), credit.isCreditLineIncreaseAllowed())) {
+            return false;
+        }
+        return maxMonthlyPaymentMinor < 0 || credit.isMonthlyPaymentWithin(maxMonthlyPaymentMinor);
+    }
+
+    boolean matchesFlags(boolean earlyRepayment, boolean creditLineIncrease) {
+        if (earlyRepaymentAllowed != null && earlyRepaymentAllowed != earlyRepayment) {
+            return false;
+        }
+        if (creditLineIncreaseAllowed != null && creditLineIncreaseAllowed != creditLineIncrease) {
+            return false;
+        }
+        return !flexibleOnly || earlyRepayment || creditLineIncrease;
+    }
+
+    public CreditType getCreditType() {
+        return creditType;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public int getMinTermMonths() {
+        return minTermMonths;
+    }
+
+    public long getMaxMonthlyPaymentMinor() {
+        return maxMonthlyPaymentMinor;
+    }
+
+    public Boolean getEarlyRepaymentAllowed() {
+        return earlyRepaymentAllowed;
+    }
+
+    public Boolean getCreditLineIncreaseAllowed() {
+        return creditLineIncreaseAllowed;
+    }
+
+    public boolean isFlexibleOnly() {
+        return flexibleOnly;
+    }
+}
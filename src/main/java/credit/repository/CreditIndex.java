@@ -0,0 +1,12 @@
+package credit.repository;
+
+import credit.model.Credit;
+
+// Вторинний індекс, який CreditRepository оновлює при додаванні та видаленні кредитів
+interface CreditIndex {
+    void add(Credit credit);
+
+    void remove(Credit credit);
+
+    void clear();
+}
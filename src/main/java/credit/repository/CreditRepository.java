@@ -1,75 +1,267 @@
 package credit.repository;
 
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
 import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
 
-public class CreditRepository {
-    private List<Credit> credits;
+// Каталог кредитів: кредити за id в порядку додавання і вторинні індекси
+// (тип, банк, сума, бітові карти прапорців, іпотеки за LTV, автокредити, споживчі кредити), які оновлюються разом з ним.
+// id унікальний: addCredit з id, що вже є, замінює попередній кредит (новий - в кінці каталогу).
+// find* повертають новий список, яким володіє викликач; view* і forEach читають сховище без копіювання
+public class CreditRepository implements CreditCatalog {
+    private Map<String, Credit> credits;
+    private MortgageLtvIndex mortgageLtvIndex;
+    private CarCreditIndex carCreditIndex;
+    private ConsumerCreditIndex consumerCreditIndex;
+    private CreditTypeIndex creditTypeIndex;
+    private CreditBankIndex creditBankIndex;
+    private CreditAmountIndex creditAmountIndex;
+    private CreditBitmapIndex creditBitmapIndex;
+    // Всі вторинні індекси, які оновлюються разом з каталогом
+    private List<CreditIndex> indexes;
+    // Лічильник змін складу каталогу (додавання, видалення, очищення)
+    private long version;
 
     public CreditRepository() {
-        this.credits = new ArrayList<>();
+        this.credits = new LinkedHashMap<>();
+        this.mortgageLtvIndex = new MortgageLtvIndex();
+        this.carCreditIndex = new CarCreditIndex();
+        this.consumerCreditIndex = new ConsumerCreditIndex();
+        this.creditTypeIndex = new CreditTypeIndex();
+        this.creditBankIndex = new CreditBankIndex();
+        this.creditAmountIndex = new CreditAmountIndex();
+        this.creditBitmapIndex = new CreditBitmapIndex();
+        this.indexes = List.of(creditTypeIndex, creditBankIndex, creditAmountIndex, creditBitmapIndex,
+                mortgageLtvIndex, carCreditIndex, consumerCreditIndex);
     }
 
+    @Override
     public void addCredit(Credit credit) {
         if (credit != null && credit.getId() != null) {
-            credits.add(credit);
+            Credit previous = credits.remove(credit.getId());
+            if (previous != null) {
+                for (CreditIndex index : indexes) {
+                    index.remove(previous);
+                }
+            }
+            credits.put(credit.getId(), credit);
+            for (CreditIndex index : indexes) {
+                index.add(credit);
+            }
+            markModified();
         }
     }
 
+    @Override
     public Optional<Credit> findById(String id) {
-        return credits.stream()
-                .filter(credit -> credit.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(id == null ? null : credits.get(id));
     }
 
+    @Override
     public List<Credit> findAll() {
-        return new ArrayList<>(credits);
+        return new ArrayList<>(credits.values());
     }
 
+    // Кредити каталогу без копіювання, в порядку каталогу - тільки для читання.
+    // Подання "живе": бачить подальші зміни каталогу. Звичайний репозиторій не потокобезпечний,
+    // і зміна каталогу під час обходу подання дає ConcurrentModificationException.
+    // Для читання разом із записами - SnapshotCreditRepository: там подання належить
+    // одній незмінній версії і не змінюється
+    @Override
+    public Collection<Credit> view() {
+        return Collections.unmodifiableCollection(credits.values());
+    }
+
+    // Обхід каталогу без копіювання, з тими самими гарантіями, що й view()
+    @Override
+    public void forEach(Consumer<? super Credit> action) {
+        credits.values().forEach(action);
+    }
+
+    // Розділи індексів банку і типу без копіювання, з тими самими гарантіями, що й view()
+    @Override
+    public Collection<Credit> viewByBankName(String bankName) {
+        return creditBankIndex.view(bankName);
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(String creditType) {
+        return Collections.unmodifiableCollection(creditTypeIndex.partition(creditType));
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(CreditType creditType) {
+        return Collections.unmodifiableCollection(creditTypeIndex.partition(creditType));
+    }
+
+    // Назва банку без урахування регістру, з індексу
+    @Override
     public List<Credit> findByBankName(String bankName) {
-        return credits.stream()
-                .filter(credit -> credit.getBank() != null &&
-                        credit.getBank().getName().equalsIgnoreCase(bankName))
-                .collect(Collectors.toList());
+        return creditBankIndex.find(bankName);
     }
 
+    // Повертає тільки розділ потрібного типу, без проходу по всьому каталогу
+    @Override
     public List<Credit> findByCreditType(String creditType) {
-        return credits.stream()
-                .filter(credit -> credit.getCreditType().equalsIgnoreCase(creditType))
-                .collect(Collectors.toList());
+        return new ArrayList<>(creditTypeIndex.partition(creditType));
     }
 
-    public List<Credit> findByAmountRange(java.math.BigDecimal minAmount, java.math.BigDecimal maxAmount) {
-        return credits.stream()
-                .filter(credit -> credit.getAmount().compareTo(minAmount) >= 0 &&
-                        credit.getAmount().compareTo(maxAmount) <= 0)
-                .collect(Collectors.toList());
+    @Override
+    public List<Credit> findByCreditType(CreditType creditType) {
+        return new ArrayList<>(creditTypeIndex.partition(creditType));
     }
 
+    // Сума в межах [minAmount, maxAmount] (null - без обмеження), в порядку каталогу:
+    // піддерево відсортованого індексу сум, переведене в порядкові номери бітових карт
+    @Override
+    public List<Credit> findByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+        Collection<Set<Credit>> range = creditAmountIndex.range(minAmount, maxAmount, Integer.MAX_VALUE);
+        return creditBitmapIndex.credits(creditBitmapIndex.ordinals(range));
+    }
+
+    @Override
     public List<Credit> findWithEarlyRepayment() {
-        return credits.stream()
-                .filter(Credit::isEarlyRepaymentAllowed)
-                .collect(Collectors.toList());
+        return creditBitmapIndex.findWithEarlyRepayment();
     }
 
+    @Override
     public List<Credit> findWithCreditLineIncrease() {
-        return credits.stream()
-                .filter(Credit::isCreditLineIncreaseAllowed)
-                .collect(Collectors.toList());
+        return creditBitmapIndex.findWithCreditLineIncrease();
+    }
+
+    // Кредити, що задовольняють всі умови, в порядку каталогу.
+    // Тип і прапорці спершу відбираються бітовими картами (CreditBitmapIndex), діапазон сум -
+    // відсортованим індексом; з двох наборів кандидатів береться менший, і тільки його кредити
+    // перевіряються повністю - і тоді, коли умов крім типу і прапорців немає: індекси знімають
+    // значення при додаванні, а кредит могли змінити пізніше
+    @Override
+    public List<Credit> findMatching(CreditCriteria criteria) {
+        BitSet selected = creditBitmapIndex.select(criteria);
+        int limit = selected == null ? credits.size() / 4 : Math.min(credits.size() / 4, selected.cardinality());
+        Collection<Set<Credit>> inRange = criteria.getMinAmount() == null && criteria.getMaxAmount() == null ? null
+                : creditAmountIndex.range(criteria.getMinAmount(), criteria.getMaxAmount(), limit);
+
+        Collection<Credit> candidates;
+        if (inRange != null) {
+            // Вузький діапазон сум - з індексу; широкий (більше чверті каталогу) - звичайним проходом.
+            // Номери кредитів з діапазону перетинаються з бітовими картами і дають порядок каталогу
+            BitSet matching = creditBitmapIndex.ordinals(inRange);
+            if (selected != null) {
+                matching.and(selected);
+            }
+            candidates = creditBitmapIndex.credits(matching);
+        } else if (selected != null) {
+            candidates = creditBitmapIndex.credits(selected);
+        } else {
+            candidates = credits.values();
+        }
+        List<Credit> result = new ArrayList<>();
+        for (Credit credit : candidates) {
+            if (criteria.matches(credit)) {
+                result.add(credit);
+            }
+        }
+        return result;
+    }
+
+    // Іпотеки в діапазоні LTV з фільтром за типом нерухомості і мінімальним першим внеском (%)
+    // Обидва фільтри необов'язкові (null). Відповідає з індексу, без проходу по каталогу
+    @Override
+    public List<MortgageCredit> findMortgagesByLtvBand(LtvBand band, String propertyType,
+                                                       BigDecimal minDownPaymentRatio) {
+        return mortgageLtvIndex.find(band, propertyType, minDownPaymentRatio);
     }
 
+    // Автокредити за маркою/моделлю (без урахування регістру), роками випуску, новизною авто
+    // і максимальним співвідношенням кредиту до вартості авто (%). null - без обмеження
+    @Override
+    public List<CarCredit> findCarCredits(String carBrand, String carModel, Integer minYear, Integer maxYear,
+                                          Boolean newCar, BigDecimal maxFinancedToValue) {
+        return carCreditIndex.find(carBrand, carModel, minYear, maxYear, newCar, maxFinancedToValue);
+    }
+
+    // Відсортовано за співвідношенням кредиту до вартості авто
+    @Override
+    public List<CarCredit> findCarCreditsByFinancedToValue(BigDecimal min, BigDecimal max) {
+        return carCreditIndex.findByFinancedToValue(min, max);
+    }
+
+    // Споживчі кредити за метою і заставою, чий ліміт maxAmount не менший за minMaxAmount
+    // Всі параметри необов'язкові (null)
+    @Override
+    public List<ConsumerCredit> findConsumerCredits(String purpose, Boolean requiresCollateral,
+                                                    BigDecimal minMaxAmount) {
+        return consumerCreditIndex.find(purpose, requiresCollateral, minMaxAmount);
+    }
+
+    // Споживчі кредити, для яких isAmountWithinLimit() == false
+    @Override
+    public List<ConsumerCredit> findConsumerCreditsOverLimit() {
+        return consumerCreditIndex.findOverLimit();
+    }
+
+    // Знімок каталогу у вигляді колонок для пакетних розрахунків
+    @Override
+    public CreditColumns toColumns() {
+        return CreditColumns.from(view());
+    }
+
+    // Стан каталогу, який не зміниться протягом серії запитів.
+    // Звичайний репозиторій не версіонується і повертає себе; SnapshotCreditRepository -
+    // останню опубліковану незмінну версію (CatalogVersion)
+    @Override
+    public CreditRepository currentVersion() {
+        return this;
+    }
+
+    // Номер стану каталогу: змінюється з кожним додаванням, видаленням чи очищенням,
+    // тож за ним можна перевірити, чи не застаріли результати, збережені раніше.
+    // Зміни полів уже доданих кредитів номер не змінюють - для цього є SnapshotCreditRepository
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private void markModified() {
+        version++;
+    }
+
+    @Override
     public void removeCredit(String id) {
-        credits.removeIf(credit -> credit.getId().equals(id));
+        Credit credit = id == null ? null : credits.remove(id);
+        if (credit != null) {
+            for (CreditIndex index : indexes) {
+                index.remove(credit);
+            }
+            markModified();
+        }
     }
 
+    @Override
     public void clear() {
         credits.clear();
+        for (CreditIndex index : indexes) {
+            index.clear();
+        }
+        markModified();
     }
 
+    @Override
     public int size() {
         return credits.size();
     }
@@ -0,0 +1,106 @@
+package credit.repository;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Кредити, розкладені за типом: для стандартних типів - EnumMap, для інших рядків
+// (старі файли, власні типи) - окремі розділи за назвою без урахування регістру.
+// Тип береться при додаванні; порядок в межах типу - порядок додавання.
+// Розділ - кредити за id (в репозиторії id унікальні), тож видалення - O(1)
+public class CreditTypeIndex implements CreditIndex {
+    private final Map<CreditType, Map<String, Credit>> partitions;
+    private final Map<String, Map<String, Credit>> otherTypes;
+    // Ключ розділу (CreditType або назва нестандартного типу) і id на момент додавання
+    private final Map<Credit, Position> positions;
+
+    public CreditTypeIndex() {
+        this.partitions = new EnumMap<>(CreditType.class);
+        for (CreditType type : CreditType.values()) {
+            partitions.put(type, new LinkedHashMap<>());
+        }
+        this.otherTypes = new HashMap<>();
+        this.positions = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (positions.containsKey(credit)) {
+            return;
+        }
+        CreditType type = credit.getType();
+        if (type != null) {
+            partitions.get(type).put(credit.getId(), credit);
+            positions.put(credit, new Position(type, credit.getId()));
+        } else {
+            String key = otherKey(credit.getCreditType());
+            otherTypes.computeIfAbsent(key, name -> new LinkedHashMap<>()).put(credit.getId(), credit);
+            positions.put(credit, new Position(key, credit.getId()));
+        }
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Position position = positions.remove(credit);
+        if (position == null) {
+            return;
+        }
+        if (position.key instanceof CreditType) {
+            partitions.get(position.key).remove(position.id, credit);
+        } else {
+            Map<String, Credit> credits = otherTypes.get(position.key);
+            credits.remove(position.id, credit);
+            if (credits.isEmpty()) {
+                otherTypes.remove(position.key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Map<String, Credit> credits : partitions.values()) {
+            credits.clear();
+        }
+        otherTypes.clear();
+        positions.clear();
+    }
+
+    // Розділ типу без копіювання - тільки для читання всередині пакета
+    Collection<Credit> partition(CreditType type) {
+        return type == null ? List.of() : partitions.get(type).values();
+    }
+
+    Collection<Credit> partition(String creditType) {
+        if (creditType == null) {
+            return List.of();
+        }
+        CreditType type = CreditType.fromString(creditType);
+        if (type != null) {
+            return partitions.get(type).values();
+        }
+        Map<String, Credit> credits = otherTypes.get(otherKey(creditType));
+        return credits == null ? List.of() : credits.values();
+    }
+
+    private static String otherKey(String creditType) {
+        return creditType == null ? "" : creditType.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Position {
+        private final Object key;
+        private final String id;
+
+        Position(Object key, String id) {
+            this.key = key;
+            this.id = id;
+        }
+    }
+}
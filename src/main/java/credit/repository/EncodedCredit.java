@@ -0,0 +1,25 @@
+package credit.repository;
+
+// Один кредит, розкладений на примітивні поля, перед записом у сховище рядків
+// Значення і коди - як їх зберігає EncodedCreditRepository
+final class EncodedCredit {
+    String id;
+    byte kind;
+    int typeCode;
+    int bankCode;
+    long amountMinor;
+    byte amountScale;
+    int rateUnscaled;
+    byte rateScale;
+    int termMonths;
+    byte flags;
+    int startDay;
+    long monthlyPaymentMinor;
+    long valueMinor;
+    byte valueScale;
+    long secondValueMinor;
+    byte secondValueScale;
+    int labelCode;
+    int secondLabelCode;
+    int year;
+}
@@ -0,0 +1,736 @@
+package credit.repository;
+
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.FixedPointMoney;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+// Основа для бекендів CreditCatalog, що зберігають кредити не об'єктами, а закодованими рядками
+// Суми - в копійках (long), ставка - unscaled int + scale, прапорці - біти одного byte,
+// банк, тип кредиту і рядкові поля підкласів - коди словників (ColumnDictionary).
+// Підклас вирішує, де лежать рядки (масиви, буфери поза купою), і читає поля рядка;
+// запити (findMatching і всі find*) проходять по рядках, об'єкти Credit створюються
+// тільки для рядків, що потрапили в результат.
+// Повернуті кредити - нові об'єкти: їх зміна не змінює каталог, для оновлення
+// кредит треба видалити і додати знову. Суми з частками копійки не підтримуються.
+// Як і в CreditRepository, id унікальний: addCredit з наявним id видаляє старий рядок і додає
+// новий у кінець. Рядок знаходиться за id через хеш-таблицю з відкритою адресацією, слоти якої
+// (номер рядка + 1, 0 - порожній) зберігає підклас - поруч із самими рядками.
+// Видалений рядок лише позначається в бітовій карті dead, і запити його пропускають;
+// коли видалених стає більше половини, живі рядки зсуваються на їхнє місце одним проходом
+// (як номери в CreditBitmapIndex)
+public abstract class EncodedCreditRepository implements CreditCatalog {
+    static final long NULL_MONEY = Long.MIN_VALUE;
+    static final byte NULL_SCALE = Byte.MIN_VALUE;
+    static final int NULL_DATE = Integer.MIN_VALUE;
+
+    static final byte KIND_CREDIT = 0;
+    static final byte KIND_MORTGAGE = 1;
+    static final byte KIND_CONSUMER = 2;
+    static final byte KIND_CAR = 3;
+
+    static final byte EARLY_REPAYMENT = 1;
+    static final byte CREDIT_LINE_INCREASE = 2;
+    // Застава для споживчого кредиту, нове авто для автокредиту
+    static final byte EXTRA_FLAG = 4;
+
+    private static final int MIN_COMPACT_ROWS = 64;
+    private static final int MIN_ID_TABLE_SIZE = 16;
+
+    private final ColumnDictionary<Bank> banks;
+    // Типи кредитів і рядкові поля підкласів (тип нерухомості, мета, марка, модель)
+    private final ColumnDictionary<String> strings;
+    // Видалені рядки, ще не прибрані ущільненням
+    private final BitSet dead;
+    private int deadCount;
+    // Зайняті слоти таблиці id, разом зі слотами видалених рядків
+    private int idEntries;
+    // Лічильник змін складу каталогу, як у CreditRepository
+    private long version;
+
+    EncodedCreditRepository() {
+        this.banks = new ColumnDictionary<>();
+        this.strings = new ColumnDictionary<>();
+        this.dead = new BitSet();
+    }
+
+    // ---- Сховище рядків ----
+
+    abstract int rowCount();
+
+    abstract void appendRow(EncodedCredit row);
+
+    // Переносить рядок from на місце to (to < from) при ущільненні
+    abstract void moveRow(int from, int to);
+
+    // Відкидає рядки, починаючи з rowCount
+    abstract void truncate(int rowCount);
+
+    abstract String id(int row);
+
+    abstract byte kind(int row);
+
+    abstract int typeCode(int row);
+
+    abstract int bankCode(int row);
+
+    abstract long amountMinor(int row);
+
+    abstract byte amountScale(int row);
+
+    abstract int rateUnscaled(int row);
+
+    abstract byte rateScale(int row);
+
+    abstract int termMonths(int row);
+
+    abstract byte flags(int row);
+
+    abstract int startDay(int row);
+
+    abstract long monthlyPaymentMinor(int row);
+
+    abstract long valueMinor(int row);
+
+    abstract byte valueScale(int row);
+
+    abstract long secondValueMinor(int row);
+
+    abstract byte secondValueScale(int row);
+
+    abstract int labelCode(int row);
+
+    abstract int secondLabelCode(int row);
+
+    abstract int year(int row);
+
+    // String.hashCode() id рядка, без створення рядка
+    abstract int idHash(int row);
+
+    // Чи збігається id рядка з id, без створення рядка
+    abstract boolean idEquals(int row, String id);
+
+    // ---- Таблиця id (розмір - степінь двійки) ----
+
+    abstract int idTableSize();
+
+    // Замінює таблицю новою, з порожніми слотами
+    abstract void resetIdTable(int size);
+
+    abstract int idSlot(int slot);
+
+    abstract void setIdSlot(int slot, int entry);
+
+    // ---- CreditCatalog ----
+
+    // Кредит розкладається на поля; сам об'єкт не зберігається
+    // IllegalArgumentException, якщо суму не можна зберегти в копійках без втрат
+    @Override
+    public void addCredit(Credit credit) {
+        if (credit == null || credit.getId() == null) {
+            return;
+        }
+        EncodedCredit row = encode(credit);
+        int previous = rowOf(credit.getId());
+        if (previous >= 0) {
+            removeRow(previous);
+        }
+        appendRow(row);
+        indexId(rowCount() - 1);
+        compactIfSparse();
+        version++;
+    }
+
+    @Override
+    public Optional<Credit> findById(String id) {
+        int row = rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(materialize(row));
+    }
+
+    @Override
+    public List<Credit> findAll() {
+        return rowsWhere(row -> true);
+    }
+
+    // Кредитів-об'єктів у сховищі немає, тож подання - незмінний список щойно створених кредитів
+    @Override
+    public Collection<Credit> view() {
+        return Collections.unmodifiableList(findAll());
+    }
+
+    // Кредити створюються по одному, без списку всього каталогу
+    @Override
+    public void forEach(Consumer<? super Credit> action) {
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            action.accept(materialize(row));
+        }
+    }
+
+    @Override
+    public Collection<Credit> viewByBankName(String bankName) {
+        return Collections.unmodifiableList(findByBankName(bankName));
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(String creditType) {
+        return Collections.unmodifiableList(findByCreditType(creditType));
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(CreditType creditType) {
+        return Collections.unmodifiableList(findByCreditType(creditType));
+    }
+
+    @Override
+    public List<Credit> findByBankName(String bankName) {
+        boolean[] mask = banks.matching(bank -> bank.getName() != null && bank.getName().equalsIgnoreCase(bankName));
+        return rowsWhere(row -> matches(bankCode(row), mask));
+    }
+
+    @Override
+    public List<Credit> findByCreditType(String creditType) {
+        if (creditType == null) {
+            return new ArrayList<>();
+        }
+        CreditType type = CreditType.fromString(creditType);
+        if (type != null) {
+            return findByCreditType(type);
+        }
+        String key = creditType.toUpperCase(Locale.ROOT);
+        boolean[] mask = strings.matching(value -> CreditType.fromString(value) == null
+                && value.toUpperCase(Locale.ROOT).equals(key));
+        return rowsWhere(row -> matches(typeCode(row), mask));
+    }
+
+    @Override
+    public List<Credit> findByCreditType(CreditType creditType) {
+        if (creditType == null) {
+            return new ArrayList<>();
+        }
+        boolean[] mask = typeMask(creditType);
+        return rowsWhere(row -> matches(typeCode(row), mask));
+    }
+
+    @Override
+    public List<Credit> findByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+        return findMatching(new CreditCriteria().minAmount(minAmount).maxAmount(maxAmount));
+    }
+
+    @Override
+    public List<Credit> findWithEarlyRepayment() {
+        return rowsWhere(row -> (flags(row) & EARLY_REPAYMENT) != 0);
+    }
+
+    @Override
+    public List<Credit> findWithCreditLineIncrease() {
+        return rowsWhere(row -> (flags(row) & CREDIT_LINE_INCREASE) != 0);
+    }
+
+    // Сума, термін, платіж і прапорці перевіряються по рядках;
+    // межі суми переводяться в копійки один раз на запит
+    @Override
+    public List<Credit> findMatching(CreditCriteria criteria) {
+        boolean amountBounded = criteria.getMinAmount() != null || criteria.getMaxAmount() != null;
+        long minAmount = criteria.getMinAmount() == null ? Long.MIN_VALUE
+                : boundUnits(criteria.getMinAmount(), RoundingMode.CEILING);
+        long maxAmount = criteria.getMaxAmount() == null ? Long.MAX_VALUE
+                : boundUnits(criteria.getMaxAmount(), RoundingMode.FLOOR);
+        boolean[] types = criteria.getCreditType() == null ? null : typeMask(criteria.getCreditType());
+        int minTerm = criteria.getMinTermMonths();
+        long maxPayment = criteria.getMaxMonthlyPaymentMinor();
+
+        List<Credit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (types != null && !matches(typeCode(row), types)) {
+                continue;
+            }
+            if (amountBounded) {
+                long amount = amountMinor(row);
+                if (amount == NULL_MONEY || amount < minAmount || amount > maxAmount) {
+                    continue;
+                }
+            }
+            if (termMonths(row) < minTerm || (maxPayment >= 0 && monthlyPaymentMinor(row) > maxPayment)) {
+                continue;
+            }
+            byte flagBits = flags(row);
+            if (criteria.matchesFlags((flagBits & EARLY_REPAYMENT) != 0, (flagBits & CREDIT_LINE_INCREASE) != 0)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    // LTV і частка першого внеску рахуються з рядка у сотих відсотка - так само,
+    // як MortgageCredit (ділення з 4 знаками HALF_UP)
+    @Override
+    public List<MortgageCredit> findMortgagesByLtvBand(LtvBand band, String propertyType,
+                                                       BigDecimal minDownPaymentRatio) {
+        String typeKey = propertyType == null ? null : propertyType.toUpperCase(Locale.ROOT);
+        boolean[] typeMask = typeKey == null ? null
+                : strings.matching(value -> value.toUpperCase(Locale.ROOT).equals(typeKey));
+        long minRatio = minDownPaymentRatio == null ? Long.MIN_VALUE
+                : boundUnits(minDownPaymentRatio, RoundingMode.CEILING);
+
+        List<MortgageCredit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (kind(row) != KIND_MORTGAGE
+                    || (typeMask != null && !labelMatches(labelCode(row), typeMask, typeKey))
+                    || ltvBand(ratioUnits(amountMinor(row), valueMinor(row))) != band
+                    || ratioUnits(secondValueMinor(row), valueMinor(row)) < minRatio) {
+                continue;
+            }
+            result.add((MortgageCredit) materialize(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<CarCredit> findCarCredits(String carBrand, String carModel, Integer minYear, Integer maxYear,
+                                          Boolean newCar, BigDecimal maxFinancedToValue) {
+        String brandKey = carBrand == null ? null : carBrand.toLowerCase(Locale.ROOT);
+        String modelKey = carModel == null ? null : carModel.toLowerCase(Locale.ROOT);
+        boolean[] brandMask = brandKey == null ? null
+                : strings.matching(value -> value.toLowerCase(Locale.ROOT).equals(brandKey));
+        boolean[] modelMask = modelKey == null ? null
+                : strings.matching(value -> value.toLowerCase(Locale.ROOT).equals(modelKey));
+        long maxRatio = maxFinancedToValue == null ? Long.MAX_VALUE
+                : boundUnits(maxFinancedToValue, RoundingMode.FLOOR);
+
+        List<CarCredit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (kind(row) != KIND_CAR
+                    || (brandMask != null && !labelMatches(labelCode(row), brandMask, brandKey))
+                    || (modelMask != null && !labelMatches(secondLabelCode(row), modelMask, modelKey))
+                    || (minYear != null && year(row) < minYear)
+                    || (maxYear != null && year(row) > maxYear)
+                    || (newCar != null && ((flags(row) & EXTRA_FLAG) != 0) != newCar)
+                    || ratioUnits(amountMinor(row), valueMinor(row)) > maxRatio) {
+                continue;
+            }
+            result.add((CarCredit) materialize(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<CarCredit> findCarCreditsByFinancedToValue(BigDecimal min, BigDecimal max) {
+        long minRatio = min == null ? Long.MIN_VALUE : boundUnits(min, RoundingMode.CEILING);
+        long maxRatio = max == null ? Long.MAX_VALUE : boundUnits(max, RoundingMode.FLOOR);
+        int count = rowCount();
+        List<Integer> rows = new ArrayList<>();
+        long[] ratios = new long[count];
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (kind(row) == KIND_CAR) {
+                ratios[row] = ratioUnits(amountMinor(row), valueMinor(row));
+                if (ratios[row] >= minRatio && ratios[row] <= maxRatio) {
+                    rows.add(row);
+                }
+            }
+        }
+        rows.sort((left, right) -> Long.compare(ratios[left], ratios[right]));
+
+        List<CarCredit> result = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            result.add((CarCredit) materialize(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ConsumerCredit> findConsumerCredits(String purpose, Boolean requiresCollateral,
+                                                    BigDecimal minMaxAmount) {
+        String purposeKey = purpose == null ? null : purpose.toUpperCase(Locale.ROOT);
+        boolean[] purposeMask = purposeKey == null ? null
+                : strings.matching(value -> value.toUpperCase(Locale.ROOT).equals(purposeKey));
+        long minLimit = minMaxAmount == null ? Long.MIN_VALUE
+                : boundUnits(minMaxAmount.max(BigDecimal.ZERO), RoundingMode.CEILING);
+
+        List<ConsumerCredit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (kind(row) != KIND_CONSUMER
+                    || (purposeMask != null && !labelMatches(labelCode(row), purposeMask, purposeKey))
+                    || (requiresCollateral != null && ((flags(row) & EXTRA_FLAG) != 0) != requiresCollateral)
+                    || (minMaxAmount != null && (valueMinor(row) == NULL_MONEY || valueMinor(row) < minLimit))) {
+                continue;
+            }
+            result.add((ConsumerCredit) materialize(row));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ConsumerCredit> findConsumerCreditsOverLimit() {
+        List<ConsumerCredit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (kind(row) == KIND_CONSUMER && (amountMinor(row) == NULL_MONEY || valueMinor(row) == NULL_MONEY
+                    || amountMinor(row) > valueMinor(row))) {
+                result.add((ConsumerCredit) materialize(row));
+            }
+        }
+        return result;
+    }
+
+    // Колонки для BatchPaymentCalculator беруться прямо з рядків, без створення Credit
+    @Override
+    public CreditColumns toColumns() {
+        int count = rowCount();
+        CreditColumns columns = new CreditColumns(size());
+        int index = 0;
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            columns.getIds()[index] = id(row);
+            columns.getAmountMinor()[index] = amountMinor(row) == NULL_MONEY ? 0 : amountMinor(row);
+            columns.getRateBasisPoints()[index] = rateScale(row) == NULL_SCALE ? 0
+                    : FixedPointMoney.toBasisPoints(BigDecimal.valueOf(rateUnscaled(row), rateScale(row)));
+            columns.getTermMonths()[index] = termMonths(row);
+            index++;
+        }
+        return columns;
+    }
+
+    // Рядок тільки позначається видаленим; зсув - у рідкісному ущільненні
+    @Override
+    public void removeCredit(String id) {
+        int row = rowOf(id);
+        if (row >= 0) {
+            removeRow(row);
+            compactIfSparse();
+            version++;
+        }
+    }
+
+    // Незмінного знімка немає - запити йдуть до самого каталогу
+    @Override
+    public CreditCatalog currentVersion() {
+        return this;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void clear() {
+        truncate(0);
+        resetIdTable(0);
+        idEntries = 0;
+        dead.clear();
+        deadCount = 0;
+        banks.clear();
+        strings.clear();
+        version++;
+    }
+
+    @Override
+    public int size() {
+        return rowCount() - deadCount;
+    }
+
+    // ---- Кодування і відновлення ----
+
+    private EncodedCredit encode(Credit credit) {
+        EncodedCredit row = new EncodedCredit();
+        row.id = credit.getId();
+        row.kind = kindOf(credit);
+        row.amountMinor = minorUnits(credit.getAmount());
+        row.amountScale = scaleOf(credit.getAmount());
+        BigDecimal rate = credit.getInterestRate();
+        row.rateUnscaled = rate == null ? 0 : rateUnscaled(rate);
+        row.rateScale = rate == null ? NULL_SCALE : scaleOf(rate);
+        row.termMonths = credit.getTermMonths();
+        row.startDay = credit.getStartDate() == null ? NULL_DATE
+                : Math.toIntExact(credit.getStartDate().toEpochDay());
+        row.flags = (byte) ((credit.isEarlyRepaymentAllowed() ? EARLY_REPAYMENT : 0)
+                | (credit.isCreditLineIncreaseAllowed() ? CREDIT_LINE_INCREASE : 0));
+        row.monthlyPaymentMinor = credit.calculateMonthlyPaymentMinor();
+
+        BigDecimal value = null;
+        BigDecimal secondValue = null;
+        String label = null;
+        String secondLabel = null;
+        if (row.kind == KIND_MORTGAGE) {
+            MortgageCredit mortgage = (MortgageCredit) credit;
+            value = mortgage.getPropertyValue();
+            secondValue = mortgage.getDownPayment();
+            label = mortgage.getPropertyType();
+        } else if (row.kind == KIND_CONSUMER) {
+            ConsumerCredit consumer = (ConsumerCredit) credit;
+            value = consumer.getMaxAmount();
+            label = consumer.getPurpose();
+            row.flags |= consumer.isRequiresCollateral() ? EXTRA_FLAG : 0;
+        } else if (row.kind == KIND_CAR) {
+            CarCredit car = (CarCredit) credit;
+            value = car.getCarValue();
+            label = car.getCarBrand();
+            secondLabel = car.getCarModel();
+            row.year = car.getCarYear();
+            row.flags |= car.isNewCar() ? EXTRA_FLAG : 0;
+        }
+        row.valueMinor = minorUnits(value);
+        row.valueScale = scaleOf(value);
+        row.secondValueMinor = minorUnits(secondValue);
+        row.secondValueScale = scaleOf(secondValue);
+
+        // Словники змінюються тільки після всіх перевірок
+        row.typeCode = strings.encode(credit.getCreditType());
+        row.bankCode = banks.encode(credit.getBank());
+        row.labelCode = strings.encode(label);
+        row.secondLabelCode = strings.encode(secondLabel);
+        return row;
+    }
+
+    Credit materialize(int row) {
+        String id = id(row);
+        Bank bank = banks.decode(bankCode(row));
+        String creditType = strings.decode(typeCode(row));
+        BigDecimal amount = money(amountMinor(row), amountScale(row));
+        BigDecimal rate = rateScale(row) == NULL_SCALE ? null : BigDecimal.valueOf(rateUnscaled(row), rateScale(row));
+        int term = termMonths(row);
+        byte flagBits = flags(row);
+        boolean early = (flagBits & EARLY_REPAYMENT) != 0;
+        boolean increase = (flagBits & CREDIT_LINE_INCREASE) != 0;
+        boolean extra = (flagBits & EXTRA_FLAG) != 0;
+
+        Credit credit;
+        switch (kind(row)) {
+            case KIND_MORTGAGE:
+                credit = new MortgageCredit(id, bank, amount, rate, term, early, increase,
+                        money(valueMinor(row), valueScale(row)), money(secondValueMinor(row), secondValueScale(row)),
+                        strings.decode(labelCode(row)));
+                break;
+            case KIND_CONSUMER:
+                credit = new ConsumerCredit(id, bank, amount, rate, term, early, increase,
+                        strings.decode(labelCode(row)), extra, money(valueMinor(row), valueScale(row)));
+                break;
+            case KIND_CAR:
+                credit = new CarCredit(id, bank, amount, rate, term, early, increase,
+                        strings.decode(labelCode(row)), strings.decode(secondLabelCode(row)), year(row),
+                        money(valueMinor(row), valueScale(row)), extra);
+                break;
+            default:
+                credit = new Credit(id, bank, creditType, amount, rate, term, early, increase);
+        }
+        if (!Objects.equals(credit.getCreditType(), creditType)) {
+            credit.setCreditType(creditType);
+        }
+        int startDay = startDay(row);
+        credit.setStartDate(startDay == NULL_DATE ? null : LocalDate.ofEpochDay(startDay));
+        return credit;
+    }
+
+    // Слот рядка в таблиці id лишається до ущільнення; пошук пропускає видалені рядки
+    private void removeRow(int removed) {
+        dead.set(removed);
+        deadCount++;
+    }
+
+    // Живі рядки зсуваються на місце видалених зі збереженням порядку, таблиця id будується заново
+    private void compactIfSparse() {
+        int count = rowCount();
+        if (count < MIN_COMPACT_ROWS || deadCount <= count / 2) {
+            return;
+        }
+        int target = 0;
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (row != target) {
+                moveRow(row, target);
+            }
+            target++;
+        }
+        truncate(target);
+        dead.clear();
+        deadCount = 0;
+        rebuildIdTable();
+    }
+
+    // Номер живого рядка з таким id або -1
+    private int rowOf(String id) {
+        int size = idTableSize();
+        if (id == null || size == 0) {
+            return -1;
+        }
+        int hash = id.hashCode();
+        for (int slot = spread(hash) & (size - 1); ; slot = (slot + 1) & (size - 1)) {
+            int entry = idSlot(slot);
+            if (entry == 0) {
+                return -1;
+            }
+            int row = entry - 1;
+            if (!dead.get(row) && idHash(row) == hash && idEquals(row, id)) {
+                return row;
+            }
+        }
+    }
+
+    // Таблиця заповнюється не більше ніж наполовину; інакше будується більша
+    private void indexId(int row) {
+        if ((idEntries + 1) * 2L > idTableSize()) {
+            rebuildIdTable();
+        } else {
+            insertId(row);
+        }
+    }
+
+    // Тільки живі рядки, із запасом: після перебудови таблиця заповнена не більше ніж на чверть
+    private void rebuildIdTable() {
+        int live = size();
+        int size = MIN_ID_TABLE_SIZE;
+        while (size < live * 4L) {
+            size <<= 1;
+        }
+        resetIdTable(size);
+        idEntries = 0;
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            insertId(row);
+        }
+    }
+
+    private void insertId(int row) {
+        int mask = idTableSize() - 1;
+        int slot = spread(idHash(row)) & mask;
+        while (idSlot(slot) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        setIdSlot(slot, row + 1);
+        idEntries++;
+    }
+
+    // Старші біти хешу домішуються до молодших, як у HashMap
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private List<Credit> rowsWhere(IntPredicate condition) {
+        List<Credit> result = new ArrayList<>();
+        int count = rowCount();
+        for (int row = dead.nextClearBit(0); row < count; row = dead.nextClearBit(row + 1)) {
+            if (condition.test(row)) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    private boolean[] typeMask(CreditType creditType) {
+        return strings.matching(value -> CreditType.fromString(value) == creditType);
+    }
+
+    private static boolean matches(int code, boolean[] mask) {
+        return code != ColumnDictionary.NULL_CODE && mask[code];
+    }
+
+    // Порожній ключ відповідає рядкам без значення - як у CreditIndex-ах
+    private static boolean labelMatches(int code, boolean[] mask, String key) {
+        return code == ColumnDictionary.NULL_CODE ? key.isEmpty() : mask[code];
+    }
+
+    private static byte kindOf(Credit credit) {
+        Class<?> type = credit.getClass();
+        if (type == Credit.class) {
+            return KIND_CREDIT;
+        }
+        if (type == MortgageCredit.class) {
+            return KIND_MORTGAGE;
+        }
+        if (type == ConsumerCredit.class) {
+            return KIND_CONSUMER;
+        }
+        if (type == CarCredit.class) {
+            return KIND_CAR;
+        }
+        throw new IllegalArgumentException("Unsupported credit class " + type.getName());
+    }
+
+    private static long minorUnits(BigDecimal value) {
+        if (value == null) {
+            return NULL_MONEY;
+        }
+        try {
+            long minor = value.movePointRight(2).longValueExact();
+            if (minor != NULL_MONEY) {
+                return minor;
+            }
+        } catch (ArithmeticException e) {
+            // нижче - спільне повідомлення
+        }
+        throw new IllegalArgumentException("Amount " + value + " cannot be stored in kopecks");
+    }
+
+    private static byte scaleOf(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.scale() <= NULL_SCALE || value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported scale of " + value);
+        }
+        return (byte) value.scale();
+    }
+
+    private static int rateUnscaled(BigDecimal rate) {
+        try {
+            return rate.unscaledValue().intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Interest rate " + rate + " has too many digits");
+        }
+    }
+
+    // Початковий scale відновлюється точно: зайві знаки - нулі, відсутні - були нулями
+    private static BigDecimal money(long minor, byte scale) {
+        return minor == NULL_MONEY ? null : BigDecimal.valueOf(minor, 2).setScale(scale);
+    }
+
+    // Межа запиту в сотих (копійки або соті відсотка) з округленням у бік звуження діапазону
+    private static long boundUnits(BigDecimal bound, RoundingMode mode) {
+        BigDecimal units = bound.movePointRight(2).setScale(0, mode);
+        if (units.unscaledValue().bitLength() < 64) {
+            return units.longValue();
+        }
+        return units.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    // numerator / denominator у сотих відсотка (4 знаки HALF_UP), 0 якщо значень немає
+    private static long ratioUnits(long numerator, long denominator) {
+        if (numerator == NULL_MONEY || denominator == NULL_MONEY || denominator == 0) {
+            return 0;
+        }
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+        return FixedPointMoney.divideHalfUp(Math.multiplyExact(numerator, FixedPointMoney.RATE_UNITS),
+                denominator);
+    }
+
+    private static LtvBand ltvBand(long loanToValueUnits) {
+        if (loanToValueUnits <= 6_000) {
+            return LtvBand.UP_TO_60;
+        }
+        return loanToValueUnits <= 8_000 ? LtvBand.FROM_60_TO_80 : LtvBand.ABOVE_80;
+    }
+}
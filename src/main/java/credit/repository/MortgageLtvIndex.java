@@ -0,0 +1,120 @@
+package credit.repository;
+
+import credit.model.Credit;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Індекс іпотечних кредитів: діапазон LTV -> тип нерухомості -> частка першого внеску
+// LTV і частка внеску рахуються один раз при додаванні, тому запит не ділить BigDecimal
+// і не проходить по всіх кредитах. Якщо після додавання змінити суму, вартість
+// нерухомості або внесок, кредит треба видалити і додати знову
+public class MortgageLtvIndex implements CreditIndex {
+    private final Map<LtvBand, Map<String, NavigableMap<BigDecimal, List<MortgageCredit>>>> bands;
+    // Де лежить кожен кредит - щоб видалення не залежало від поточних значень полів
+    private final Map<MortgageCredit, Position> positions;
+
+    public MortgageLtvIndex() {
+        this.bands = new EnumMap<>(LtvBand.class);
+        for (LtvBand band : LtvBand.values()) {
+            bands.put(band, new HashMap<>());
+        }
+        this.positions = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void add(Credit credit) {
+        if (!(credit instanceof MortgageCredit) || positions.containsKey(credit)) {
+            return;
+        }
+        MortgageCredit mortgage = (MortgageCredit) credit;
+        BigDecimal loanToValue = mortgage.getAmount() == null ? BigDecimal.ZERO : mortgage.calculateLoanToValue();
+        Position position = new Position(LtvBand.of(loanToValue), typeKey(mortgage.getPropertyType()),
+                mortgage.calculateDownPaymentRatio());
+        bands.get(position.band)
+                .computeIfAbsent(position.propertyType, type -> new TreeMap<>())
+                .computeIfAbsent(position.downPaymentRatio, ratio -> new ArrayList<>())
+                .add(mortgage);
+        positions.put(mortgage, position);
+    }
+
+    @Override
+    public void remove(Credit credit) {
+        Position position = positions.remove(credit);
+        if (position == null) {
+            return;
+        }
+        Map<String, NavigableMap<BigDecimal, List<MortgageCredit>>> types = bands.get(position.band);
+        NavigableMap<BigDecimal, List<MortgageCredit>> ratios = types.get(position.propertyType);
+        List<MortgageCredit> mortgages = ratios.get(position.downPaymentRatio);
+        mortgages.removeIf(mortgage -> mortgage == credit);
+        if (mortgages.isEmpty()) {
+            ratios.remove(position.downPaymentRatio);
+            if (ratios.isEmpty()) {
+                types.remove(position.propertyType);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Map<String, NavigableMap<BigDecimal, List<MortgageCredit>>> types : bands.values()) {
+            types.clear();
+        }
+        positions.clear();
+    }
+
+    // Іпотеки в діапазоні LTV; propertyType == null - будь-який тип,
+    // minDownPaymentRatio == null - без обмеження на перший внесок (у відсотках)
+    public List<MortgageCredit> find(LtvBand band, String propertyType, BigDecimal minDownPaymentRatio) {
+        Map<String, NavigableMap<BigDecimal, List<MortgageCredit>>> types = bands.get(band);
+        Collection<NavigableMap<BigDecimal, List<MortgageCredit>>> selected;
+        if (propertyType == null) {
+            selected = types.values();
+        } else {
+            NavigableMap<BigDecimal, List<MortgageCredit>> ratios = types.get(typeKey(propertyType));
+            selected = ratios == null ? List.of() : List.of(ratios);
+        }
+
+        List<MortgageCredit> result = new ArrayList<>();
+        for (NavigableMap<BigDecimal, List<MortgageCredit>> ratios : selected) {
+            Collection<List<MortgageCredit>> matching = minDownPaymentRatio == null ? ratios.values()
+                    : ratios.tailMap(minDownPaymentRatio, true).values();
+            for (List<MortgageCredit> mortgages : matching) {
+                result.addAll(mortgages);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private static String typeKey(String propertyType) {
+        return propertyType == null ? "" : propertyType.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Position {
+        private final LtvBand band;
+        private final String propertyType;
+        private final BigDecimal downPaymentRatio;
+
+        Position(LtvBand band, String propertyType, BigDecimal downPaymentRatio) {
+            this.band = band;
+            this.propertyType = propertyType;
+            this.downPaymentRatio = downPaymentRatio;
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package credit.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+// Бекенд CreditCatalog поза купою: кожен кредит - запис фіксованої довжини (RECORD_SIZE байт)
+// у direct або memory-mapped ByteBuffer, id - в окремій області рядків (Latin-1 або UTF-16).
+// Таблиця id -> рядок (EncodedCreditRepository) - теж у direct-буфері, а хеш id зберігається в записі,
+// тож на купі лишаються тільки словники банків і типів, і поля кредитів майже не впливають на паузи GC.
+// Буфери виділяються сегментами: каталог не копіюється при рості і може бути більшим за 2 ГБ.
+// Місце id видалених кредитів звільняється при ущільненні рядків і при clear();
+// сегменти після цього використовуються знову
+public class OffHeapCreditRepository extends EncodedCreditRepository {
+    static final int RECORD_SIZE = 88;
+    private static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16;
+    private static final int DEFAULT_STRING_SEGMENT_SIZE = 1 << 22;
+
+    // Зміщення полів у записі: спочатку long, потім int, потім byte; хеш id - у вільних байтах в кінці
+    private static final int AMOUNT = 0;
+    private static final int MONTHLY_PAYMENT = 8;
+    private static final int VALUE = 16;
+    private static final int SECOND_VALUE = 24;
+    private static final int ID_ADDRESS = 32;
+    private static final int RATE = 40;
+    private static final int TERM = 44;
+    private static final int START_DAY = 48;
+    private static final int TYPE = 52;
+    private static final int BANK = 56;
+    private static final int LABEL = 60;
+    private static final int SECOND_LABEL = 64;
+    private static final int YEAR = 68;
+    private static final int ID_LENGTH = 72;
+    private static final int KIND = 76;
+    private static final int FLAGS = 77;
+    private static final int AMOUNT_SCALE = 78;
+    private static final int RATE_SCALE = 79;
+    private static final int VALUE_SCALE = 80;
+    private static final int SECOND_VALUE_SCALE = 81;
+    private static final int ID_LATIN1 = 82;
+    private static final int ID_HASH = 84;
+
+    private final IntFunction<ByteBuffer> allocator;
+    private final int recordsPerSegment;
+    private final int segmentShift;
+    private final int stringSegmentSize;
+
+    private ByteBuffer[] records;
+    private int recordSegmentCount;
+    private int size;
+    private ByteBuffer[] strings;
+    private int stringSegmentCount;
+    // Куди пишеться наступний рядок
+    private int stringSegment;
+    private int stringPosition;
+    // Слоти таблиці id; розмір змінюється тільки перебудовою, тому це один буфер, а не сегменти
+    private IntBuffer idTable;
+
+    // Записи в direct-буферах
+    public OffHeapCreditRepository() {
+        this(DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_STRING_SEGMENT_SIZE, ByteBuffer::allocateDirect);
+    }
+
+    OffHeapCreditRepository(int recordsPerSegment, int stringSegmentSize, IntFunction<ByteBuffer> allocator) {
+        if (Integer.bitCount(recordsPerSegment) != 1 || stringSegmentSize <= 0) {
+            throw new IllegalArgumentException("Invalid segment sizes: " + recordsPerSegment + ", "
+                    + stringSegmentSize);
+        }
+        this.allocator = allocator;
+        this.recordsPerSegment = recordsPerSegment;
+        this.segmentShift = Integer.numberOfTrailingZeros(recordsPerSegment);
+        this.stringSegmentSize = stringSegmentSize;
+        this.records = new ByteBuffer[4];
+        this.strings = new ByteBuffer[4];
+        resetIdTable(0);
+    }
+
+    // Записи в memory-mapped файлі: каталог живе в page cache ОС, а не в купі
+    // Файл - робоча область на час роботи процесу, а не формат збереження; його вміст
+    // перезаписується
+    public static OffHeapCreditRepository mapped(Path file) {
+        try {
+            // Створює порожній файл або обрізає наявний
+            Files.write(file, new byte[0]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long[] fileSize = {0};
+        return new OffHeapCreditRepository(DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_STRING_SEGMENT_SIZE, capacity -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, fileSize[0], capacity);
+                fileSize[0] += capacity;
+                return buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    int rowCount() {
+        return size;
+    }
+
+    @Override
+    void appendRow(EncodedCredit row) {
+        boolean latin1 = isLatin1(row.id);
+        long idAddress = writeString(row.id, latin1);
+        int segmentIndex = size >>> segmentShift;
+        if (segmentIndex == recordSegmentCount) {
+            records = appendSegment(records, recordSegmentCount++, recordsPerSegment * RECORD_SIZE);
+        }
+        ByteBuffer segment = records[segmentIndex];
+        int offset = offset(size);
+        segment.putLong(offset + AMOUNT, row.amountMinor);
+        segment.putLong(offset + MONTHLY_PAYMENT, row.monthlyPaymentMinor);
+        segment.putLong(offset + VALUE, row.valueMinor);
+        segment.putLong(offset + SECOND_VALUE, row.secondValueMinor);
+        segment.putLong(offset + ID_ADDRESS, idAddress);
+        segment.putInt(offset + RATE, row.rateUnscaled);
+        segment.putInt(offset + TERM, row.termMonths);
+        segment.putInt(offset + START_DAY, row.startDay);
+        segment.putInt(offset + TYPE, row.typeCode);
+        segment.putInt(offset + BANK, row.bankCode);
+        segment.putInt(offset + LABEL, row.labelCode);
+        segment.putInt(offset + SECOND_LABEL, row.secondLabelCode);
+        segment.putInt(offset + YEAR, row.year);
+        segment.putInt(offset + ID_LENGTH, row.id.length());
+        segment.put(offset + KIND, row.kind);
+        segment.put(offset + FLAGS, row.flags);
+        segment.put(offset + AMOUNT_SCALE, row.amountScale);
+        segment.put(offset + RATE_SCALE, row.rateScale);
+        segment.put(offset + VALUE_SCALE, row.valueScale);
+        segment.put(offset + SECOND_VALUE_SCALE, row.secondValueScale);
+        segment.put(offset + ID_LATIN1, (byte) (latin1 ? 1 : 0));
+        segment.putInt(offset + ID_HASH, row.id.hashCode());
+        size++;
+    }
+
+    @Override
+    void moveRow(int from, int to) {
+        ByteBuffer source = records[from >>> segmentShift];
+        ByteBuffer target = records[to >>> segmentShift];
+        int sourceOffset = offset(from);
+        int targetOffset = offset(to);
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+    }
+
+    // Викликається після ущільнення рядків і з clear(): id рядків, що лишилися, переписуються
+    // з початку області рядків, і місце id видалених кредитів використовується знову.
+    // id лежать в області в порядку записів, тому нова адреса ніколи не більша за стару
+    // і копіювання вперед не затирає ще не перенесені байти
+    @Override
+    void truncate(int rowCount) {
+        size = rowCount;
+        stringSegment = 0;
+        stringPosition = 0;
+        for (int row = 0; row < rowCount; row++) {
+            ByteBuffer segment = records[row >>> segmentShift];
+            int offset = offset(row);
+            long source = segment.getLong(offset + ID_ADDRESS);
+            int bytes = segment.getInt(offset + ID_LENGTH)
+                    * (segment.get(offset + ID_LATIN1) != 0 ? 1 : Character.BYTES);
+            long target = reserveString(bytes);
+            if (target != source) {
+                ByteBuffer from = strings[(int) (source >>> 32)];
+                ByteBuffer to = strings[(int) (target >>> 32)];
+                for (int i = 0; i < bytes; i++) {
+                    to.put((int) target + i, from.get((int) source + i));
+                }
+                segment.putLong(offset + ID_ADDRESS, target);
+            }
+        }
+    }
+
+    @Override
+    String id(int row) {
+        ByteBuffer segment = records[row >>> segmentShift];
+        int offset = offset(row);
+        long address = segment.getLong(offset + ID_ADDRESS);
+        ByteBuffer area = strings[(int) (address >>> 32)];
+        int position = (int) address;
+        int length = segment.getInt(offset + ID_LENGTH);
+        char[] chars = new char[length];
+        if (segment.get(offset + ID_LATIN1) != 0) {
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) (area.get(position + i) & 0xFF);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[i] = area.getChar(position + i * Character.BYTES);
+            }
+        }
+        return new String(chars);
+    }
+
+    @Override
+    int idHash(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + ID_HASH);
+    }
+
+    @Override
+    boolean idEquals(int row, String id) {
+        ByteBuffer segment = records[row >>> segmentShift];
+        int offset = offset(row);
+        int length = segment.getInt(offset + ID_LENGTH);
+        if (length != id.length()) {
+            return false;
+        }
+        long address = segment.getLong(offset + ID_ADDRESS);
+        ByteBuffer area = strings[(int) (address >>> 32)];
+        int position = (int) address;
+        boolean latin1 = segment.get(offset + ID_LATIN1) != 0;
+        for (int i = 0; i < length; i++) {
+            char stored = latin1 ? (char) (area.get(position + i) & 0xFF)
+                    : area.getChar(position + i * Character.BYTES);
+            if (stored != id.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    int idTableSize() {
+        return idTable.capacity();
+    }
+
+    // Таблиця завжди в direct-буфері, навіть для каталогу в файлі: після перебудови стара
+    // таблиця не потрібна, а область файлу звільнити не можна
+    @Override
+    void resetIdTable(int size) {
+        idTable = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    @Override
+    int idSlot(int slot) {
+        return idTable.get(slot);
+    }
+
+    @Override
+    void setIdSlot(int slot, int entry) {
+        idTable.put(slot, entry);
+    }
+
+    @Override
+    byte kind(int row) {
+        return records[row >>> segmentShift].get(offset(row) + KIND);
+    }
+
+    @Override
+    int typeCode(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + TYPE);
+    }
+
+    @Override
+    int bankCode(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + BANK);
+    }
+
+    @Override
+    long amountMinor(int row) {
+        return records[row >>> segmentShift].getLong(offset(row) + AMOUNT);
+    }
+
+    @Override
+    byte amountScale(int row) {
+        return records[row >>> segmentShift].get(offset(row) + AMOUNT_SCALE);
+    }
+
+    @Override
+    int rateUnscaled(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + RATE);
+    }
+
+    @Override
+    byte rateScale(int row) {
+        return records[row >>> segmentShift].get(offset(row) + RATE_SCALE);
+    }
+
+    @Override
+    int termMonths(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + TERM);
+    }
+
+    @Override
+    byte flags(int row) {
+        return records[row >>> segmentShift].get(offset(row) + FLAGS);
+    }
+
+    @Override
+    int startDay(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + START_DAY);
+    }
+
+    @Override
+    long monthlyPaymentMinor(int row) {
+        return records[row >>> segmentShift].getLong(offset(row) + MONTHLY_PAYMENT);
+    }
+
+    @Override
+    long valueMinor(int row) {
+        return records[row >>> segmentShift].getLong(offset(row) + VALUE);
+    }
+
+    @Override
+    byte valueScale(int row) {
+        return records[row >>> segmentShift].get(offset(row) + VALUE_SCALE);
+    }
+
+    @Override
+    long secondValueMinor(int row) {
+        return records[row >>> segmentShift].getLong(offset(row) + SECOND_VALUE);
+    }
+
+    @Override
+    byte secondValueScale(int row) {
+        return records[row >>> segmentShift].get(offset(row) + SECOND_VALUE_SCALE);
+    }
+
+    @Override
+    int labelCode(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + LABEL);
+    }
+
+    @Override
+    int secondLabelCode(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + SECOND_LABEL);
+    }
+
+    @Override
+    int year(int row) {
+        return records[row >>> segmentShift].getInt(offset(row) + YEAR);
+    }
+
+    // Скільки байт займають сегменти записів і рядків, виділені allocator-ом (без таблиці id)
+    public long allocatedBytes() {
+        return (long) recordSegmentCount * recordsPerSegment * RECORD_SIZE
+                + (long) stringSegmentCount * stringSegmentSize;
+    }
+
+    // Скільки байт області рядків зайнято, включно з id видалених, ще не ущільнених кредитів
+    long usedStringBytes() {
+        return (long) stringSegment * stringSegmentSize + stringPosition;
+    }
+
+    private int offset(int row) {
+        return (row & (recordsPerSegment - 1)) * RECORD_SIZE;
+    }
+
+    private long writeString(String value, boolean latin1) {
+        int bytes = latin1 ? value.length() : value.length() * Character.BYTES;
+        if (bytes > stringSegmentSize) {
+            throw new IllegalArgumentException("Credit id is too long: " + value.length() + " characters");
+        }
+        long address = reserveString(bytes);
+        ByteBuffer area = strings[(int) (address >>> 32)];
+        int position = (int) address;
+        for (int i = 0; i < value.length(); i++) {
+            if (latin1) {
+                area.put(position + i, (byte) value.charAt(i));
+            } else {
+                area.putChar(position + i * Character.BYTES, value.charAt(i));
+            }
+        }
+        return address;
+    }
+
+    // Адреса місця для bytes байт: номер сегмента в старших 32 бітах, позиція - в молодших.
+    // Рядок не перетинає межу сегмента - якщо не вміщається, береться наступний сегмент
+    private long reserveString(int bytes) {
+        if (stringSegment == stringSegmentCount || stringPosition + bytes > stringSegmentSize) {
+            if (stringSegment < stringSegmentCount && stringPosition > 0) {
+                stringSegment++;
+            }
+            if (stringSegment == stringSegmentCount) {
+                strings = appendSegment(strings, stringSegmentCount++, stringSegmentSize);
+            }
+            stringPosition = 0;
+        }
+        long address = ((long) stringSegment << 32) | stringPosition;
+        stringPosition += bytes;
+        return address;
+    }
+
+    private ByteBuffer[] appendSegment(ByteBuffer[] segments, int index, int capacity) {
+        ByteBuffer[] result = index == segments.length ? Arrays.copyOf(segments, index * 2) : segments;
+        result[index] = allocator.apply(capacity).order(ByteOrder.nativeOrder());
+        return result;
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
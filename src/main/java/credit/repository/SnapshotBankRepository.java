@@ -0,0 +1,106 @@
+package credit.repository;
+
+import credit.model.Bank;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Режим BankRepository для конкурентного доступу, як SnapshotCreditRepository для кредитів:
+// читачі працюють з незмінною поточною версією (volatile-посилання) без блокувань,
+// записи серіалізуються, копіюють банки в нову версію і публікують її.
+// Банків небагато, тому копіювання на запис дешеве. view() і forEach не копіюють список
+public class SnapshotBankRepository extends BankRepository {
+    private volatile BankRepository current;
+
+    public SnapshotBankRepository() {
+        this.current = new BankRepository();
+    }
+
+    // Пакетна зміна: changes отримує нову версію з усіма поточними банками
+    public synchronized void update(Consumer<BankRepository> changes) {
+        BankRepository next = new BankRepository();
+        for (Bank bank : current.view()) {
+            next.addBank(bank);
+        }
+        changes.accept(next);
+        current = next;
+    }
+
+    @Override
+    public void addBank(Bank bank) {
+        if (bank != null && bank.getName() != null) {
+            update(next -> next.addBank(bank));
+        }
+    }
+
+    // Рівний банк шукається без блокування; новий додається під блокуванням записів
+    @Override
+    public Bank canonicalize(Bank bank) {
+        if (bank == null || bank.getName() == null) {
+            return bank;
+        }
+        Bank canonical = current.findCanonical(bank);
+        if (canonical != null) {
+            return canonical;
+        }
+        synchronized (this) {
+            canonical = current.findCanonical(bank);
+            if (canonical == null) {
+                addBank(bank);
+                canonical = bank;
+            }
+            return canonical;
+        }
+    }
+
+    @Override
+    Bank findCanonical(Bank bank) {
+        return current.findCanonical(bank);
+    }
+
+    @Override
+    public Optional<Bank> findByName(String name) {
+        return current.findByName(name);
+    }
+
+    @Override
+    public Optional<Bank> findByLicenseNumber(String licenseNumber) {
+        return current.findByLicenseNumber(licenseNumber);
+    }
+
+    @Override
+    public List<Bank> findAll() {
+        return current.findAll();
+    }
+
+    @Override
+    public List<Bank> view() {
+        return current.view();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Bank> action) {
+        current.forEach(action);
+    }
+
+    @Override
+    public List<Bank> findByMinRating(double minRating) {
+        return current.findByMinRating(minRating);
+    }
+
+    @Override
+    public void removeBank(String name) {
+        update(next -> next.removeBank(name));
+    }
+
+    @Override
+    public void clear() {
+        update(BankRepository::clear);
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+}
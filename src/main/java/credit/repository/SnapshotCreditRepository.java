@@ -0,0 +1,260 @@
+package credit.repository;
+
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Режим CreditRepository для конкурентного доступу: каталог - це ланцюжок незмінних версій
+// (CatalogVersion). Кожен запит читає одне volatile-посилання на поточну версію і далі працює
+// з нею без блокувань, тому бачить узгоджений стан навіть під час запису.
+// Записи серіалізуються між собою: будують наступну версію зі знімків кредитів
+// і атомарно публікують її. Вартість запису - O(n), тому зміни варто групувати в update(),
+// addAll() або importer(). view*() і forEach читають версію без копіювання (тільки для читання);
+// подання належить версії, з якої його взяли, і не бачить пізніших записів.
+// Сам репозиторій не зберігає кредитів - всі запити делегуються поточній версії
+public class SnapshotCreditRepository implements CreditCatalog {
+    private volatile CatalogVersion current;
+    // Знімки банків останньої публікації за вихідними (змінними) банками; тільки для записів
+    private Map<Bank, Bank> bankSnapshots;
+
+    public SnapshotCreditRepository() {
+        this.current = new CatalogVersion(0, List.of());
+        this.bankSnapshots = new IdentityHashMap<>();
+    }
+
+    @Override
+    public CatalogVersion currentVersion() {
+        return current;
+    }
+
+    @Override
+    public long getVersion() {
+        return current.getVersion();
+    }
+
+    // Пакетна зміна: changes отримує змінну копію списку кредитів поточної версії
+    // (самі кредити - знімки, тож для переоцінки їх замінюють на змінені copy()).
+    // Після повернення всі кредити перетворюються на знімки, а результат публікується
+    // однією новою версією. Кредити без id відкидаються, як і в addCredit
+    public synchronized void update(Consumer<List<Credit>> changes) {
+        List<Credit> draft = new ArrayList<>(current.view());
+        changes.accept(draft);
+        publish(draft);
+    }
+
+    // Замінює весь каталог однією версією
+    public synchronized void replaceAll(Collection<? extends Credit> credits) {
+        publish(new ArrayList<>(credits));
+    }
+
+    // Додає всі кредити однією новою версією
+    public void addAll(Collection<? extends Credit> credits) {
+        update(draft -> draft.addAll(credits));
+    }
+
+    // Запис для імпорту: кредити накопичуються і публікуються пакетами по batchSize,
+    // а не окремою версією на кожен. Решта публікується у flush() / close()
+    public Importer importer(int batchSize) {
+        return new Importer(batchSize);
+    }
+
+    @Override
+    public void addCredit(Credit credit) {
+        if (credit != null && credit.getId() != null) {
+            update(credits -> credits.add(credit));
+        }
+    }
+
+    @Override
+    public void removeCredit(String id) {
+        update(credits -> credits.removeIf(credit -> credit.getId().equals(id)));
+    }
+
+    @Override
+    public void clear() {
+        update(List::clear);
+    }
+
+    // Кредити і їхні банки перетворюються на знімки: банк, спільний для кількох кредитів,
+    // стає одним знімком, і той самий знімок береться в наступних версіях, поки банк не змінився.
+    // Знімки кредитів з попередньої версії переходять без копіювання
+    private void publish(List<Credit> credits) {
+        List<Credit> snapshots = new ArrayList<>(credits.size());
+        Map<Bank, Bank> banks = new IdentityHashMap<>();
+        for (Credit credit : credits) {
+            if (credit != null && credit.getId() != null) {
+                snapshots.add(snapshot(credit, banks));
+            }
+        }
+        bankSnapshots = banks;
+        current = new CatalogVersion(current.getVersion() + 1, snapshots);
+    }
+
+    private Credit snapshot(Credit credit, Map<Bank, Bank> banks) {
+        Bank bank = credit.getBank();
+        if (bank == null || bank.isSnapshot()) {
+            return credit.snapshot();
+        }
+        Credit draft = credit.copy();
+        draft.setBank(banks.computeIfAbsent(bank, original -> {
+            Bank previous = bankSnapshots.get(original);
+            return previous != null && previous.equals(original) ? previous : original.snapshot();
+        }));
+        return draft.snapshot();
+    }
+
+    @Override
+    public Optional<Credit> findById(String id) {
+        return current.findById(id);
+    }
+
+    @Override
+    public List<Credit> findAll() {
+        return current.findAll();
+    }
+
+    @Override
+    public Collection<Credit> view() {
+        return current.view();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Credit> action) {
+        current.forEach(action);
+    }
+
+    @Override
+    public Collection<Credit> viewByBankName(String bankName) {
+        return current.viewByBankName(bankName);
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(String creditType) {
+        return current.viewByCreditType(creditType);
+    }
+
+    @Override
+    public Collection<Credit> viewByCreditType(CreditType creditType) {
+        return current.viewByCreditType(creditType);
+    }
+
+    @Override
+    public List<Credit> findByBankName(String bankName) {
+        return current.findByBankName(bankName);
+    }
+
+    @Override
+    public List<Credit> findByCreditType(String creditType) {
+        return current.findByCreditType(creditType);
+    }
+
+    @Override
+    public List<Credit> findByCreditType(CreditType creditType) {
+        return current.findByCreditType(creditType);
+    }
+
+    @Override
+    public List<Credit> findByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+        return current.findByAmountRange(minAmount, maxAmount);
+    }
+
+    @Override
+    public List<Credit> findWithEarlyRepayment() {
+        return current.findWithEarlyRepayment();
+    }
+
+    @Override
+    public List<Credit> findWithCreditLineIncrease() {
+        return current.findWithCreditLineIncrease();
+    }
+
+    @Override
+    public List<Credit> findMatching(CreditCriteria criteria) {
+        return current.findMatching(criteria);
+    }
+
+    @Override
+    public List<MortgageCredit> findMortgagesByLtvBand(LtvBand band, String propertyType,
+                                                       BigDecimal minDownPaymentRatio) {
+        return current.findMortgagesByLtvBand(band, propertyType, minDownPaymentRatio);
+    }
+
+    @Override
+    public List<CarCredit> findCarCredits(String carBrand, String carModel, Integer minYear, Integer maxYear,
+                                          Boolean newCar, BigDecimal maxFinancedToValue) {
+        return current.findCarCredits(carBrand, carModel, minYear, maxYear, newCar, maxFinancedToValue);
+    }
+
+    @Override
+    public List<CarCredit> findCarCreditsByFinancedToValue(BigDecimal min, BigDecimal max) {
+        return current.findCarCreditsByFinancedToValue(min, max);
+    }
+
+    @Override
+    public List<ConsumerCredit> findConsumerCredits(String purpose, Boolean requiresCollateral,
+                                                    BigDecimal minMaxAmount) {
+        return current.findConsumerCredits(purpose, requiresCollateral, minMaxAmount);
+    }
+
+    @Override
+    public List<ConsumerCredit> findConsumerCreditsOverLimit() {
+        return current.findConsumerCreditsOverLimit();
+    }
+
+    @Override
+    public CreditColumns toColumns() {
+        return current.toColumns();
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    // Буфер одного імпортера; використовується з одного потоку.
+    // Читачі бачать тільки опубліковані пакети
+    public final class Importer implements AutoCloseable {
+        private final int batchSize;
+        private final List<Credit> pending;
+
+        private Importer(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            this.pending = new ArrayList<>(batchSize);
+        }
+
+        public void add(Credit credit) {
+            pending.add(credit);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        public void flush() {
+            if (!pending.isEmpty()) {
+                addAll(pending);
+                pending.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package credit.service;
+
+import credit.model.FixedPointMoney;
+import credit.repository.CreditColumns;
+
+import java.util.stream.IntStream;
+
+// Пакетний розрахунок платежів для всього каталогу
+// Працює з паралельними масивами (сума, ставка, термін) замість об'єктів Credit:
+// один прохід по масивах без алокацій, великі масиви діляться на блоки
+// і рахуються на всіх ядрах
+public class BatchPaymentCalculator {
+    // Менші масиви рахуємо в одному потоці - паралелізм не окупиться
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    static final int CHUNK_SIZE = 1 << 14;
+
+    // Рахує щомісячні та загальні платежі для всіх рядків колонок
+    public void calculate(CreditColumns columns) {
+        calculate(columns.getAmountMinor(), columns.getRateBasisPoints(), columns.getTermMonths(),
+                columns.getMonthlyPaymentMinor(), columns.getTotalPaymentMinor());
+    }
+
+    // Результати в копійках записуються в monthlyOut і totalOut
+    public void calculate(long[] amountMinor, int[] rateBasisPoints, int[] termMonths,
+                          long[] monthlyOut, long[] totalOut) {
+        int size = amountMinor.length;
+        if (rateBasisPoints.length != size || termMonths.length != size
+                || monthlyOut.length != size || totalOut.length != size) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+
+        if (size < PARALLEL_THRESHOLD) {
+            calculateRange(amountMinor, rateBasisPoints, termMonths, monthlyOut, totalOut, 0, size);
+            return;
+        }
+
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, size);
+            calculateRange(amountMinor, rateBasisPoints, termMonths, monthlyOut, totalOut, from, to);
+        });
+    }
+
+    private static void calculateRange(long[] amountMinor, int[] rateBasisPoints, int[] termMonths,
+                                       long[] monthlyOut, long[] totalOut, int from, int to) {
+        // Дорогий Math.pow рахуємо тільки коли змінюється пара (ставка, термін) -
+        // каталог зазвичай містить довгі серії однакових умов
+        int lastRate = Integer.MIN_VALUE;
+        int lastTerm = Integer.MIN_VALUE;
+        long factor = -1;
+
+        for (int i = from; i < to; i++) {
+            int rate = rateBasisPoints[i];
+            int term = termMonths[i];
+            long amount = amountMinor[i];
+
+            if (term <= 0) {
+                monthlyOut[i] = 0;
+                totalOut[i] = 0;
+                continue;
+            }
+            if (rate != lastRate || term != lastTerm) {
+                factor = FixedPointMoney.annuityFactorUnits(FixedPointMoney.monthlyRateUnits(rate), term);
+                lastRate = rate;
+                lastTerm = term;
+            }
+
+            monthlyOut[i] = FixedPointMoney.monthlyPaymentMinorForFactor(amount, factor, term);
+            totalOut[i] = FixedPointMoney.totalPaymentMinorForFactor(amount, factor, term);
+        }
+    }
+}
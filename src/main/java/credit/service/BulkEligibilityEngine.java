@@ -0,0 +1,109 @@
+package credit.service;
+
+import credit.model.AffordabilityMatrix;
+import credit.model.Client;
+import credit.repository.CreditColumns;
+import credit.repository.CreditCatalog;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Пакетна попередня кваліфікація: які кредити каталогу доступні кожному з багатьох клієнтів
+// Та сама умова, що й Client.isEligibleForCredit(long): платіж <= 40% доходу і рейтинг >= 600.
+// Замість BigDecimal на кожну пару (клієнт, кредит):
+//  - платежі каталогу рахуються один раз (BatchPaymentCalculator) в копійках;
+//  - межа платежу і перевірка рейтингу - один раз на клієнта;
+//  - для кожного клієнта один прохід по масиву платежів заповнює бітову карту без розгалужень.
+// Клієнти діляться на блоки і обробляються паралельно
+public class BulkEligibilityEngine {
+    // Менше пар (клієнт, кредит) рахуємо в одному потоці
+    static final long PARALLEL_THRESHOLD = 1L << 22;
+    static final int CLIENT_CHUNK = 256;
+
+    private final CreditCatalog creditRepository;
+    private final BatchPaymentCalculator paymentCalculator;
+
+    public BulkEligibilityEngine(CreditCatalog creditRepository) {
+        this.creditRepository = creditRepository;
+        this.paymentCalculator = new BatchPaymentCalculator();
+    }
+
+    // Карти доступності для поточної версії каталогу; рядок i - clients.get(i).
+    // Пам'ять результату - clients x кредити / 8 байт, тож мільйони клієнтів
+    // варто подавати частинами
+    public AffordabilityMatrix evaluate(List<Client> clients) {
+        CreditColumns columns = creditRepository.currentVersion().toColumns();
+        paymentCalculator.calculate(columns);
+        return evaluate(clients, columns.getIds(), columns.getMonthlyPaymentMinor());
+    }
+
+    // Для вже порахованих платежів каталогу (копійки, рядок j - creditIds[j])
+    public AffordabilityMatrix evaluate(List<Client> clients, String[] creditIds, long[] monthlyPaymentMinor) {
+        if (creditIds.length != monthlyPaymentMinor.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        int clientCount = clients.size();
+        String[] clientIds = new String[clientCount];
+        long[] ceilings = new long[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            Client client = clients.get(i);
+            clientIds[i] = client == null ? null : client.getId();
+            // -1 - клієнт не проходить за доходом чи рейтингом, жоден кредит не доступний
+            ceilings[i] = client != null && client.isEligibleForCredit(0) ? client.getPaymentCeilingMinor() : -1;
+        }
+
+        int wordsPerClient = AffordabilityMatrix.wordsFor(creditIds.length);
+        long[] words = new long[Math.multiplyExact(clientCount, wordsPerClient)];
+        long minPayment = Long.MAX_VALUE;
+        long maxPayment = Long.MIN_VALUE;
+        for (long payment : monthlyPaymentMinor) {
+            minPayment = Math.min(minPayment, payment);
+            maxPayment = Math.max(maxPayment, payment);
+        }
+        long min = minPayment;
+        long max = maxPayment;
+
+        if ((long) clientCount * creditIds.length < PARALLEL_THRESHOLD) {
+            sweep(ceilings, monthlyPaymentMinor, min, max, words, wordsPerClient, 0, clientCount);
+        } else {
+            int chunks = (clientCount + CLIENT_CHUNK - 1) / CLIENT_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * CLIENT_CHUNK;
+                int to = Math.min(from + CLIENT_CHUNK, clientCount);
+                sweep(ceilings, monthlyPaymentMinor, min, max, words, wordsPerClient, from, to);
+            });
+        }
+        return new AffordabilityMatrix(clientIds, creditIds, words);
+    }
+
+    private static void sweep(long[] ceilings, long[] payments, long minPayment, long maxPayment,
+                              long[] words, int wordsPerClient, int fromClient, int toClient) {
+        int size = payments.length;
+        for (int client = fromClient; client < toClient; client++) {
+            long ceiling = ceilings[client];
+            int offset = client * wordsPerClient;
+            if (ceiling < 0 || ceiling < minPayment) {
+                continue;
+            }
+            if (ceiling >= maxPayment) {
+                // Доступний весь каталог - без проходу по платежах
+                Arrays.fill(words, offset, offset + wordsPerClient, -1L);
+                if ((size & 63) != 0) {
+                    words[offset + wordsPerClient - 1] = -1L >>> (64 - (size & 63));
+                }
+                continue;
+            }
+            for (int w = 0; w < wordsPerClient; w++) {
+                int base = w << 6;
+                int end = Math.min(base + 64, size);
+                long bits = 0;
+                for (int i = base; i < end; i++) {
+                    // Знаковий біт (ceiling - payment) дорівнює 0, коли платіж вкладається в межу
+                    bits |= (~(ceiling - payments[i]) >>> 63) << (i - base);
+                }
+                words[offset + w] = bits;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package credit.service;
+
+import credit.model.Client;
+import credit.model.Credit;
+import credit.model.CreditLineIncrease;
+import credit.model.CreditLineIncreaseResult;
+import credit.model.FixedPointMoney;
+import credit.repository.CreditCatalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// What-if розрахунок збільшення кредитного ліміту
+// Новий платіж рахується з уже порахованого ануїтетного коефіцієнта кредиту
+// (Credit.calculateMonthlyPaymentMinor(long)) - кредит не змінюється і не копіюється.
+// Перевірка клієнта - Client.isEligibleForCredit(long) з закешованою межею платежу
+public class CreditLineIncreaseService {
+    private CreditCatalog creditRepository;
+
+    public CreditLineIncreaseService(CreditCatalog creditRepository) {
+        this.creditRepository = creditRepository;
+    }
+
+    public CreditLineIncreaseResult evaluate(Client client, Credit credit, CreditLineIncrease increase) {
+        if (client == null || credit == null || increase == null) {
+            throw new IllegalArgumentException("Client, credit and increase are required");
+        }
+        if (!credit.isCreditLineIncreaseAllowed()) {
+            throw new IllegalArgumentException("Credit line increase is not allowed for credit " + credit.getId());
+        }
+        return evaluateAllowed(client, credit, increase);
+    }
+
+    // Один прохід по всьому каталогу для одного клієнта, без копії списку кредитів
+    // Кредити без creditLineIncreaseAllowed пропускаються
+    public List<CreditLineIncreaseResult> evaluateAll(Client client, CreditLineIncrease increase) {
+        return evaluateAll(client, creditRepository.currentVersion().view(), increase);
+    }
+
+    public List<CreditLineIncreaseResult> evaluateAll(Client client, Collection<Credit> credits,
+                                                      CreditLineIncrease increase) {
+        List<CreditLineIncreaseResult> results = new ArrayList<>();
+        if (client == null || increase == null) {
+            return results;
+        }
+        for (Credit credit : credits) {
+            if (credit != null && credit.isCreditLineIncreaseAllowed() && credit.getAmount() != null) {
+                results.add(evaluateAllowed(client, credit, increase));
+            }
+        }
+        return results;
+    }
+
+    // Тільки ті кредити, де клієнт проходить перевірку і після збільшення
+    public List<CreditLineIncreaseResult> findAffordableIncreases(Client client, CreditLineIncrease increase) {
+        List<CreditLineIncreaseResult> results = new ArrayList<>();
+        for (CreditLineIncreaseResult result : evaluateAll(client, increase)) {
+            if (result.isClientEligible()) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private CreditLineIncreaseResult evaluateAllowed(Client client, Credit credit, CreditLineIncrease increase) {
+        long amountMinor = FixedPointMoney.toMinorUnits(credit.getAmount());
+        long newAmountMinor = Math.addExact(amountMinor, increase.increaseMinor(amountMinor));
+        long newPaymentMinor = credit.calculateMonthlyPaymentMinor(newAmountMinor);
+        return new CreditLineIncreaseResult(credit.getId(),
+                FixedPointMoney.fromMinorUnits(newAmountMinor),
+                FixedPointMoney.fromMinorUnits(credit.calculateMonthlyPaymentMinor()),
+                FixedPointMoney.fromMinorUnits(newPaymentMinor),
+                client.isEligibleForCredit(newPaymentMinor));
+    }
+}
@@ -1,8 +1,14 @@
 package credit.service;
 
 import credit.model.Client;
+import credit.model.ConsumerCredit;
 import credit.model.Credit;
-import credit.repository.CreditRepository;
+import credit.model.CreditType;
+import credit.model.FixedPointMoney;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+import credit.repository.CreditCriteria;
+import credit.repository.CreditCatalog;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
@@ -10,33 +16,81 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 // Сервіс для пошуку кредитів
-// Використовує Stream API для фільтрації та сортування
+// Фільтрація - в репозиторії (CreditCriteria), сортування - через Stream API.
+// Списки find* належать викликачу, тож результат сортується на місці, без другої копії
+// Кожен запит іде до currentVersion(): з SnapshotCreditRepository це незмінна версія каталогу,
+// яку можна читати з багатьох потоків без блокувань, поки записи готують наступну
 public class CreditSearchService {
-    private CreditRepository creditRepository;
+    private CreditCatalog creditRepository;
+    // null - без кешу попередньої кваліфікації
+    private PrequalificationCache prequalificationCache;
 
-    public CreditSearchService(CreditRepository creditRepository) {
+    public CreditSearchService(CreditCatalog creditRepository) {
         this.creditRepository = creditRepository;
     }
 
+    // З кешем, пошук за потребами клієнта спершу бере кредити, доступні за його профілем
+    public CreditSearchService(CreditCatalog creditRepository, PrequalificationCache prequalificationCache) {
+        this.creditRepository = creditRepository;
+        this.prequalificationCache = prequalificationCache;
+    }
+
     // Шукає кредити які підходять клієнту
     // Перевіряє суму, термін та елігібельність клієнта
     public List<Credit> searchByClientNeeds(Client client, BigDecimal requestedAmount, int termMonths) {
         if (client == null || requestedAmount == null || termMonths <= 0) {
             return new java.util.ArrayList<>();
         }
-        
-        return creditRepository.findAll().stream()
-                // Сума має бути >= запитаної
-                .filter(credit -> credit != null && credit.getAmount() != null && 
-                        credit.getAmount().compareTo(requestedAmount) >= 0)
-                // Термін >= запитаного
-                .filter(credit -> credit.getTermMonths() >= termMonths)
+        return findByClientNeeds(new CreditCriteria(), client, requestedAmount, termMonths);
+    }
+
+    // Те саме, але тільки серед кредитів одного типу - решта каталогу не переглядається
+    public List<Credit> searchByClientNeeds(Client client, BigDecimal requestedAmount, int termMonths,
+                                            CreditType creditType) {
+        if (client == null || requestedAmount == null || termMonths <= 0 || creditType == null) {
+            return new java.util.ArrayList<>();
+        }
+        return findByClientNeeds(new CreditCriteria().creditType(creditType), client, requestedAmount,
+                termMonths);
+    }
+
+    // Умови клієнта, що не залежать від кредиту (дохід, рейтинг), перевіряються один раз,
+    // далі репозиторій фільтрує за сумою, терміном і межею платежу в копійках
+    // (Client.getPaymentCeilingMinor - та сама межа 40% доходу)
+    private List<Credit> findByClientNeeds(CreditCriteria criteria, Client client, BigDecimal requestedAmount,
+                                           int termMonths) {
+        if (!client.isEligibleForCredit(0)) {
+            return new java.util.ArrayList<>();
+        }
+        long paymentCeiling = client.getPaymentCeilingMinor();
+        CreditCatalog catalog = creditRepository.currentVersion();
+        if (prequalificationCache != null) {
+            return findPrequalified(catalog, criteria, paymentCeiling, requestedAmount, termMonths);
+        }
+        // Кредит на суму >= запитаної з коротшим терміном не вкладеться в межу навіть без відсотків -
+        // такі кредити відкидаються порівнянням терміну, без розрахунку платежу
+        int minAffordableTerm = FixedPointMoney.minTermMonths(FixedPointMoney.toMinorUnits(requestedAmount),
+                paymentCeiling);
+        return catalog.findMatching(criteria
+                // Сума має бути >= запитаної, термін >= запитаного
+                .minAmount(requestedAmount)
+                .minTermMonths(Math.max(termMonths, minAffordableTerm))
                 // Перевіряємо чи може клієнт дозволити собі платіж
-                .filter(credit -> {
-                    BigDecimal monthlyPayment = credit.calculateMonthlyPayment();
-                    return monthlyPayment != null && client.isEligibleForCredit(requestedAmount, monthlyPayment);
-                })
-                .collect(Collectors.toList());
+                .maxMonthlyPaymentMinor(paymentCeiling));
+    }
+
+    // Кредити, доступні за межею платежу, беруться з кешу (або один раз з каталогу),
+    // далі тільки сума, термін і тип - порядок і результат ті самі, що й без кешу
+    private List<Credit> findPrequalified(CreditCatalog catalog, CreditCriteria criteria, long paymentCeiling,
+                                          BigDecimal requestedAmount, int termMonths) {
+        long version = catalog.getVersion();
+        PrequalifiedCredits affordable = prequalificationCache.get(version, paymentCeiling);
+        if (affordable == null) {
+            affordable = new PrequalifiedCredits(
+                    catalog.findMatching(new CreditCriteria().maxMonthlyPaymentMinor(paymentCeiling)));
+            prequalificationCache.put(version, paymentCeiling, affordable);
+        }
+        return affordable.select(requestedAmount, termMonths, criteria.getCreditType());
     }
 
     // Знаходить топ-5 найкращих пропозицій
@@ -55,10 +109,10 @@ public class CreditSearchService {
         if (minAmount == null || maxAmount == null) {
             return new java.util.ArrayList<>();
         }
-        return creditRepository.findByAmountRange(minAmount, maxAmount).stream()
-                .filter(credit -> credit != null && credit.getInterestRate() != null)
-                .sorted(Comparator.comparing(Credit::getInterestRate))
-                .collect(Collectors.toList());
+        List<Credit> credits = creditRepository.currentVersion().findByAmountRange(minAmount, maxAmount);
+        credits.removeIf(credit -> credit == null || credit.getInterestRate() == null);
+        credits.sort(Comparator.comparing(Credit::getInterestRate));
+        return credits;
     }
 
     // Шукає кредити від банків з найкращим рейтингом
@@ -66,14 +120,12 @@ public class CreditSearchService {
         if (minAmount == null) {
             return new java.util.ArrayList<>();
         }
-        return creditRepository.findAll().stream()
-                .filter(credit -> credit != null && credit.getAmount() != null && 
-                        credit.getAmount().compareTo(minAmount) >= 0)
-                .filter(credit -> credit.getBank() != null && credit.getInterestRate() != null)
-                .sorted(Comparator.comparing((Credit credit) -> credit.getBank().getRating())
-                        .reversed()
-                        .thenComparing(Credit::getInterestRate))
-                .collect(Collectors.toList());
+        List<Credit> credits = creditRepository.currentVersion().findMatching(new CreditCriteria().minAmount(minAmount));
+        credits.removeIf(credit -> credit.getBank() == null || credit.getInterestRate() == null);
+        credits.sort(Comparator.comparing((Credit credit) -> credit.getBank().getRating())
+                .reversed()
+                .thenComparing(Credit::getInterestRate));
+        return credits;
     }
 
     // Шукає гнучкі кредити (з достроковим погашенням або збільшенням ліміту)
@@ -81,37 +133,52 @@ public class CreditSearchService {
         if (minAmount == null) {
             return new java.util.ArrayList<>();
         }
-        return creditRepository.findAll().stream()
-                .filter(credit -> credit != null && credit.getAmount() != null && 
-                        credit.getAmount().compareTo(minAmount) >= 0)
-                .filter(credit -> credit.isEarlyRepaymentAllowed() || credit.isCreditLineIncreaseAllowed())
-                .filter(credit -> credit.getInterestRate() != null)
-                .sorted(Comparator.comparing(Credit::getInterestRate))
-                .collect(Collectors.toList());
+        return sortedByRate(new CreditCriteria().minAmount(minAmount).flexibleOnly(true));
     }
 
     public List<Credit> findWithEarlyRepayment(BigDecimal minAmount) {
         if (minAmount == null) {
             return new java.util.ArrayList<>();
         }
-        return creditRepository.findWithEarlyRepayment().stream()
-                .filter(credit -> credit != null && credit.getAmount() != null && 
-                        credit.getAmount().compareTo(minAmount) >= 0)
-                .filter(credit -> credit.getInterestRate() != null)
-                .sorted(Comparator.comparing(Credit::getInterestRate))
-                .collect(Collectors.toList());
+        return sortedByRate(new CreditCriteria().minAmount(minAmount).earlyRepaymentAllowed(true));
     }
 
     public List<Credit> findWithCreditLineIncrease(BigDecimal minAmount) {
         if (minAmount == null) {
             return new java.util.ArrayList<>();
         }
-        return creditRepository.findWithCreditLineIncrease().stream()
-                .filter(credit -> credit != null && credit.getAmount() != null && 
-                        credit.getAmount().compareTo(minAmount) >= 0)
+        return sortedByRate(new CreditCriteria().minAmount(minAmount).creditLineIncreaseAllowed(true));
+    }
+
+    private List<Credit> sortedByRate(CreditCriteria criteria) {
+        List<Credit> credits = creditRepository.currentVersion().findMatching(criteria);
+        credits.removeIf(credit -> credit.getInterestRate() == null);
+        credits.sort(Comparator.comparing(Credit::getInterestRate));
+        return credits;
+    }
+
+    // Іпотеки в діапазоні LTV (з індексу репозиторію), найнижча ставка першою
+    public List<MortgageCredit> findMortgagesByLtvBand(LtvBand band, String propertyType,
+                                                       BigDecimal minDownPaymentRatio) {
+        if (band == null) {
+            return new java.util.ArrayList<>();
+        }
+        return creditRepository.currentVersion().findMortgagesByLtvBand(band, propertyType, minDownPaymentRatio).stream()
                 .filter(credit -> credit.getInterestRate() != null)
-                .sorted(Comparator.comparing(Credit::getInterestRate))
+                .sorted(Comparator.comparing(MortgageCredit::getInterestRate))
                 .collect(Collectors.toList());
     }
-}
 
+    // Споживчі кредити на задану мету, ліміт яких покриває запитану суму
+    // requiresCollateral == false - тільки без застави, null - будь-які
+    public List<ConsumerCredit> findConsumerCreditsCovering(String purpose, Boolean requiresCollateral,
+                                                            BigDecimal requestedAmount) {
+        if (requestedAmount == null) {
+            return new java.util.ArrayList<>();
+        }
+        return creditRepository.currentVersion().findConsumerCredits(purpose, requiresCollateral, requestedAmount).stream()
+                .filter(credit -> credit.getInterestRate() != null)
+                .sorted(Comparator.comparing(ConsumerCredit::getInterestRate))
+                .collect(Collectors.toList());
+    }
+}
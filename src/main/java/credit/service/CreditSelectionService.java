@@ -2,7 +2,8 @@ package credit.service;
 
 import credit.model.Client;
 import credit.model.Credit;
-import credit.repository.CreditRepository;
+import credit.model.CreditType;
+import credit.repository.CreditCatalog;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
@@ -11,11 +12,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 // Сервіс для вибору оптимального кредиту
+// Як і CreditSearchService, читає каталог через currentVersion() - без блокувань.
+// Вибір за банком і типом сортує розділ індексу напряму (view*), без проміжної копії
 public class CreditSelectionService {
-    private CreditRepository creditRepository;
+    private CreditCatalog creditRepository;
     private CreditSearchService creditSearchService;
 
-    public CreditSelectionService(CreditRepository creditRepository, CreditSearchService creditSearchService) {
+    public CreditSelectionService(CreditCatalog creditRepository, CreditSearchService creditSearchService) {
         this.creditRepository = creditRepository;
         this.creditSearchService = creditSearchService;
     }
@@ -73,15 +76,29 @@ public class CreditSelectionService {
     }
 
     public List<Credit> selectByBank(String bankName) {
-        return creditRepository.findByBankName(bankName).stream()
+        return creditRepository.currentVersion().viewByBankName(bankName).stream()
                 .sorted(Comparator.comparing(Credit::getInterestRate))
                 .collect(Collectors.toList());
     }
 
     public List<Credit> selectByCreditType(String creditType) {
-        return creditRepository.findByCreditType(creditType).stream()
+        return creditRepository.currentVersion().viewByCreditType(creditType).stream()
                 .sorted(Comparator.comparing(Credit::getInterestRate))
                 .collect(Collectors.toList());
     }
+
+    public List<Credit> selectByCreditType(CreditType creditType) {
+        return creditRepository.currentVersion().viewByCreditType(creditType).stream()
+                .sorted(Comparator.comparing(Credit::getInterestRate))
+                .collect(Collectors.toList());
+    }
+
+    // Найдешевший за щомісячним платежем кредит заданого типу
+    public Optional<Credit> selectByLowestMonthlyPayment(Client client, BigDecimal requestedAmount, int termMonths,
+                                                         CreditType creditType) {
+        return creditSearchService.searchByClientNeeds(client, requestedAmount, termMonths, creditType).stream()
+                .min(Comparator.comparing(Credit::calculateMonthlyPayment)
+                        .thenComparing(Credit::getInterestRate));
+    }
 }
 
@@ -0,0 +1,130 @@
+package credit.service;
+
+import credit.model.Credit;
+import credit.model.FixedPointMoney;
+import credit.model.PrepaymentResult;
+import credit.model.PrepaymentScenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Симулятор дострокового погашення для кредитів з earlyRepaymentAllowed
+// Для кожного кредиту базовий графік рахується один раз (залишок і сплачені відсотки
+// після кожного місяця), і кожен сценарій стартує з місяця startMonth цього графіка,
+// а не з нуля. Розрахунок іде в копійках (FixedPointMoney) з тим самим округленням,
+// що й AmortizationSchedule; кредити рахуються паралельно на всіх ядрах
+public class EarlyRepaymentSimulator {
+
+    // Всі сценарії для одного кредиту
+    public List<PrepaymentResult> simulate(Credit credit, List<PrepaymentScenario> scenarios) {
+        if (credit == null || !credit.isEarlyRepaymentAllowed()) {
+            throw new IllegalArgumentException("Early repayment is not allowed for this credit");
+        }
+        return simulateAllowed(credit, scenarios);
+    }
+
+    public PrepaymentResult simulate(Credit credit, PrepaymentScenario scenario) {
+        return simulate(credit, List.of(scenario)).get(0);
+    }
+
+    // Всі сценарії для всіх кредитів, що дозволяють дострокове погашення
+    // Результати впорядковані за кредитами, всередині - за сценаріями
+    public List<PrepaymentResult> simulateAll(List<Credit> credits, List<PrepaymentScenario> scenarios) {
+        return credits.parallelStream()
+                .filter(credit -> credit != null && credit.isEarlyRepaymentAllowed())
+                .map(credit -> simulateAllowed(credit, scenarios))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private List<PrepaymentResult> simulateAllowed(Credit credit, List<PrepaymentScenario> scenarios) {
+        BaselineSchedule baseline = new BaselineSchedule(credit);
+        List<PrepaymentResult> results = new ArrayList<>(scenarios.size());
+        for (PrepaymentScenario scenario : scenarios) {
+            results.add(baseline.simulate(credit.getId(), scenario));
+        }
+        return results;
+    }
+
+    // Базовий графік кредиту в копійках: залишок і сума сплачених відсотків після кожного місяця
+    private static final class BaselineSchedule {
+        private final long payment;
+        private final long monthlyRateUnits;
+        private final int termMonths;
+        private final long[] balances;
+        private final long[] interestPaid;
+        // Фактична кількість платежів (через округлення може бути меншою за термін)
+        private final int months;
+
+        BaselineSchedule(Credit credit) {
+            if (credit.getAmount() == null || credit.getInterestRate() == null || credit.getTermMonths() <= 0) {
+                payment = 0;
+                monthlyRateUnits = 0;
+                termMonths = 0;
+                balances = new long[]{0};
+                interestPaid = new long[]{0};
+                months = 0;
+                return;
+            }
+            payment = credit.calculateMonthlyPaymentMinor();
+            monthlyRateUnits = FixedPointMoney.monthlyRateUnits(
+                    FixedPointMoney.toBasisPoints(credit.getInterestRate()));
+            termMonths = credit.getTermMonths();
+            balances = new long[termMonths + 1];
+            interestPaid = new long[termMonths + 1];
+
+            long balance = FixedPointMoney.toMinorUnits(credit.getAmount());
+            long paid = 0;
+            balances[0] = balance;
+            int month = 0;
+            while (month < termMonths && balance > 0) {
+                month++;
+                long interest = interest(balance);
+                long principal = payment - interest;
+                if (month == termMonths || principal >= balance) {
+                    principal = balance;
+                }
+                balance -= principal;
+                paid += interest;
+                balances[month] = balance;
+                interestPaid[month] = paid;
+            }
+            months = month;
+        }
+
+        PrepaymentResult simulate(String creditId, PrepaymentScenario scenario) {
+            int start = scenario.getStartMonth();
+            if (start > months) {
+                // Кредит вже погашено до початку сценарію
+                return new PrepaymentResult(creditId, scenario, FixedPointMoney.fromMinorUnits(0), months, months);
+            }
+            long lumpSum = FixedPointMoney.toMinorUnits(scenario.getLumpSum());
+            long extra = FixedPointMoney.toMinorUnits(scenario.getExtraMonthly());
+
+            // Стан на кінець місяця start - 1 береться з базового графіка
+            long balance = balances[start - 1];
+            long paid = interestPaid[start - 1];
+            int month = start - 1;
+            while (balance > 0) {
+                month++;
+                long interest = interest(balance);
+                long principal = payment + extra - interest;
+                if (month == start) {
+                    principal += lumpSum;
+                }
+                if (month == termMonths || principal >= balance) {
+                    principal = balance;
+                }
+                balance -= principal;
+                paid += interest;
+            }
+            long saved = interestPaid[months] - paid;
+            return new PrepaymentResult(creditId, scenario, FixedPointMoney.fromMinorUnits(saved), months, month);
+        }
+
+        private long interest(long balance) {
+            return FixedPointMoney.divideHalfUp(balance * monthlyRateUnits, FixedPointMoney.RATE_UNITS);
+        }
+    }
+}
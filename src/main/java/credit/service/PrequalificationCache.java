@@ -0,0 +1,125 @@
+package credit.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Кеш попередньої кваліфікації для CreditSearchService: для профілю клієнта - кредити каталогу,
+// що проходять перевірку платежу (40% доходу), див. PrequalifiedCredits. Наступні запити з тим
+// самим профілем фільтрують тільки цю підмножину за сумою і терміном, без проходу по каталогу.
+// Профіль - межа платежу в копійках (Client.getPaymentCeilingMinor): від доходу залежить лише вона,
+// рейтинг тільки відсікає клієнтів до кешу, а наявні кредити на доступність не впливають.
+// Записи належать одній версії каталогу (CreditCatalog.getVersion); нова версія очищує кеш,
+// запити до старішої версії йдуть повз кеш.
+// Розмір обмежено двічі: кількістю профілів і сумарною кількістю кредитів у записах - один запис
+// може містити майже весь каталог. Переповнення - видалення найдовше не використаних записів,
+// доки обидві межі не виконуються; запис, більший за всю межу кредитів, не кешується
+public class PrequalificationCache {
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    public static final long DEFAULT_MAX_CREDITS = 2_000_000;
+
+    private final int maxEntries;
+    private final long maxCredits;
+    private final Map<Long, PrequalifiedCredits> entries;
+    private long version = -1;
+    // Сума PrequalifiedCredits.size() по всіх записах
+    private long cachedCredits;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PrequalificationCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public PrequalificationCache(int maxEntries) {
+        this(maxEntries, DEFAULT_MAX_CREDITS);
+    }
+
+    public PrequalificationCache(int maxEntries, long maxCredits) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+        }
+        if (maxCredits <= 0) {
+            throw new IllegalArgumentException("Max credits must be positive: " + maxCredits);
+        }
+        this.maxEntries = maxEntries;
+        this.maxCredits = maxCredits;
+        // accessOrder = true: get() переносить запис у кінець, найстаріший - перший
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // Кредити, доступні за межею платежу paymentCeilingMinor у версії каталогу version,
+    // або null, якщо їх ще немає в кеші
+    public synchronized PrequalifiedCredits get(long version, long paymentCeilingMinor) {
+        PrequalifiedCredits credits = version == this.version ? entries.get(paymentCeilingMinor) : null;
+        if (credits != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return credits;
+    }
+
+    public synchronized void put(long version, long paymentCeilingMinor, PrequalifiedCredits credits) {
+        if (version < this.version) {
+            return;
+        }
+        if (version > this.version) {
+            entries.clear();
+            cachedCredits = 0;
+            this.version = version;
+        }
+        if (credits.size() > maxCredits) {
+            return;
+        }
+        PrequalifiedCredits previous = entries.put(paymentCeilingMinor, credits);
+        cachedCredits += credits.size() - (previous == null ? 0 : previous.size());
+        Iterator<PrequalifiedCredits> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || cachedCredits > maxCredits) {
+            cachedCredits -= eldest.next().size();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // Частка запитів, на які відповів кеш; 0, якщо запитів ще не було
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Кількість кредитів у всіх записах
+    public synchronized long getCachedCredits() {
+        return cachedCredits;
+    }
+
+    // Скидає записи і лічильники
+    public synchronized void clear() {
+        entries.clear();
+        cachedCredits = 0;
+        version = -1;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+}
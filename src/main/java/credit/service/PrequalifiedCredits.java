@@ -0,0 +1,84 @@
+package credit.service;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+// Запис PrequalificationCache: кредити, доступні одному профілю клієнта, у порядку каталогу,
+// плюс ті самі кредити, відсортовані за сумою. Запит з мінімальною сумою знаходить перший
+// підходящий кредит двійковим пошуком і перевіряє тільки хвіст; позиції збігів збираються
+// в бітову карту, тож результат повертається в порядку каталогу без сортування
+public final class PrequalifiedCredits {
+    private final List<Credit> credits;
+    private final Credit[] byAmount;
+    private final BigDecimal[] amounts;
+    private final int[] positions;
+    private final int[] termMonths;
+
+    public PrequalifiedCredits(List<Credit> credits) {
+        this.credits = credits;
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < credits.size(); i++) {
+            // Кредит без суми не пройде жоден фільтр за сумою
+            if (credits.get(i).getAmount() != null) {
+                order.add(i);
+            }
+        }
+        order.sort((a, b) -> credits.get(a).getAmount().compareTo(credits.get(b).getAmount()));
+        int size = order.size();
+        this.byAmount = new Credit[size];
+        this.amounts = new BigDecimal[size];
+        this.positions = new int[size];
+        this.termMonths = new int[size];
+        for (int i = 0; i < size; i++) {
+            int position = order.get(i);
+            byAmount[i] = credits.get(position);
+            amounts[i] = byAmount[i].getAmount();
+            positions[i] = position;
+            termMonths[i] = byAmount[i].getTermMonths();
+        }
+    }
+
+    // Всі доступні кредити, в порядку каталогу
+    public List<Credit> getCredits() {
+        return Collections.unmodifiableList(credits);
+    }
+
+    public int size() {
+        return credits.size();
+    }
+
+    // Кредити з сумою >= minAmount, терміном >= minTermMonths і заданого типу (null - будь-якого)
+    public List<Credit> select(BigDecimal minAmount, int minTermMonths, CreditType creditType) {
+        BitSet matches = new BitSet(credits.size());
+        for (int i = firstAtLeast(minAmount); i < byAmount.length; i++) {
+            if (termMonths[i] >= minTermMonths && (creditType == null || byAmount[i].getType() == creditType)) {
+                matches.set(positions[i]);
+            }
+        }
+        List<Credit> result = new ArrayList<>(matches.cardinality());
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            result.add(credits.get(position));
+        }
+        return result;
+    }
+
+    private int firstAtLeast(BigDecimal minAmount) {
+        int low = 0;
+        int high = amounts.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (amounts[middle].compareTo(minAmount) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -5,13 +5,19 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.reflect.TypeToken;
 import credit.model.Bank;
+import credit.model.Client;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
 import credit.model.Credit;
+import credit.model.MortgageCredit;
+import credit.repository.BankRepository;
 
 import java.io.FileReader;
 import java.io.FileWriter;
@@ -23,17 +29,32 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FileDataManager {
-    private static final String CREDITS_FILE = "data/credits.json";
-    private static final String BANKS_FILE = "data/banks.json";
+    private static final String DEFAULT_DATA_DIRECTORY = "data";
+    private final String creditsFile;
+    private final String banksFile;
+    private final String clientsFile;
     private Gson gson;
 
     public FileDataManager() {
-        this.gson = new GsonBuilder()
+        this(DEFAULT_DATA_DIRECTORY);
+    }
+
+    // Файли credits.json, banks.json і clients.json у вказаному каталозі
+    public FileDataManager(String dataDirectory) {
+        this.creditsFile = dataDirectory + "/credits.json";
+        this.banksFile = dataDirectory + "/banks.json";
+        this.clientsFile = dataDirectory + "/clients.json";
+        Gson plainGson = baseBuilder().create();
+        this.gson = baseBuilder()
                 .setPrettyPrinting()
-                .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
+                .registerTypeAdapter(Credit.class, new CreditDeserializer(plainGson))
                 .create();
     }
 
+    private static GsonBuilder baseBuilder() {
+        return new GsonBuilder().registerTypeAdapter(LocalDate.class, new LocalDateAdapter());
+    }
+
     private static class LocalDateAdapter implements JsonSerializer<LocalDate>, JsonDeserializer<LocalDate> {
         private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
 
@@ -49,8 +70,37 @@ public class FileDataManager {
         }
     }
 
+    // Gson зберігає поля підкласів, але сам читає кожен кредит як Credit
+    // Підклас визначається за полями, які є тільки в ньому
+    private static class CreditDeserializer implements JsonDeserializer<Credit> {
+        private final Gson plainGson;
+
+        CreditDeserializer(Gson plainGson) {
+            this.plainGson = plainGson;
+        }
+
+        @Override
+        public Credit deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
+                throws JsonParseException {
+            if (!json.isJsonObject()) {
+                return plainGson.fromJson(json, Credit.class);
+            }
+            JsonObject object = json.getAsJsonObject();
+            if (object.has("propertyValue") || object.has("downPayment") || object.has("propertyType")) {
+                return plainGson.fromJson(object, MortgageCredit.class);
+            }
+            if (object.has("carYear") || object.has("newCar")) {
+                return plainGson.fromJson(object, CarCredit.class);
+            }
+            if (object.has("requiresCollateral")) {
+                return plainGson.fromJson(object, ConsumerCredit.class);
+            }
+            return plainGson.fromJson(object, Credit.class);
+        }
+    }
+
     public void saveCredits(List<Credit> credits) throws IOException {
-        java.io.File file = new java.io.File(CREDITS_FILE);
+        java.io.File file = new java.io.File(creditsFile);
         file.getParentFile().mkdirs();
 
         try (FileWriter writer = new FileWriter(file)) {
@@ -59,7 +109,7 @@ public class FileDataManager {
     }
 
     public List<Credit> loadCredits() throws IOException {
-        java.io.File file = new java.io.File(CREDITS_FILE);
+        java.io.File file = new java.io.File(creditsFile);
         if (!file.exists()) {
             return new ArrayList<>();
         }
@@ -71,8 +121,38 @@ public class FileDataManager {
         }
     }
 
+    // Те саме, але банки кредитів замінюються екземплярами з bankRepository
+    // (нові банки туди додаються), а однакові типи, мети, марки, моделі, ставки
+    // і дати стають одним спільним об'єктом. Без цього кожен кредит з файлу
+    // тримає власну копію банку і всіх рядків
+    public List<Credit> loadCredits(BankRepository bankRepository) throws IOException {
+        List<Credit> credits = loadCredits();
+        ValueInterner interner = new ValueInterner();
+        for (Credit credit : credits) {
+            if (credit == null) {
+                continue;
+            }
+            credit.setBank(bankRepository.canonicalize(credit.getBank()));
+            credit.setCreditType(interner.intern(credit.getCreditType()));
+            credit.setInterestRate(interner.intern(credit.getInterestRate()));
+            credit.setStartDate(interner.intern(credit.getStartDate()));
+            if (credit instanceof MortgageCredit) {
+                MortgageCredit mortgage = (MortgageCredit) credit;
+                mortgage.setPropertyType(interner.intern(mortgage.getPropertyType()));
+            } else if (credit instanceof ConsumerCredit) {
+                ConsumerCredit consumer = (ConsumerCredit) credit;
+                consumer.setPurpose(interner.intern(consumer.getPurpose()));
+            } else if (credit instanceof CarCredit) {
+                CarCredit car = (CarCredit) credit;
+                car.setCarBrand(interner.intern(car.getCarBrand()));
+                car.setCarModel(interner.intern(car.getCarModel()));
+            }
+        }
+        return credits;
+    }
+
     public void saveBanks(List<Bank> banks) throws IOException {
-        java.io.File file = new java.io.File(BANKS_FILE);
+        java.io.File file = new java.io.File(banksFile);
         file.getParentFile().mkdirs();
 
         try (FileWriter writer = new FileWriter(file)) {
@@ -81,7 +161,7 @@ public class FileDataManager {
     }
 
     public List<Bank> loadBanks() throws IOException {
-        java.io.File file = new java.io.File(BANKS_FILE);
+        java.io.File file = new java.io.File(banksFile);
         if (!file.exists()) {
             return new ArrayList<>();
         }
@@ -92,5 +172,26 @@ public class FileDataManager {
             return banks != null ? banks : new ArrayList<>();
         }
     }
-}
 
+    public void saveClients(List<Client> clients) throws IOException {
+        java.io.File file = new java.io.File(clientsFile);
+        file.getParentFile().mkdirs();
+
+        try (FileWriter writer = new FileWriter(file)) {
+            gson.toJson(clients, writer);
+        }
+    }
+
+    public List<Client> loadClients() throws IOException {
+        java.io.File file = new java.io.File(clientsFile);
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        try (FileReader reader = new FileReader(file)) {
+            Type listType = new TypeToken<ArrayList<Client>>(){}.getType();
+            List<Client> clients = gson.fromJson(reader, listType);
+            return clients != null ? clients : new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package credit.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Спільні екземпляри незмінних значень, що повторюються в багатьох об'єктах
+// (типи кредитів, мети, марки, ставки, дати). Живе стільки, скільки потрібно
+// завантаженню - на відміну від String.intern() не наповнює глобальну таблицю JVM
+public class ValueInterner {
+    private final Map<Object, Object> values;
+
+    public ValueInterner() {
+        this.values = new HashMap<>();
+    }
+
+    // Перший рівний value екземпляр; null залишається null
+    @SuppressWarnings("unchecked")
+    public <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        Object existing = values.putIfAbsent(value, value);
+        return existing == null ? value : (T) existing;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
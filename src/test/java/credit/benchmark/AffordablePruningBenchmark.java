@@ -0,0 +1,66 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+import credit.service.CreditSearchService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Перший searchByClientNeeds по щойно завантаженому каталогу (платежі ще не пораховані):
+//   full-check - платіж кожного кандидата рахується і порівнюється з межею (як було раніше)
+//   pruned     - searchByClientNeeds: мінімальний термін і межа як за нульової ставки
+//                відкидають задорогі кредити до розрахунку ануїтету
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.AffordablePruningBenchmark [-Dexec.args="200000"]
+public class AffordablePruningBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 200_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, cold payments ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+        Client client = new Client("CLI001", "John", "Doe", "john@example.com", new BigDecimal("8000"), 720, false);
+        BigDecimal amount = new BigDecimal("150000");
+        int term = 12;
+
+        long fullCheck = Long.MAX_VALUE;
+        long pruned = Long.MAX_VALUE;
+        int fullFound = 0;
+        int prunedFound = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Credit> fresh = copies(catalog);
+            long start = System.nanoTime();
+            List<Credit> result = new ArrayList<>();
+            for (Credit credit : fresh) {
+                if (credit.getAmount().compareTo(amount) >= 0 && credit.getTermMonths() >= term
+                        && client.isEligibleForCredit(credit.calculateMonthlyPaymentMinor())) {
+                    result.add(credit);
+                }
+            }
+            fullCheck = Math.min(fullCheck, System.nanoTime() - start);
+            fullFound = result.size();
+
+            CreditRepository repository = new CreditRepository();
+            copies(catalog).forEach(repository::addCredit);
+            CreditSearchService service = new CreditSearchService(repository);
+            start = System.nanoTime();
+            prunedFound = service.searchByClientNeeds(client, amount, term).size();
+            pruned = Math.min(pruned, System.nanoTime() - start);
+        }
+        System.out.printf("full-check: %6.1f ms, %d credits%n", fullCheck / 1e6, fullFound);
+        System.out.printf("pruned:     %6.1f ms, %d credits%n", pruned / 1e6, prunedFound);
+        System.out.println("max affordable at 12.5% for 60 months: "
+                + client.calculateMaxAffordableAmount(new BigDecimal("12.5"), 60));
+    }
+
+    private static List<Credit> copies(List<Credit> catalog) {
+        List<Credit> copies = new ArrayList<>(catalog.size());
+        for (Credit credit : catalog) {
+            copies.add(credit.copy());
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,52 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+// Запити за діапазоном сум (ширина 20 000) по каталогу:
+//   scan  - порівняння двох BigDecimal для кожного кредиту, як findByAmountRange робив раніше
+//   index - CreditRepository.findByAmountRange з відсортованого індексу сум
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.AmountRangeBenchmark [-Dexec.args="200000"]
+public class AmountRangeBenchmark {
+    private static final int QUERIES = 500;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 200_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, " + QUERIES + " range queries ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+        CreditRepository repository = new CreditRepository();
+        catalog.forEach(repository::addCredit);
+
+        for (int pass = 0; pass < 2; pass++) {
+            Random random = new Random(3);
+            long found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                BigDecimal min = BigDecimal.valueOf(10_000 + random.nextInt(1_000_000));
+                BigDecimal max = min.add(BigDecimal.valueOf(20_000));
+                found += catalog.stream()
+                        .filter(credit -> credit.getAmount().compareTo(min) >= 0 && credit.getAmount().compareTo(max) <= 0)
+                        .collect(Collectors.toList()).size();
+            }
+            long scan = System.nanoTime() - start;
+
+            random = new Random(3);
+            start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                BigDecimal min = BigDecimal.valueOf(10_000 + random.nextInt(1_000_000));
+                found -= repository.findByAmountRange(min, min.add(BigDecimal.valueOf(20_000))).size();
+            }
+            long index = System.nanoTime() - start;
+            if (pass == 1) {
+                System.out.printf("scan:  %8.3f ms/query%n", scan / 1e6 / QUERIES);
+                System.out.printf("index: %8.3f ms/query (difference in results: %d)%n", index / 1e6 / QUERIES, found);
+            }
+        }
+    }
+}
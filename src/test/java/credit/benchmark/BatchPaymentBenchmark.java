@@ -0,0 +1,96 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.repository.CreditColumns;
+import credit.service.BatchPaymentCalculator;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Порівняння пакетного розрахунку з розрахунком по об'єктах при переоцінці каталогу
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.BatchPaymentBenchmark [-Dexec.args="10000 1000000"]
+public class BatchPaymentBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{10_000, 1_000_000, 10_000_000} : parseSizes(args);
+        BatchPaymentCalculator calculator = new BatchPaymentCalculator();
+
+        for (int size : sizes) {
+            System.out.println("=== " + size + " credits ===");
+            List<Credit> credits = null;
+            try {
+                credits = BenchmarkData.catalog(size, 42);
+            } catch (OutOfMemoryError e) {
+                System.out.println("per-object: skipped, catalog does not fit into heap");
+            }
+
+            CreditColumns columns = null;
+            if (credits != null) {
+                benchmarkPerObject(credits);
+                try {
+                    columns = CreditColumns.from(credits);
+                } catch (OutOfMemoryError e) {
+                    System.out.println("batch: catalog and columns do not fit together, using synthetic columns");
+                }
+            }
+            credits = null;
+            if (columns == null) {
+                columns = syntheticColumns(size);
+            }
+            benchmarkBatch(calculator, columns);
+        }
+    }
+
+    // Переоцінка: нова ставка скидає кеш платежів, далі рахуємо обидва платежі
+    private static void benchmarkPerObject(List<Credit> credits) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (Credit credit : credits) {
+                BigDecimal rate = credit.getInterestRate();
+                credit.setInterestRate(rate);
+                checksum += credit.calculateMonthlyPayment().signum() + credit.calculateTotalPayment().signum();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        print("per-object", credits.size(), best, checksum);
+    }
+
+    private static void benchmarkBatch(BatchPaymentCalculator calculator, CreditColumns columns) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            calculator.calculate(columns);
+            best = Math.min(best, System.nanoTime() - start);
+            checksum += columns.getMonthlyPaymentMinor()[columns.size() / 2];
+        }
+        print("batch", columns.size(), best, checksum);
+    }
+
+    private static CreditColumns syntheticColumns(int size) {
+        CreditColumns columns = new CreditColumns(size);
+        for (int i = 0; i < size; i++) {
+            columns.getAmountMinor()[i] = 1_000_000L + (i % 100_000) * 100L;
+            columns.getRateBasisPoints()[i] = 800 + (i % 120) * 10;
+            columns.getTermMonths()[i] = 12 + 12 * (i % 25);
+        }
+        return columns;
+    }
+
+    private static void print(String label, int size, long nanos, long checksum) {
+        System.out.println(String.format("%-10s %10.2f ms  %8.1f ns/credit  (checksum %d)",
+                label, nanos / 1e6, (double) nanos / size, checksum));
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
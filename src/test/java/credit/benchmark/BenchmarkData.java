@@ -0,0 +1,98 @@
+package credit.benchmark;
+
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Дані для бенчмарків: шість демонстраційних пропозицій з Application
+// і синтетичний каталог довільного розміру
+public final class BenchmarkData {
+    private static final String[] PROPERTY_TYPES = {"APARTMENT", "HOUSE", "TOWNHOUSE"};
+    private static final String[] PURPOSES = {"HOME_RENOVATION", "EDUCATION", "TRAVEL", "MEDICAL"};
+    private static final String[] CAR_BRANDS = {"Toyota", "BMW", "Skoda", "Hyundai"};
+    private static final String[] CAR_MODELS = {"Camry", "X5", "Octavia", "Tucson"};
+
+    private BenchmarkData() {
+    }
+
+    public static List<Bank> banks() {
+        List<Bank> banks = new ArrayList<>();
+        banks.add(new Bank("PrivatBank", "PB001", 4.8));
+        banks.add(new Bank("Oschadbank", "OSB002", 4.6));
+        banks.add(new Bank("Raiffeisen Bank", "RB003", 4.9));
+        banks.add(new Bank("Monobank", "MB004", 4.7));
+        return banks;
+    }
+
+    public static List<Credit> seededOffers() {
+        List<Bank> banks = banks();
+        List<Credit> credits = new ArrayList<>();
+        credits.add(new MortgageCredit("M001", banks.get(0), new BigDecimal("500000"),
+                new BigDecimal("12.5"), 240, true, false,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT"));
+        credits.add(new MortgageCredit("M002", banks.get(1), new BigDecimal("800000"),
+                new BigDecimal("11.8"), 300, true, true,
+                new BigDecimal("1000000"), new BigDecimal("200000"), "HOUSE"));
+        credits.add(new ConsumerCredit("C001", banks.get(2), new BigDecimal("50000"),
+                new BigDecimal("18.5"), 60, true, true,
+                "HOME_RENOVATION", false, new BigDecimal("200000")));
+        credits.add(new ConsumerCredit("C002", banks.get(3), new BigDecimal("30000"),
+                new BigDecimal("19.2"), 36, true, false,
+                "EDUCATION", false, new BigDecimal("100000")));
+        credits.add(new CarCredit("CAR001", banks.get(0), new BigDecimal("200000"),
+                new BigDecimal("15.5"), 60, true, true,
+                "Toyota", "Camry", 2023, new BigDecimal("250000"), true));
+        credits.add(new CarCredit("CAR002", banks.get(2), new BigDecimal("150000"),
+                new BigDecimal("16.2"), 48, true, false,
+                "BMW", "X5", 2021, new BigDecimal("180000"), false));
+        return credits;
+    }
+
+    // Каталог з кількома тисячами різних пар (ставка, термін), як у продакшені
+    public static List<Credit> catalog(int size, long seed) {
+        Random random = new Random(seed);
+        List<Bank> banks = banks();
+        List<Credit> credits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Bank bank = banks.get(random.nextInt(banks.size()));
+            BigDecimal rate = BigDecimal.valueOf(800 + random.nextInt(120) * 10, 2);
+            boolean early = random.nextBoolean();
+            boolean increase = random.nextInt(3) == 0;
+            switch (i % 3) {
+                case 0: {
+                    BigDecimal propertyValue = BigDecimal.valueOf(400_000 + random.nextInt(200) * 10_000L);
+                    BigDecimal amount = propertyValue.multiply(BigDecimal.valueOf(40 + random.nextInt(55)))
+                            .divide(BigDecimal.valueOf(100));
+                    credits.add(new MortgageCredit("M" + i, bank, amount, rate, 60 + 12 * random.nextInt(21),
+                            early, increase, propertyValue, propertyValue.subtract(amount),
+                            PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)]));
+                    break;
+                }
+                case 1: {
+                    BigDecimal amount = BigDecimal.valueOf(10_000 + random.nextInt(190) * 1_000L);
+                    credits.add(new ConsumerCredit("C" + i, bank, amount, rate, 6 + 6 * random.nextInt(10),
+                            early, increase, PURPOSES[random.nextInt(PURPOSES.length)],
+                            random.nextBoolean(), amount.add(BigDecimal.valueOf(random.nextInt(100) * 1_000L))));
+                    break;
+                }
+                default: {
+                    int brand = random.nextInt(CAR_BRANDS.length);
+                    BigDecimal carValue = BigDecimal.valueOf(150_000 + random.nextInt(100) * 5_000L);
+                    BigDecimal amount = carValue.multiply(BigDecimal.valueOf(50 + random.nextInt(50)))
+                            .divide(BigDecimal.valueOf(100));
+                    credits.add(new CarCredit("CAR" + i, bank, amount, rate, 12 + 12 * random.nextInt(7),
+                            early, increase, CAR_BRANDS[brand], CAR_MODELS[brand],
+                            2015 + random.nextInt(10), carValue, random.nextBoolean()));
+                }
+            }
+        }
+        return credits;
+    }
+}
@@ -0,0 +1,82 @@
+package credit.benchmark;
+
+import credit.model.AffordabilityMatrix;
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+import credit.service.BulkEligibilityEngine;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Нічна попередня кваліфікація: кожен клієнт проти кожного кредиту каталогу
+//   per-pair - Client.isEligibleForCredit(amount, monthlyPayment) для кожної пари (BigDecimal),
+//              міряється на частині клієнтів і перераховується на всіх
+//   bulk     - BulkEligibilityEngine: бітові карти по всіх клієнтах
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.BulkEligibilityBenchmark [-Dexec.args="200000 10000"]
+public class BulkEligibilityBenchmark {
+    private static final int PER_PAIR_SAMPLE = 2_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int catalogSize = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        System.out.println("=== " + clientCount + " clients x " + catalogSize + " credits, "
+                + Runtime.getRuntime().availableProcessors() + " CPUs ===");
+
+        CreditRepository repository = new CreditRepository();
+        List<Credit> catalog = BenchmarkData.catalog(catalogSize, 42);
+        catalog.forEach(repository::addCredit);
+        List<Client> clients = clients(clientCount);
+
+        long perPairNanos = Long.MAX_VALUE;
+        long affordableSample = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            affordableSample = 0;
+            for (int i = 0; i < PER_PAIR_SAMPLE; i++) {
+                Client client = clients.get(i);
+                for (Credit credit : catalog) {
+                    if (client.isEligibleForCredit(credit.getAmount(), credit.calculateMonthlyPayment())) {
+                        affordableSample++;
+                    }
+                }
+            }
+            perPairNanos = Math.min(perPairNanos, System.nanoTime() - start);
+        }
+        double perPairSeconds = perPairNanos / 1e9 * clientCount / PER_PAIR_SAMPLE;
+        System.out.printf("per-pair: %8.2f s (extrapolated from %d clients)%n", perPairSeconds, PER_PAIR_SAMPLE);
+
+        BulkEligibilityEngine engine = new BulkEligibilityEngine(repository);
+        long bulkNanos = Long.MAX_VALUE;
+        AffordabilityMatrix matrix = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            matrix = null;
+            long start = System.nanoTime();
+            matrix = engine.evaluate(clients);
+            bulkNanos = Math.min(bulkNanos, System.nanoTime() - start);
+        }
+        long affordableBulk = 0;
+        for (int i = 0; i < PER_PAIR_SAMPLE; i++) {
+            affordableBulk += matrix.countAffordable(i);
+        }
+        System.out.printf("bulk:     %8.2f s (%.0fx), bitmaps %d MB, sample check %s%n", bulkNanos / 1e9,
+                perPairSeconds / (bulkNanos / 1e9),
+                (long) clientCount * AffordabilityMatrix.wordsFor(catalogSize) * 8 >> 20,
+                affordableBulk == affordableSample ? "ok" : "MISMATCH");
+    }
+
+    private static List<Client> clients(int count) {
+        Random random = new Random(7);
+        List<Client> clients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clients.add(new Client("CLI" + i, "First", "Last", "client" + i + "@example.com",
+                    BigDecimal.valueOf(1_000_000 + random.nextInt(15_000_000), 2), 300 + random.nextInt(551),
+                    random.nextBoolean()));
+        }
+        return clients;
+    }
+}
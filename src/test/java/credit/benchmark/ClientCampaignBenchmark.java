@@ -0,0 +1,61 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.repository.ClientRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Кампанії "рейтинг >= 700 і дохід >= 40 000" та вузька "рейтинг >= 800 і дохід >= 90 000"
+// по мільйону клієнтів:
+//   full-scan - перевірка кожного клієнта зі списку
+//   indexed   - ClientRepository.findByMinScoreAndIncome по діапазонах рейтингу і дереву доходу
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.ClientCampaignBenchmark [-Dexec.args="1000000"]
+public class ClientCampaignBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 1_000_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " clients ===");
+        Random random = new Random(42);
+        List<Client> clients = new ArrayList<>(size);
+        ClientRepository repository = new ClientRepository();
+        for (int i = 0; i < size; i++) {
+            Client client = new Client("CLI" + i, "First", "Last", "c" + i + "@example.com",
+                    BigDecimal.valueOf(5_000 + random.nextInt(95_000)), 300 + random.nextInt(551), false);
+            clients.add(client);
+            repository.addClient(client);
+        }
+        campaign(clients, repository, 700, new BigDecimal("40000"));
+        campaign(clients, repository, 800, new BigDecimal("90000"));
+    }
+
+    private static void campaign(List<Client> clients, ClientRepository repository, int minScore,
+                                 BigDecimal minIncome) {
+        System.out.println("--- score >= " + minScore + ", income >= " + minIncome + " ---");
+        long fullScan = Long.MAX_VALUE;
+        long indexed = Long.MAX_VALUE;
+        int scanFound = 0;
+        int indexFound = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Client> result = new ArrayList<>();
+            for (Client client : clients) {
+                if (client.getCreditScore() >= minScore && client.getMonthlyIncome().compareTo(minIncome) >= 0) {
+                    result.add(client);
+                }
+            }
+            fullScan = Math.min(fullScan, System.nanoTime() - start);
+            scanFound = result.size();
+
+            start = System.nanoTime();
+            indexFound = repository.findByMinScoreAndIncome(minScore, minIncome).size();
+            indexed = Math.min(indexed, System.nanoTime() - start);
+        }
+        System.out.printf("full-scan: %6.1f ms, %d clients%n", fullScan / 1e6, scanFound);
+        System.out.printf("indexed:   %6.1f ms, %d clients%n", indexed / 1e6, indexFound);
+    }
+}
@@ -0,0 +1,74 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.ColumnarCreditRepository;
+import credit.repository.CreditCatalog;
+import credit.repository.CreditRepository;
+import credit.service.CreditSearchService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Пам'ять на один кредит і швидкість searchByClientNeeds для CreditRepository (об'єкти)
+// і ColumnarCreditRepository (колонки). Пам'ять - різниця зайнятої купи після GC
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.ColumnarMemoryBenchmark [-Dexec.args="1000000"]
+public class ColumnarMemoryBenchmark {
+    private static final int BATCH = 10_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 1_000_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits ===");
+
+        long baseline = usedHeap();
+        CreditCatalog objects = fill(new CreditRepository(), size);
+        long objectBytes = usedHeap() - baseline;
+        System.out.printf("objects: %.1f bytes/credit%n", objectBytes / (double) size);
+        benchmarkSearch("objects", objects);
+        objects = null;
+
+        baseline = usedHeap();
+        CreditCatalog columns = fill(new ColumnarCreditRepository(), size);
+        long columnBytes = usedHeap() - baseline;
+        System.out.printf("columns: %.1f bytes/credit (%.1fx less)%n", columnBytes / (double) size,
+                objectBytes / (double) columnBytes);
+        benchmarkSearch("columns", columns);
+    }
+
+    // Каталог генерується порціями, щоб у купі лишалось тільки те, що тримає репозиторій
+    private static CreditCatalog fill(CreditCatalog repository, int size) {
+        for (int offset = 0; offset < size; offset += BATCH) {
+            List<Credit> batch = BenchmarkData.catalog(Math.min(BATCH, size - offset), 42 + offset);
+            for (int i = 0; i < batch.size(); i++) {
+                Credit credit = batch.get(i);
+                credit.setId(credit.getId() + "-" + offset);
+                repository.addCredit(credit);
+            }
+        }
+        return repository;
+    }
+
+    private static void benchmarkSearch(String label, CreditCatalog repository) {
+        CreditSearchService service = new CreditSearchService(repository);
+        Client client = new Client("CLI001", "John", "Doe", "john@example.com",
+                new BigDecimal("30000"), 720, false);
+        long best = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            found = service.searchByClientNeeds(client, new BigDecimal("150000"), 60).size();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s: searchByClientNeeds %d ms, %d found%n", label, best / 1_000_000, found);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,50 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.model.PrepaymentResult;
+import credit.model.PrepaymentScenario;
+import credit.service.EarlyRepaymentSimulator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Час симуляції дострокового погашення: тисячі сценаріїв на тисячі кредитів
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.EarlyRepaymentBenchmark [-Dexec.args="2000 2000"]
+public class EarlyRepaymentBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int creditCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int scenarioCount = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        List<Credit> credits = BenchmarkData.catalog(creditCount, 42);
+        List<PrepaymentScenario> scenarios = scenarios(scenarioCount);
+        EarlyRepaymentSimulator simulator = new EarlyRepaymentSimulator();
+
+        long best = Long.MAX_VALUE;
+        int results = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<PrepaymentResult> simulated = simulator.simulateAll(credits, scenarios);
+            best = Math.min(best, System.nanoTime() - start);
+            results = simulated.size();
+        }
+        System.out.println(String.format("%d credits x %d scenarios: %d results in %.2f ms (%.1f ns/scenario)",
+                creditCount, scenarioCount, results, best / 1e6, (double) best / Math.max(results, 1)));
+    }
+
+    // Половина - щомісячні переплати, половина - разові внески в різні місяці
+    private static List<PrepaymentScenario> scenarios(int count) {
+        List<PrepaymentScenario> scenarios = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                scenarios.add(PrepaymentScenario.extraMonthly(BigDecimal.valueOf(100 + (i % 50) * 100L)));
+            } else {
+                scenarios.add(PrepaymentScenario.lumpSum(1 + i % 120, BigDecimal.valueOf(5_000 + (i % 40) * 2_500L)));
+            }
+        }
+        return scenarios;
+    }
+}
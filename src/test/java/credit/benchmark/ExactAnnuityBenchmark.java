@@ -0,0 +1,105 @@
+package credit.benchmark;
+
+import credit.model.AnnuityFactorCache;
+import credit.model.Credit;
+import credit.model.RatePowerCache;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Порівняння ануїтетного коефіцієнта через Math.pow (double) з точним BigDecimal-шляхом
+// на шести демонстраційних пропозиціях і на синтетичному каталозі
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.ExactAnnuityBenchmark [-Dexec.args="1000000"]
+public class ExactAnnuityBenchmark {
+    private static final int ROUNDS = 5;
+    // Шість пропозицій рахуємо багато разів, щоб час був вимірюваним
+    private static final int SEEDED_REPEATS = 100_000;
+
+    public static void main(String[] args) {
+        int catalogSize = args.length == 0 ? 1_000_000 : Integer.parseInt(args[0]);
+
+        System.out.println("=== 6 seeded offers x " + SEEDED_REPEATS + " ===");
+        run(BenchmarkData.seededOffers(), SEEDED_REPEATS);
+        printPrecision(BenchmarkData.seededOffers());
+
+        System.out.println("=== " + catalogSize + " synthetic offers ===");
+        List<Credit> catalog = BenchmarkData.catalog(catalogSize, 42);
+        run(catalog, 1);
+        printPrecision(catalog);
+    }
+
+    private static void run(List<Credit> credits, int repeats) {
+        long operations = (long) credits.size() * repeats;
+
+        AnnuityFactorCache.clear();
+        print("double, cached factors", operations, best(() -> {
+            long checksum = 0;
+            for (int r = 0; r < repeats; r++) {
+                for (Credit credit : credits) {
+                    BigDecimal factor = AnnuityFactorCache.getFactor(credit.getInterestRate(), credit.getTermMonths());
+                    checksum += factor == null ? 0 : factor.signum();
+                }
+            }
+            return checksum;
+        }));
+
+        print("exact, no cache", operations, best(() -> {
+            long checksum = 0;
+            for (int r = 0; r < repeats; r++) {
+                for (Credit credit : credits) {
+                    BigDecimal factor = RatePowerCache.computeFactor(credit.getInterestRate(), credit.getTermMonths());
+                    checksum += factor == null ? 0 : factor.signum();
+                }
+            }
+            return checksum;
+        }));
+
+        RatePowerCache.clear();
+        print("exact, cached factors", operations, best(() -> {
+            long checksum = 0;
+            for (int r = 0; r < repeats; r++) {
+                for (Credit credit : credits) {
+                    BigDecimal factor = RatePowerCache.getFactor(credit.getInterestRate(), credit.getTermMonths());
+                    checksum += factor == null ? 0 : factor.signum();
+                }
+            }
+            return checksum;
+        }));
+    }
+
+    // Наскільки загальна сума через double відрізняється від точної
+    private static void printPrecision(List<Credit> credits) {
+        BigDecimal maxDifference = BigDecimal.ZERO;
+        String worst = "-";
+        for (Credit credit : credits) {
+            BigDecimal difference = credit.calculateTotalPayment()
+                    .subtract(credit.calculateExactTotalPayment()).abs();
+            if (difference.compareTo(maxDifference) > 0) {
+                maxDifference = difference;
+                worst = credit.getId() + " (" + credit.getInterestRate() + "% / " + credit.getTermMonths() + ")";
+            }
+        }
+        System.out.println("max total payment difference double vs exact: " + maxDifference + " on " + worst);
+    }
+
+    private static long[] best(Round round) {
+        long best = Long.MAX_VALUE;
+        long checksum = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            checksum += round.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return new long[]{best, checksum};
+    }
+
+    private static void print(String label, long operations, long[] result) {
+        System.out.println(String.format("%-22s %10.2f ms  %8.1f ns/offer  (checksum %d)",
+                label, result[0] / 1e6, (double) result[0] / operations, result[1]));
+    }
+
+    private interface Round {
+        long run();
+    }
+}
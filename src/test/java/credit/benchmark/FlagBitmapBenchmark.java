@@ -0,0 +1,63 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.repository.CreditCriteria;
+import credit.repository.CreditRepository;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Запити за прапорцями і типом по каталогу:
+//   scan   - прохід по всіх кредитах з перевіркою полів, як репозиторій робив раніше
+//   bitmap - CreditRepository з бітовими картами прапорців і типу
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.FlagBitmapBenchmark [-Dexec.args="200000"]
+public class FlagBitmapBenchmark {
+    private static final int ROUNDS = 50;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 200_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+        CreditRepository repository = new CreditRepository();
+        catalog.forEach(repository::addCredit);
+        CreditCriteria carWithIncrease = new CreditCriteria().creditType(CreditType.CAR)
+                .creditLineIncreaseAllowed(true).earlyRepaymentAllowed(false);
+
+        for (int pass = 0; pass < 2; pass++) {
+            boolean print = pass == 1;
+            compare("early repayment", print,
+                    () -> catalog.stream().filter(Credit::isEarlyRepaymentAllowed).collect(Collectors.toList()),
+                    repository::findWithEarlyRepayment);
+            compare("flexible", print,
+                    () -> catalog.stream().filter(credit -> credit.isEarlyRepaymentAllowed()
+                            || credit.isCreditLineIncreaseAllowed()).collect(Collectors.toList()),
+                    () -> repository.findMatching(new CreditCriteria().flexibleOnly(true)));
+            compare("car, increase, no early", print,
+                    () -> catalog.stream().filter(carWithIncrease::matches).collect(Collectors.toList()),
+                    () -> repository.findMatching(carWithIncrease));
+        }
+    }
+
+    private static void compare(String label, boolean print, Supplier<List<Credit>> scan,
+                                Supplier<List<Credit>> bitmap) {
+        long scanTime = time(scan);
+        long bitmapTime = time(bitmap);
+        if (print) {
+            System.out.printf("%-24s scan %7.2f ms, bitmap %7.2f ms, %d credits%n", label,
+                    scanTime / 1e6, bitmapTime / 1e6, bitmap.get().size());
+        }
+    }
+
+    private static long time(Supplier<List<Credit>> query) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
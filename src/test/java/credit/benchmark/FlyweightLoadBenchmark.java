@@ -0,0 +1,61 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.repository.BankRepository;
+import credit.util.FileDataManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Зайнята купа після завантаження каталогу з JSON: loadCredits() створює окремий банк
+// і окремі рядки/ставки/дати для кожного кредиту, loadCredits(bankRepository) - спільні
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.FlyweightLoadBenchmark [-Dexec.args="500000"]
+public class FlyweightLoadBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length == 0 ? 500_000 : Integer.parseInt(args[0]);
+        Path directory = Files.createTempDirectory("credits");
+        FileDataManager fileDataManager = new FileDataManager(directory.toString());
+        fileDataManager.saveCredits(BenchmarkData.catalog(size, 42));
+        System.out.println("=== " + size + " credits, "
+                + (Files.size(directory.resolve("credits.json")) >> 20) + " MB JSON ===");
+
+        long plain = retained(() -> fileDataManager.loadCredits());
+        System.out.printf("loadCredits():               %6d MB, %5.1f bytes/credit%n", plain >> 20,
+                (double) plain / size);
+        BankRepository bankRepository = new BankRepository();
+        long shared = retained(() -> fileDataManager.loadCredits(bankRepository));
+        System.out.printf("loadCredits(bankRepository): %6d MB, %5.1f bytes/credit, %d banks%n", shared >> 20,
+                (double) shared / size, bankRepository.size());
+        System.out.printf("saved %.1f%%%n", 100.0 * (plain - shared) / plain);
+
+        Files.deleteIfExists(directory.resolve("credits.json"));
+        Files.deleteIfExists(directory);
+    }
+
+    private interface Loader {
+        List<Credit> load() throws IOException;
+    }
+
+    // Різниця зайнятої купи до і після, поки завантажений список ще живий
+    private static long retained(Loader loader) throws IOException {
+        long baseline = usedHeap();
+        List<Credit> credits = loader.load();
+        long used = usedHeap() - baseline;
+        if (credits.isEmpty()) {
+            throw new IllegalStateException("nothing loaded");
+        }
+        return used;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,53 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+
+import java.util.List;
+import java.util.Random;
+
+// Пошук кредитів за id, банком і видалення:
+//   scan  - прохід по списку, як CreditRepository робив раніше
+//   index - CreditRepository з хеш-індексами id і банку
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.IdLookupBenchmark [-Dexec.args="100000"]
+public class IdLookupBenchmark {
+    private static final int LOOKUPS = 2_000;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 100_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, " + LOOKUPS + " lookups ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+        CreditRepository repository = new CreditRepository();
+        catalog.forEach(repository::addCredit);
+
+        for (int pass = 0; pass < 2; pass++) {
+            Random random = new Random(1);
+            int found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                String id = catalog.get(random.nextInt(size)).getId();
+                found += catalog.stream().filter(credit -> credit.getId().equals(id)).findFirst().isPresent() ? 1 : 0;
+            }
+            long scan = System.nanoTime() - start;
+
+            random = new Random(1);
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                found += repository.findById(catalog.get(random.nextInt(size)).getId()).isPresent() ? 1 : 0;
+            }
+            long index = System.nanoTime() - start;
+            if (pass == 1) {
+                System.out.printf("findById scan:  %8.2f us/lookup%n", scan / 1e3 / LOOKUPS);
+                System.out.printf("findById index: %8.2f us/lookup (%d found)%n", index / 1e3 / LOOKUPS, found);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i += 10) {
+            repository.removeCredit(catalog.get(i).getId());
+        }
+        System.out.printf("remove every 10th credit: %8.1f ms, %d left%n", (System.nanoTime() - start) / 1e6,
+                repository.size());
+    }
+}
@@ -0,0 +1,107 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.repository.CreditCatalog;
+import credit.repository.CreditRepository;
+import credit.repository.OffHeapCreditRepository;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Каталог на купі (CreditRepository, ArrayList) проти каталогу поза купою (OffHeapCreditRepository):
+// зайнята купа, тривалість повного GC з живим каталогом, час GC під час запитів і затримка запитів
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.OffHeapCatalogBenchmark [-Dexec.args="2000000"]
+public class OffHeapCatalogBenchmark {
+    private static final int BATCH = 10_000;
+    private static final int ROUNDS = 7;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 2_000_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits ===");
+        run("on-heap", new CreditRepository(), size);
+        run("off-heap", new OffHeapCreditRepository(), size);
+    }
+
+    private static void run(String label, CreditCatalog repository, int size) {
+        long baseline = usedHeap();
+        String lastId = fill(repository, size);
+        System.out.printf("%s: heap %d MB%n", label, (usedHeap() - baseline) >> 20);
+
+        long fullGc = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            System.gc();
+            fullGc = Math.min(fullGc, System.nanoTime() - start);
+        }
+        System.out.printf("%s: full GC with live catalog %d ms%n", label, fullGc / 1_000_000);
+
+        long gcTime = gcTimeMillis();
+        long gcCount = gcCount();
+        measure(label, "findById", () -> repository.findById(lastId).map(credit -> 1).orElse(0));
+        measure(label, "findByAmountRange", () -> repository.findByAmountRange(
+                new BigDecimal("100000"), new BigDecimal("100500")).size());
+        measure(label, "findByCreditType", () -> repository.findByCreditType(CreditType.CAR).size());
+        measure(label, "findWithCreditLineIncrease", () -> repository.findWithCreditLineIncrease().size());
+        System.out.printf("%s: GC during queries %d ms in %d collections%n", label,
+                gcTimeMillis() - gcTime, gcCount() - gcCount);
+        repository.clear();
+    }
+
+    // Повертає id останнього кредиту - найгірший випадок для findById
+    private static String fill(CreditCatalog repository, int size) {
+        String lastId = null;
+        for (int offset = 0; offset < size; offset += BATCH) {
+            List<Credit> batch = BenchmarkData.catalog(Math.min(BATCH, size - offset), 42 + offset);
+            for (Credit credit : batch) {
+                credit.setId(credit.getId() + "-" + offset);
+                repository.addCredit(credit);
+                lastId = credit.getId();
+            }
+        }
+        return lastId;
+    }
+
+    // Медіана і максимум по раундах
+    private static void measure(String label, String query, Supplier<Integer> body) {
+        long[] times = new long[ROUNDS];
+        int found = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            found = body.get();
+            times[round] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        System.out.printf("%s: %-27s median %6.1f ms, max %6.1f ms, %d rows%n", label, query,
+                times[ROUNDS / 2] / 1e6, times[ROUNDS - 1] / 1e6, found);
+    }
+
+    private static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,59 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.repository.CreditRepository;
+import credit.service.CreditSearchService;
+import credit.service.PrequalificationCache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Повторні searchByClientNeeds від кількох профілів клієнтів з різними сумами і термінами:
+//   plain  - кожен запит проходить весь каталог
+//   cached - CreditSearchService з PrequalificationCache, запит фільтрує тільки доступні профілю кредити
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.PrequalificationCacheBenchmark [-Dexec.args="200000"]
+public class PrequalificationCacheBenchmark {
+    private static final int PROFILES = 20;
+    private static final int QUERIES = 2_000;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 200_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, " + PROFILES + " profiles, " + QUERIES + " queries ===");
+        CreditRepository repository = new CreditRepository();
+        BenchmarkData.catalog(size, 42).forEach(repository::addCredit);
+        List<Client> profiles = new ArrayList<>();
+        for (int i = 0; i < PROFILES; i++) {
+            profiles.add(new Client("CLI" + i, "John", "Doe", "john@example.com",
+                    BigDecimal.valueOf(10_000 + i * 3_000), 700, false));
+        }
+        PrequalificationCache cache = new PrequalificationCache();
+
+        for (int pass = 0; pass < 2; pass++) {
+            long plain = run(new CreditSearchService(repository), profiles);
+            long cached = run(new CreditSearchService(repository, cache), profiles);
+            if (pass == 1) {
+                System.out.printf("plain:  %8.1f ms%n", plain / 1e6);
+                System.out.printf("cached: %8.1f ms, hit rate %.1f%%%n", cached / 1e6, cache.getHitRate() * 100);
+            }
+        }
+    }
+
+    private static long run(CreditSearchService service, List<Client> profiles) {
+        Random random = new Random(7);
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            Client client = profiles.get(random.nextInt(profiles.size()));
+            BigDecimal amount = BigDecimal.valueOf(20_000 + random.nextInt(400) * 1_000L);
+            found += service.searchByClientNeeds(client, amount, 12 + 12 * random.nextInt(5)).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (found < 0) {
+            System.out.println(found);
+        }
+        return elapsed;
+    }
+}
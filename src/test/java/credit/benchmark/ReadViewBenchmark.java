@@ -0,0 +1,66 @@
+package credit.benchmark;
+
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.repository.CreditRepository;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+// Читання каталогу з копією і без неї:
+//   copy - findAll() / findByCreditType(): новий список на кожен запит
+//   view - view() / forEach / viewByCreditType(): без проміжної копії
+// Для кожного варіанту - час і виділена пам'ять на запит
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.ReadViewBenchmark [-Dexec.args="100000"]
+public class ReadViewBenchmark {
+    private static final int QUERIES = 200;
+
+    public static void main(String[] args) {
+        int size = args.length == 0 ? 100_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, " + QUERIES + " queries ===");
+        CreditRepository repository = new CreditRepository();
+        BenchmarkData.catalog(size, 42).forEach(repository::addCredit);
+        Comparator<Credit> byRate = Comparator.comparing(Credit::getInterestRate);
+
+        for (int pass = 0; pass < 2; pass++) {
+            boolean print = pass == 1;
+            measure(print, "full pass, findAll copy", () -> {
+                int flexible = 0;
+                for (Credit credit : repository.findAll()) {
+                    flexible += credit.isEarlyRepaymentAllowed() ? 1 : 0;
+                }
+                return flexible;
+            });
+            measure(print, "full pass, forEach     ", () -> {
+                int[] flexible = new int[1];
+                repository.forEach(credit -> flexible[0] += credit.isEarlyRepaymentAllowed() ? 1 : 0);
+                return flexible[0];
+            });
+            measure(print, "by type sorted, copy   ", () -> repository.findByCreditType(CreditType.MORTGAGE).stream()
+                    .sorted(byRate).collect(Collectors.toList()).size());
+            measure(print, "by type sorted, view   ", () -> repository.viewByCreditType(CreditType.MORTGAGE).stream()
+                    .sorted(byRate).collect(Collectors.toList()).size());
+        }
+    }
+
+    private static void measure(boolean print, String name, IntSupplier query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int checksum = 0;
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            checksum += query.getAsInt();
+        }
+        long time = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+        if (print) {
+            System.out.printf("%s: %8.1f us/query, %10d bytes/query (%d)%n", name, time / 1e3 / QUERIES,
+                    allocated / QUERIES, checksum);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.SnapshotCreditRepository;
+import credit.service.CreditSearchService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Імпорт нових пропозицій у SnapshotCreditRepository, поки 4 потоки шукають кредити:
+//   per-credit - addCredit на кожну пропозицію (окрема версія каталогу на кожну)
+//   batched    - importer(BATCH_SIZE), одна версія на пакет
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.SnapshotImportBenchmark [-Dexec.args="10000 200"]
+public class SnapshotImportBenchmark {
+    private static final int READERS = 4;
+    private static final int BATCH_SIZE = 50;
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length == 0 ? 10_000 : Integer.parseInt(args[0]);
+        int imports = args.length < 2 ? 200 : Integer.parseInt(args[1]);
+        System.out.println("=== " + size + " credits, importing " + imports + ", " + READERS + " readers ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+        List<Credit> offers = new ArrayList<>();
+        for (Credit credit : BenchmarkData.catalog(imports, 7)) {
+            Credit offer = credit.copy();
+            offer.setId("NEW-" + credit.getId());
+            offers.add(offer);
+        }
+
+        run("per-credit", catalog, offers, false);
+        run("batched", catalog, offers, true);
+    }
+
+    private static void run(String label, List<Credit> catalog, List<Credit> offers, boolean batched)
+            throws InterruptedException {
+        SnapshotCreditRepository repository = new SnapshotCreditRepository();
+        repository.replaceAll(catalog);
+        CreditSearchService service = new CreditSearchService(repository);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder queries = new LongAdder();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            int seed = r;
+            readers.add(new Thread(() -> {
+                Random random = new Random(seed);
+                Client client = new Client("CLI" + seed, "Test", "Client", "client@example.com",
+                        new BigDecimal("60000"), 720, false);
+                while (running.get()) {
+                    BigDecimal amount = BigDecimal.valueOf(20_000 + random.nextInt(400) * 1_000L);
+                    service.searchByClientNeeds(client, amount, 12 + 12 * random.nextInt(5));
+                    queries.increment();
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        long start = System.nanoTime();
+        if (batched) {
+            try (SnapshotCreditRepository.Importer importer = repository.importer(BATCH_SIZE)) {
+                offers.forEach(importer::add);
+            }
+        } else {
+            offers.forEach(repository::addCredit);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        System.out.printf("%-10s import %7.2f s (%6.0f offers/s), readers %6.0f queries/s, %d credits%n",
+                label, seconds, offers.size() / seconds, queries.sum() / seconds, repository.size());
+    }
+}
@@ -0,0 +1,150 @@
+package credit.benchmark;
+
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+import credit.repository.SnapshotCreditRepository;
+import credit.service.CreditSearchService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Пропускна здатність searchByClientNeeds з 1, 4 і 16 потоків-читачів, поки один писач
+// WRITES_PER_SECOND разів на секунду переоцінює 1% каталогу:
+//   rw-lock  - звичайний CreditRepository, читачі під readLock, писач змінює кредити під writeLock
+//   snapshot - SnapshotCreditRepository, читачі без блокувань, писач публікує нові версії
+// Запуск: mvn test-compile exec:java -Dexec.classpathScope=test
+//         -Dexec.mainClass=credit.benchmark.SnapshotReadBenchmark [-Dexec.args="20000"]
+public class SnapshotReadBenchmark {
+    private static final int[] READERS = {1, 4, 16};
+    private static final long DURATION_MILLIS = 3_000;
+    private static final int WRITES_PER_SECOND = 20;
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length == 0 ? 20_000 : Integer.parseInt(args[0]);
+        System.out.println("=== " + size + " credits, " + Runtime.getRuntime().availableProcessors()
+                + " CPUs ===");
+        List<Credit> catalog = BenchmarkData.catalog(size, 42);
+
+        for (int pass = 0; pass < 2; pass++) {
+            // Перший прохід - прогрів JIT, результати не друкуються
+            boolean print = pass == 1;
+            for (int readers : READERS) {
+                CreditRepository locked = new CreditRepository();
+                catalog.forEach(credit -> locked.addCredit(credit.copy()));
+                run("rw-lock", readers, new CreditSearchService(locked), lockedWriter(locked), print);
+
+                SnapshotCreditRepository snapshots = new SnapshotCreditRepository();
+                snapshots.replaceAll(catalog);
+                run("snapshot", readers, new CreditSearchService(snapshots), snapshotWriter(snapshots), print);
+            }
+        }
+    }
+
+    private interface Writer {
+        // Одна переоцінка; повертає кількість змінених кредитів
+        int reprice(Random random);
+    }
+
+    private static final ReadWriteLock LOCK = new ReentrantReadWriteLock();
+
+    private static Writer lockedWriter(CreditRepository repository) {
+        List<Credit> credits = repository.findAll();
+        return random -> {
+            LOCK.writeLock().lock();
+            try {
+                int changed = credits.size() / 100;
+                for (int i = 0; i < changed; i++) {
+                    Credit credit = credits.get(random.nextInt(credits.size()));
+                    credit.setInterestRate(nextRate(random));
+                }
+                return changed;
+            } finally {
+                LOCK.writeLock().unlock();
+            }
+        };
+    }
+
+    private static Writer snapshotWriter(SnapshotCreditRepository repository) {
+        return random -> {
+            int changed = repository.size() / 100;
+            repository.update(credits -> {
+                for (int i = 0; i < changed; i++) {
+                    int index = random.nextInt(credits.size());
+                    Credit repriced = credits.get(index).copy();
+                    repriced.setInterestRate(nextRate(random));
+                    credits.set(index, repriced);
+                }
+            });
+            return changed;
+        };
+    }
+
+    private static BigDecimal nextRate(Random random) {
+        return BigDecimal.valueOf(800 + random.nextInt(120) * 10, 2);
+    }
+
+    private static void run(String label, int readerCount, CreditSearchService service, Writer writer,
+                            boolean print) throws InterruptedException {
+        boolean locking = label.equals("rw-lock");
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder queries = new LongAdder();
+        LongAdder writes = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int r = 0; r < readerCount; r++) {
+            int seed = r;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                Client client = new Client("CLI" + seed, "Test", "Client", "client@example.com",
+                        new BigDecimal("60000"), 720, false);
+                while (running.get()) {
+                    BigDecimal amount = BigDecimal.valueOf(20_000 + random.nextInt(400) * 1_000L);
+                    if (locking) {
+                        LOCK.readLock().lock();
+                    }
+                    try {
+                        service.searchByClientNeeds(client, amount, 12 + 12 * random.nextInt(5));
+                    } finally {
+                        if (locking) {
+                            LOCK.readLock().unlock();
+                        }
+                    }
+                    queries.increment();
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            Random random = new Random(99);
+            long pause = 1_000 / WRITES_PER_SECOND;
+            while (running.get()) {
+                writer.reprice(random);
+                writes.increment();
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }));
+
+        long start = System.nanoTime();
+        threads.forEach(Thread::start);
+        Thread.sleep(print ? DURATION_MILLIS : DURATION_MILLIS / 3);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (!print) {
+            return;
+        }
+        System.out.printf("%-8s %2d readers: %8.0f queries/s, %7.0f repricings/s%n", label, readerCount,
+                queries.sum() / seconds, writes.sum() / seconds);
+    }
+}
@@ -0,0 +1,123 @@
+package credit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationScheduleTest {
+
+    private Bank testBank;
+    private MortgageCredit mortgage;
+
+    @BeforeEach
+    void setUp() {
+        testBank = new Bank("TestBank", "TB001", 4.5);
+        mortgage = new MortgageCredit("M001", testBank, new BigDecimal("800000"),
+                new BigDecimal("11.8"), 300, true, true,
+                new BigDecimal("1000000"), new BigDecimal("200000"), "HOUSE");
+        mortgage.setStartDate(LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    void testFirstRowSplitsPaymentIntoInterestAndPrincipal() {
+        AmortizationEntry first = mortgage.getAmortizationSchedule().iterator().next();
+
+        // 800000 * 0.0098 = 7840.00
+        assertEquals(1, first.getMonth());
+        assertEquals(new BigDecimal("7840.00"), first.getInterest());
+        assertEquals(mortgage.calculateMonthlyPayment(), first.getPayment());
+        assertEquals(first.getPayment().subtract(first.getInterest()), first.getPrincipal());
+        assertEquals(new BigDecimal("800000").subtract(first.getPrincipal()), first.getRemainingBalance());
+    }
+
+    @Test
+    void testFullScheduleRepaysWholeAmount() {
+        List<AmortizationEntry> rows = mortgage.getAmortizationSchedule().stream()
+                .collect(Collectors.toList());
+
+        assertTrue(rows.size() <= 300);
+        assertEquals(0, rows.get(rows.size() - 1).getRemainingBalance().signum());
+        BigDecimal principalPaid = rows.stream()
+                .map(AmortizationEntry::getPrincipal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, principalPaid.compareTo(mortgage.getAmount()));
+    }
+
+    @Test
+    void testFirstTwelveRowsWithoutFullSchedule() {
+        List<AmortizationEntry> firstYear = mortgage.getAmortizationSchedule().stream()
+                .limit(12)
+                .collect(Collectors.toList());
+
+        assertEquals(12, firstYear.size());
+        for (int i = 1; i < firstYear.size(); i++) {
+            assertTrue(firstYear.get(i).getRemainingBalance()
+                    .compareTo(firstYear.get(i - 1).getRemainingBalance()) < 0);
+        }
+    }
+
+    @Test
+    void testPaymentDatesFollowStartDate() {
+        Iterator<AmortizationEntry> it = mortgage.getAmortizationSchedule().iterator();
+
+        assertEquals(LocalDate.of(2024, 2, 29), it.next().getPaymentDate());
+        assertEquals(LocalDate.of(2024, 3, 31), it.next().getPaymentDate());
+    }
+
+    @Test
+    void testCustomScheduleStartDate() {
+        AmortizationEntry first = mortgage.getAmortizationSchedule(LocalDate.of(2025, 6, 15))
+                .iterator().next();
+
+        assertEquals(LocalDate.of(2025, 7, 15), first.getPaymentDate());
+    }
+
+    @Test
+    void testZeroInterestScheduleHasNoInterest() {
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("1200"),
+                BigDecimal.ZERO, 12, true, false);
+
+        List<AmortizationEntry> rows = credit.getAmortizationSchedule().stream()
+                .collect(Collectors.toList());
+
+        assertEquals(12, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.getInterest().signum() == 0));
+        assertEquals(0, rows.get(11).getRemainingBalance().signum());
+    }
+
+    @Test
+    void testScheduleIsRepeatable() {
+        AmortizationSchedule schedule = mortgage.getAmortizationSchedule();
+
+        assertEquals(schedule.iterator().next(), schedule.iterator().next());
+    }
+
+    @Test
+    void testEmptyScheduleForIncompleteCredit() {
+        AmortizationSchedule schedule = new Credit().getAmortizationSchedule();
+
+        assertFalse(schedule.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> schedule.iterator().next());
+    }
+
+    @Test
+    void testStreamOfScheduleEndingEarly() {
+        // 0.65 * 154 > 100: округлений платіж закриває борг на місяць раніше терміну
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100"),
+                BigDecimal.ZERO, 155, false, false);
+        AmortizationSchedule schedule = credit.getAmortizationSchedule();
+
+        assertEquals(154, schedule.stream().count());
+        assertEquals(154, schedule.stream().toArray().length);
+        assertEquals(BigDecimal.ZERO.setScale(2), schedule.stream()
+                .reduce((first, second) -> second).get().getRemainingBalance().setScale(2));
+    }
+}
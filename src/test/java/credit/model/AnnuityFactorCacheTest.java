@@ -0,0 +1,105 @@
+package credit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnuityFactorCacheTest {
+
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        AnnuityFactorCache.clear();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+    }
+
+    // Еталонна формула без кешу
+    private BigDecimal referenceTotalPayment(BigDecimal amount, BigDecimal interestRate, int termMonths) {
+        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP)
+                .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+        double powValue = Math.pow(1 + monthlyRate.doubleValue(), termMonths);
+        BigDecimal denominator = BigDecimal.valueOf(powValue - 1);
+        BigDecimal monthlyPayment = amount.multiply(
+                monthlyRate.multiply(BigDecimal.valueOf(powValue))
+                        .divide(denominator, 4, RoundingMode.HALF_UP));
+        return monthlyPayment.multiply(BigDecimal.valueOf(termMonths));
+    }
+
+    @Test
+    void testTotalPaymentMatchesReferenceFormula() {
+        String[] rates = {"12.5", "11.8", "18.5", "19.2", "15.5", "16.2", "0.5", "35.99"};
+        int[] terms = {12, 36, 48, 60, 240, 300};
+        BigDecimal amount = new BigDecimal("123456.78");
+
+        for (String rate : rates) {
+            for (int term : terms) {
+                Credit credit = new Credit("CR", testBank, "CONSUMER", amount,
+                        new BigDecimal(rate), term, true, false);
+                assertEquals(referenceTotalPayment(amount, new BigDecimal(rate), term),
+                        credit.calculateTotalPayment(), rate + "% / " + term);
+            }
+        }
+    }
+
+    @Test
+    void testHitAndMissCounters() {
+        BigDecimal first = AnnuityFactorCache.getFactor(new BigDecimal("15.0"), 60);
+        BigDecimal second = AnnuityFactorCache.getFactor(new BigDecimal("15.0"), 60);
+
+        assertEquals(first, second);
+        assertEquals(1, AnnuityFactorCache.getMissCount());
+        assertEquals(1, AnnuityFactorCache.getHitCount());
+        assertEquals(1, AnnuityFactorCache.size());
+    }
+
+    @Test
+    void testRateScaleDoesNotCreateNewEntry() {
+        AnnuityFactorCache.getFactor(new BigDecimal("15"), 60);
+        AnnuityFactorCache.getFactor(new BigDecimal("15.00"), 60);
+
+        assertEquals(1, AnnuityFactorCache.size());
+        assertEquals(1, AnnuityFactorCache.getHitCount());
+    }
+
+    @Test
+    void testDifferentTermsAreSeparateEntries() {
+        AnnuityFactorCache.getFactor(new BigDecimal("15.0"), 60);
+        AnnuityFactorCache.getFactor(new BigDecimal("15.0"), 120);
+
+        assertEquals(2, AnnuityFactorCache.size());
+        assertEquals(2, AnnuityFactorCache.getMissCount());
+    }
+
+    @Test
+    void testSharedAcrossCreditSubclasses() {
+        new MortgageCredit("M001", testBank, new BigDecimal("500000"), new BigDecimal("12.5"), 240,
+                true, false, new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT")
+                .calculateTotalPayment();
+        new CarCredit("CAR001", testBank, new BigDecimal("200000"), new BigDecimal("12.5"), 240,
+                true, true, "Toyota", "Camry", 2023, new BigDecimal("250000"), true)
+                .calculateTotalPayment();
+
+        assertEquals(1, AnnuityFactorCache.getMissCount());
+        assertEquals(1, AnnuityFactorCache.getHitCount());
+    }
+
+    @Test
+    void testTinyRateHasNoFactor() {
+        assertNull(AnnuityFactorCache.getFactor(new BigDecimal("0.001"), 60));
+        assertNull(AnnuityFactorCache.getFactor(new BigDecimal("0.001"), 60));
+        assertEquals(1, AnnuityFactorCache.getHitCount());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int term = 1; term <= AnnuityFactorCache.MAX_ENTRIES + 10; term++) {
+            AnnuityFactorCache.getFactor(new BigDecimal("10"), term);
+        }
+        assertTrue(AnnuityFactorCache.size() <= AnnuityFactorCache.MAX_ENTRIES);
+    }
+}
@@ -159,5 +159,29 @@ class ClientTest {
         assertTrue(toString.contains("John"));
         assertTrue(toString.contains("Doe"));
     }
-}
 
+    @Test
+    void testMaxAffordableAmount() {
+        Client client = new Client("CLI", "John", "Doe", "john@example.com", new BigDecimal("50000"), 700, false);
+        BigDecimal max = client.calculateMaxAffordableAmount(new BigDecimal("15.0"), 60);
+        Credit atLimit = new Credit("CR001", null, "CONSUMER", max, new BigDecimal("15.0"), 60, true, false);
+        Credit overLimit = new Credit("CR002", null, "CONSUMER", max.add(new BigDecimal("0.01")),
+                new BigDecimal("15.0"), 60, true, false);
+
+        assertEquals(2, max.scale());
+        assertTrue(client.isEligibleForCredit(atLimit.getAmount(), atLimit.calculateMonthlyPayment()));
+        assertFalse(client.isEligibleForCredit(overLimit.getAmount(), overLimit.calculateMonthlyPayment()));
+        assertEquals(max, client.calculateMaxAffordableAmount(atLimit));
+    }
+
+    @Test
+    void testMaxAffordableAmountForIneligibleClient() {
+        Client lowScore = new Client("CLI", "John", "Doe", "john@example.com", new BigDecimal("50000"), 550, false);
+
+        assertEquals(new BigDecimal("0.00"), lowScore.calculateMaxAffordableAmount(new BigDecimal("15.0"), 60));
+        assertEquals(new BigDecimal("0.00"), new Client().calculateMaxAffordableAmount(BigDecimal.TEN, 12));
+        assertThrows(IllegalArgumentException.class, () -> lowScore.calculateMaxAffordableAmount(null, 60));
+        assertThrows(IllegalArgumentException.class,
+                () -> lowScore.calculateMaxAffordableAmount(BigDecimal.TEN, 0));
+    }
+}
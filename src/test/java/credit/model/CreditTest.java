@@ -138,5 +138,147 @@ class CreditTest {
         BigDecimal monthlyPayment = zeroInterestCredit.calculateMonthlyPayment();
         assertTrue(monthlyPayment.compareTo(BigDecimal.ZERO) >= 0);
     }
-}
 
+    @Test
+    void testPaymentsAreMemoized() {
+        assertSame(credit.calculateTotalPayment(), credit.calculateTotalPayment());
+        assertSame(credit.calculateMonthlyPayment(), credit.calculateMonthlyPayment());
+    }
+
+    @Test
+    void testSetAmountInvalidatesPayments() {
+        BigDecimal before = credit.calculateMonthlyPayment();
+        credit.setAmount(new BigDecimal("200000"));
+
+        Credit expected = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("200000"),
+                new BigDecimal("15.0"), 60, true, false);
+        assertNotEquals(before, credit.calculateMonthlyPayment());
+        assertEquals(expected.calculateMonthlyPayment(), credit.calculateMonthlyPayment());
+        assertEquals(expected.calculateTotalPayment(), credit.calculateTotalPayment());
+    }
+
+    @Test
+    void testSetInterestRateInvalidatesPayments() {
+        BigDecimal before = credit.calculateTotalPayment();
+        credit.setInterestRate(new BigDecimal("10.0"));
+
+        assertTrue(credit.calculateTotalPayment().compareTo(before) < 0);
+    }
+
+    @Test
+    void testSetTermMonthsInvalidatesPayments() {
+        BigDecimal before = credit.calculateMonthlyPayment();
+        credit.setTermMonths(120);
+
+        assertTrue(credit.calculateMonthlyPayment().compareTo(before) < 0);
+    }
+
+    @Test
+    void testMemoizedPaymentsDoNotAffectEquality() {
+        Credit other = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false);
+        other.setStartDate(credit.getStartDate());
+        credit.calculateMonthlyPayment();
+
+        assertEquals(credit, other);
+        assertEquals(credit.hashCode(), other.hashCode());
+    }
+
+    @Test
+    void testCreditTypeParsedFromString() {
+        assertEquals(CreditType.CONSUMER, credit.getType());
+
+        credit.setCreditType("mortgage");
+        assertEquals(CreditType.MORTGAGE, credit.getType());
+
+        credit.setCreditType("PERSONAL");
+        assertNull(credit.getType());
+        assertEquals("PERSONAL", credit.getCreditType());
+    }
+
+    @Test
+    void testSetTypeUpdatesCreditTypeString() {
+        credit.setType(CreditType.CAR);
+
+        assertEquals("CAR", credit.getCreditType());
+        assertEquals(CreditType.CAR, credit.getType());
+    }
+
+    @Test
+    void testSnapshotIsReadOnlyCopy() {
+        Credit snapshot = credit.snapshot();
+
+        assertNotSame(credit, snapshot);
+        assertEquals(credit, snapshot);
+        assertTrue(snapshot.isSnapshot());
+        assertFalse(credit.isSnapshot());
+        assertSame(snapshot, snapshot.snapshot());
+        assertEquals(credit.calculateMonthlyPayment(), snapshot.calculateMonthlyPayment());
+        assertEquals(credit.calculateMonthlyPaymentMinor(), snapshot.calculateMonthlyPaymentMinor());
+        assertThrows(IllegalStateException.class, () -> snapshot.setInterestRate(new BigDecimal("9.0")));
+        assertThrows(IllegalStateException.class, () -> snapshot.setType(CreditType.CAR));
+
+        credit.setInterestRate(new BigDecimal("9.0"));
+        assertEquals(new BigDecimal("15.0"), snapshot.getInterestRate());
+    }
+
+    @Test
+    void testCopyOfSnapshotIsModifiable() {
+        Credit copy = credit.snapshot().copy();
+        copy.setInterestRate(new BigDecimal("9.0"));
+
+        assertFalse(copy.isSnapshot());
+        assertEquals(Credit.class, copy.getClass());
+        assertTrue(copy.calculateMonthlyPayment().compareTo(credit.calculateMonthlyPayment()) < 0);
+    }
+
+    @Test
+    void testSnapshotKeepsSubclass() {
+        MortgageCredit mortgage = new MortgageCredit("M001", testBank, new BigDecimal("800000"),
+                new BigDecimal("10.5"), 240, true, false, new BigDecimal("1000000"),
+                new BigDecimal("200000"), "APARTMENT");
+        CarCredit car = new CarCredit("A001", testBank, new BigDecimal("400000"), new BigDecimal("12.0"), 60,
+                false, false, "Skoda", "Octavia", 2022, new BigDecimal("500000"), true);
+        ConsumerCredit consumer = new ConsumerCredit("C001", testBank, new BigDecimal("50000"),
+                new BigDecimal("18.0"), 24, true, true, "EDUCATION", false, new BigDecimal("100000"));
+
+        MortgageCredit mortgageSnapshot = (MortgageCredit) mortgage.snapshot();
+        CarCredit carSnapshot = (CarCredit) car.snapshot();
+        ConsumerCredit consumerSnapshot = (ConsumerCredit) consumer.snapshot();
+
+        assertEquals(mortgage.calculateLoanToValue(), mortgageSnapshot.calculateLoanToValue());
+        assertEquals("APARTMENT", mortgageSnapshot.getPropertyType());
+        assertEquals("Octavia", carSnapshot.getCarModel());
+        assertEquals(new BigDecimal("500000"), carSnapshot.getCarValue());
+        assertEquals("EDUCATION", consumerSnapshot.getPurpose());
+        assertThrows(IllegalStateException.class, () -> mortgageSnapshot.setPropertyType("HOUSE"));
+        assertThrows(IllegalStateException.class, () -> carSnapshot.setNewCar(false));
+        assertThrows(IllegalStateException.class, () -> consumerSnapshot.setMaxAmount(BigDecimal.ONE));
+    }
+
+    @Test
+    void testIsMonthlyPaymentWithin() {
+        long payment = credit.calculateMonthlyPaymentMinor();
+
+        Credit cold = credit.copy();
+        assertFalse(cold.isMonthlyPaymentWithin(payment - 1));
+        assertTrue(credit.copy().isMonthlyPaymentWithin(payment));
+        // Нижня межа як за нульової ставки відкидає кредит ще до розрахунку платежу
+        assertFalse(credit.copy().isMonthlyPaymentWithin(100_000));
+        assertFalse(credit.isMonthlyPaymentWithin(-1));
+    }
+
+    @Test
+    void testMaxAffordableAmountMinor() {
+        long ceiling = 300_000;
+        long max = credit.calculateMaxAffordableAmountMinor(ceiling);
+        Credit atLimit = credit.copy();
+        atLimit.setAmount(FixedPointMoney.fromMinorUnits(max));
+        Credit overLimit = credit.copy();
+        overLimit.setAmount(FixedPointMoney.fromMinorUnits(max + 1));
+
+        assertTrue(atLimit.calculateMonthlyPaymentMinor() <= ceiling);
+        assertTrue(overLimit.calculateMonthlyPaymentMinor() > ceiling);
+        assertEquals(-1, new Credit().calculateMaxAffordableAmountMinor(ceiling));
+    }
+}
@@ -0,0 +1,180 @@
+package credit.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointMoneyTest {
+
+    private final Bank testBank = new Bank("TestBank", "TB001", 4.5);
+
+    @Test
+    void testMinorUnitsRoundTrip() {
+        assertEquals(12345678, FixedPointMoney.toMinorUnits(new BigDecimal("123456.78")));
+        assertEquals(50000000, FixedPointMoney.toMinorUnits(new BigDecimal("500000")));
+        assertEquals(1, FixedPointMoney.toMinorUnits(new BigDecimal("0.005")));
+        assertEquals(new BigDecimal("123456.78"), FixedPointMoney.fromMinorUnits(12345678));
+    }
+
+    @Test
+    void testBasisPoints() {
+        assertEquals(1250, FixedPointMoney.toBasisPoints(new BigDecimal("12.5")));
+        assertEquals(1999, FixedPointMoney.toBasisPoints(new BigDecimal("19.99")));
+        assertEquals(1, FixedPointMoney.toBasisPoints(new BigDecimal("0.005")));
+        assertEquals(new BigDecimal("12.50"), FixedPointMoney.fromBasisPoints(1250));
+    }
+
+    @Test
+    void testMonthlyRateMatchesBigDecimalRounding() {
+        for (int bp = 0; bp <= 5000; bp++) {
+            BigDecimal expected = BigDecimal.valueOf(bp, 2)
+                    .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP)
+                    .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+            assertEquals(expected.unscaledValue().longValue(), FixedPointMoney.monthlyRateUnits(bp), "bp " + bp);
+        }
+    }
+
+    @Test
+    void testAnnuityFactorMatchesCache() {
+        for (int bp = 1; bp <= 4000; bp += 7) {
+            for (int term = 1; term <= 360; term += 13) {
+                BigDecimal expected = AnnuityFactorCache.getFactor(BigDecimal.valueOf(bp, 2), term);
+                long actual = FixedPointMoney.annuityFactorUnits(FixedPointMoney.monthlyRateUnits(bp), term);
+                if (expected == null) {
+                    assertEquals(-1, actual);
+                } else {
+                    assertEquals(expected.unscaledValue().longValue(), actual, bp + "bp / " + term);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPaymentsMatchCreditCalculation() {
+        String[] amounts = {"30000", "50000", "150000", "123456.78", "800000", "0.01", "999999.99"};
+        String[] rates = {"0", "0.04", "11.8", "12.5", "15.5", "16.2", "18.5", "19.2", "19.99", "35"};
+        int[] terms = {1, 12, 36, 48, 60, 120, 240, 300, 360};
+
+        for (String amount : amounts) {
+            for (String rate : rates) {
+                for (int term : terms) {
+                    Credit credit = new Credit("CR", testBank, "CONSUMER", new BigDecimal(amount),
+                            new BigDecimal(rate), term, true, false);
+                    String message = amount + " @ " + rate + "% / " + term;
+
+                    assertEquals(credit.calculateMonthlyPayment(),
+                            FixedPointMoney.fromMinorUnits(credit.calculateMonthlyPaymentMinor()), message);
+                    assertEquals(credit.calculateTotalPayment().setScale(2, RoundingMode.HALF_UP),
+                            FixedPointMoney.fromMinorUnits(credit.calculateTotalPaymentMinor()), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testZeroTermGivesZeroPayment() {
+        assertEquals(0, FixedPointMoney.monthlyPaymentMinor(100000, 1500, 0));
+        assertEquals(0, FixedPointMoney.totalPaymentMinor(100000, 1500, 0));
+    }
+
+    @Test
+    void testMinorPaymentsFollowSetters() {
+        Credit credit = new Credit("CR", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false);
+        long before = credit.calculateMonthlyPaymentMinor();
+
+        credit.setAmount(new BigDecimal("200000"));
+
+        assertTrue(credit.calculateMonthlyPaymentMinor() > before);
+        assertEquals(credit.calculateMonthlyPayment(),
+                FixedPointMoney.fromMinorUnits(credit.calculateMonthlyPaymentMinor()));
+    }
+
+    @Test
+    void testDivideHalfUp() {
+        assertEquals(3, FixedPointMoney.divideHalfUp(5, 2));
+        assertEquals(2, FixedPointMoney.divideHalfUp(7, 3));
+        assertEquals(-3, FixedPointMoney.divideHalfUp(-5, 2));
+        assertEquals(0, FixedPointMoney.divideHalfUp(0, 7));
+    }
+
+    @Test
+    void testClientEligibilityMatchesBigDecimalVariant() {
+        String[] incomes = {"10000", "12345.67", "25000.01", "50000"};
+        long[] payments = {0, 100000, 400000, 493826, 493827, 1000000, 1000001, 2000000};
+
+        for (String income : incomes) {
+            for (int score : new int[]{599, 600, 750}) {
+                Client client = new Client("CLI", "John", "Doe", "john@example.com",
+                        new BigDecimal(income), score, false);
+                for (long payment : payments) {
+                    assertEquals(client.isEligibleForCredit(null, FixedPointMoney.fromMinorUnits(payment)),
+                            client.isEligibleForCredit(payment), income + " / " + score + " / " + payment);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testClientWithoutIncomeIsNotEligible() {
+        Client client = new Client();
+        client.setCreditScore(800);
+
+        assertEquals(-1, client.getPaymentCeilingMinor());
+        assertFalse(client.isEligibleForCredit(0L));
+
+        client.setMonthlyIncome(new BigDecimal("10000"));
+        assertEquals(400000, client.getPaymentCeilingMinor());
+        assertTrue(client.isEligibleForCredit(400000L));
+    }
+
+    @Test
+    void testMaxPrincipalIsExactBoundary() {
+        Random random = new Random(17);
+        for (int i = 0; i < 20_000; i++) {
+            long ceiling = random.nextInt(5_000_000);
+            int rate = i % 10 == 0 ? 0 : random.nextInt(4000);
+            int term = 1 + random.nextInt(360);
+
+            long principal = FixedPointMoney.maxPrincipalMinor(ceiling, rate, term);
+
+            String message = ceiling + " / " + rate + " / " + term;
+            assertTrue(FixedPointMoney.monthlyPaymentMinor(principal, rate, term) <= ceiling, message);
+            assertTrue(FixedPointMoney.monthlyPaymentMinor(principal + 1, rate, term) > ceiling, message);
+        }
+    }
+
+    @Test
+    void testMaxPrincipalEdgeCases() {
+        assertEquals(-1, FixedPointMoney.maxPrincipalMinor(-1, 1200, 12));
+        assertEquals(Long.MAX_VALUE, FixedPointMoney.maxPrincipalMinor(0, 1200, 0));
+        // Платіж з 5 копійок округлюється до нуля
+        assertEquals(5, FixedPointMoney.maxPrincipalMinor(0, 1200, 12));
+        // Без ставки платіж = сума / термін з округленням: 1200.49 / 12 -> 100.04
+        assertEquals(120_005, FixedPointMoney.maxPrincipalMinor(10_000, 0, 12));
+    }
+
+    @Test
+    void testMinTermIsLowerBoundForAnyRate() {
+        Random random = new Random(23);
+        for (int i = 0; i < 5_000; i++) {
+            long principal = 100_000 + random.nextInt(50_000_000);
+            long ceiling = 10_000 + random.nextInt(3_000_000);
+            int minTerm = FixedPointMoney.minTermMonths(principal, ceiling);
+
+            assertTrue(FixedPointMoney.monthlyPaymentMinor(principal, 0, minTerm) <= ceiling);
+            if (minTerm > 1) {
+                int shorter = 1 + random.nextInt(minTerm - 1);
+                int rate = random.nextInt(4000);
+                assertTrue(FixedPointMoney.monthlyPaymentMinor(principal, rate, shorter) > ceiling,
+                        principal + " / " + ceiling + " / " + rate + " / " + shorter);
+            }
+        }
+        assertEquals(Integer.MAX_VALUE, FixedPointMoney.minTermMonths(100, -1));
+        assertEquals(1, FixedPointMoney.minTermMonths(0, 0));
+    }
+}
@@ -100,5 +100,21 @@ class MortgageCreditTest {
         mortgageCredit.setPropertyType("COMMERCIAL");
         assertEquals("COMMERCIAL", mortgageCredit.getPropertyType());
     }
-}
 
+    @Test
+    void testLtvBand() {
+        // 500000 / 600000 = 83.33%
+        assertEquals(LtvBand.ABOVE_80, mortgageCredit.getLtvBand());
+        mortgageCredit.setAmount(new BigDecimal("360000"));
+        assertEquals(LtvBand.UP_TO_60, mortgageCredit.getLtvBand());
+        mortgageCredit.setAmount(new BigDecimal("480000"));
+        assertEquals(LtvBand.FROM_60_TO_80, mortgageCredit.getLtvBand());
+    }
+
+    @Test
+    void testCalculateDownPaymentRatio() {
+        assertEquals(0, new BigDecimal("16.67").compareTo(mortgageCredit.calculateDownPaymentRatio()));
+        mortgageCredit.setDownPayment(null);
+        assertEquals(BigDecimal.ZERO, mortgageCredit.calculateDownPaymentRatio());
+    }
+}
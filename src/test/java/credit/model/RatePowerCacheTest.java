@@ -0,0 +1,124 @@
+package credit.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatePowerCacheTest {
+
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        RatePowerCache.clear();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+    }
+
+    @Test
+    void testPowMatchesBigDecimalPow() {
+        BigDecimal base = new BigDecimal("1.0104166666666666");
+        for (int n : new int[]{0, 1, 2, 3, 12, 60, 240, 300, 1023}) {
+            BigDecimal expected = base.pow(n, new MathContext(60));
+            BigDecimal actual = RatePowerCache.pow(base, n);
+            assertEquals(0, expected.round(new MathContext(30)).compareTo(actual.round(new MathContext(30))),
+                    "n = " + n);
+        }
+    }
+
+    @Test
+    void testCachedAndUncachedFactorsAreEqual() {
+        String[] rates = {"0.5", "11.8", "12.5", "15.5", "16.2", "18.5", "19.2", "35.99"};
+        int[] terms = {1, 12, 36, 48, 60, 240, 300, 360, 5000};
+
+        for (String rate : rates) {
+            for (int term : terms) {
+                assertEquals(RatePowerCache.computeFactor(new BigDecimal(rate), term),
+                        RatePowerCache.getFactor(new BigDecimal(rate), term), rate + "% / " + term);
+            }
+        }
+    }
+
+    @Test
+    void testFactorSatisfiesAnnuityEquation() {
+        // Ануїтет з коефіцієнтом k має повністю погасити борг: sum(k / (1 + r)^m) = 1
+        BigDecimal rate = new BigDecimal("11.8");
+        int term = 300;
+        BigDecimal factor = RatePowerCache.getFactor(rate, term);
+        BigDecimal discount = BigDecimal.ONE.divide(
+                BigDecimal.ONE.add(RatePowerCache.monthlyRate(rate)), RatePowerCache.PRECISION);
+
+        BigDecimal presentValue = BigDecimal.ZERO;
+        BigDecimal power = BigDecimal.ONE;
+        for (int month = 1; month <= term; month++) {
+            power = power.multiply(discount, RatePowerCache.PRECISION);
+            presentValue = presentValue.add(factor.multiply(power, RatePowerCache.PRECISION));
+        }
+
+        assertTrue(presentValue.subtract(BigDecimal.ONE).abs().compareTo(new BigDecimal("1E-25")) < 0);
+    }
+
+    @Test
+    void testExactPaymentCloseToDoublePath() {
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("12.0"), 12, true, false);
+
+        // Для 12% місячна ставка 1% точна, тому різниця тільки в округленні коефіцієнта
+        BigDecimal difference = credit.calculateExactMonthlyPayment()
+                .subtract(credit.calculateMonthlyPayment()).abs();
+        assertTrue(difference.compareTo(new BigDecimal("5.00")) <= 0);
+        assertEquals(new BigDecimal("8884.88"), credit.calculateExactMonthlyPayment());
+        assertEquals(new BigDecimal("106618.55"), credit.calculateExactTotalPayment());
+    }
+
+    @Test
+    void testZeroRateSplitsAmountEvenly() {
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("12000"),
+                BigDecimal.ZERO, 12, true, false);
+
+        assertNull(RatePowerCache.getFactor(BigDecimal.ZERO, 12));
+        assertEquals(new BigDecimal("1000.00"), credit.calculateExactMonthlyPayment());
+        assertEquals(new BigDecimal("12000"), credit.calculateExactTotalPayment());
+    }
+
+    @Test
+    void testZeroTermGivesZeroPayment() {
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("12000"),
+                new BigDecimal("15"), 0, true, false);
+
+        assertEquals(BigDecimal.ZERO, credit.calculateExactMonthlyPayment());
+        assertEquals(BigDecimal.ZERO, credit.calculateExactTotalPayment());
+    }
+
+    @Test
+    void testHitAndMissCounters() {
+        BigDecimal first = RatePowerCache.getFactor(new BigDecimal("15.0"), 60);
+        BigDecimal second = RatePowerCache.getFactor(new BigDecimal("15.00"), 60);
+
+        assertSame(first, second);
+        assertEquals(1, RatePowerCache.getMissCount());
+        assertEquals(1, RatePowerCache.getHitCount());
+    }
+
+    @Test
+    void testPowersSharedAcrossTerms() {
+        RatePowerCache.getFactor(new BigDecimal("15.0"), 60);
+        RatePowerCache.getFactor(new BigDecimal("15"), 240);
+        RatePowerCache.getFactor(new BigDecimal("15.00"), 300);
+
+        assertEquals(3, RatePowerCache.size());
+        assertEquals(1, RatePowerCache.rateCount());
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int bp = 1; bp <= RatePowerCache.MAX_ENTRIES + 10; bp++) {
+            RatePowerCache.getFactor(BigDecimal.valueOf(bp, 2), 12);
+        }
+        assertTrue(RatePowerCache.size() <= RatePowerCache.MAX_ENTRIES);
+        assertTrue(RatePowerCache.rateCount() <= RatePowerCache.MAX_ENTRIES);
+    }
+}
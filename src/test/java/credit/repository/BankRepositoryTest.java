@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import credit.model.Bank;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -167,5 +168,62 @@ class BankRepositoryTest {
         assertNotSame(all1, all2);
         assertEquals(all1, all2);
     }
-}
 
+    @Test
+    void testCanonicalizeReturnsExistingBank() {
+        Bank stored = new Bank("Bank1", "B001", 4.5);
+        repository.addBank(stored);
+
+        assertSame(stored, repository.canonicalize(new Bank("Bank1", "B001", 4.5)));
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void testCanonicalizeAddsUnknownBank() {
+        Bank bank = new Bank("Bank2", "B002", 4.8);
+
+        assertSame(bank, repository.canonicalize(bank));
+        assertSame(bank, repository.canonicalize(new Bank("Bank2", "B002", 4.8)));
+        assertEquals(1, repository.size());
+        assertNull(repository.canonicalize(null));
+    }
+
+    @Test
+    void testCanonicalizeMatchesByName() {
+        Bank stored = new Bank("Bank1", "B001", 4.5);
+        repository.addBank(stored);
+
+        // Кредит зберіг старий рейтинг банку - другий банк з тією ж назвою не з'являється
+        assertSame(stored, repository.canonicalize(new Bank("Bank1", "B001", 3.9)));
+        assertSame(stored, repository.canonicalize(new Bank("BANK1", "B001", 4.5)));
+        assertEquals(1, repository.size());
+        assertEquals(4.5, repository.findByName("bank1").get().getRating());
+    }
+
+    @Test
+    void testCanonicalizeAfterRemoveAndClear() {
+        Bank stored = new Bank("Bank1", "B001", 4.5);
+        repository.addBank(stored);
+        repository.removeBank("Bank1");
+        Bank reloaded = new Bank("Bank1", "B001", 4.5);
+
+        assertSame(reloaded, repository.canonicalize(reloaded));
+        repository.clear();
+        Bank afterClear = new Bank("Bank1", "B001", 4.5);
+        assertSame(afterClear, repository.canonicalize(afterClear));
+    }
+
+    @Test
+    void testViewIsLiveAndReadOnly() {
+        repository.addBank(new Bank("Bank1", "B001", 4.5));
+        List<Bank> view = repository.view();
+        repository.addBank(new Bank("Bank2", "B002", 4.8));
+
+        assertEquals(2, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+
+        List<String> names = new ArrayList<>();
+        repository.forEach(bank -> names.add(bank.getName()));
+        assertEquals(List.of("Bank1", "Bank2"), names);
+    }
+}
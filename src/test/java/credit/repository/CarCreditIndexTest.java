@@ -0,0 +1,106 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarCreditIndexTest {
+
+    private CreditRepository repository;
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CreditRepository();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+
+        // Кредит / вартість: 80%, 83.33%, 50%, 90%
+        repository.addCredit(car("CAR001", "200000", "Toyota", "Camry", 2023, "250000", true));
+        repository.addCredit(car("CAR002", "150000", "BMW", "X5", 2021, "180000", false));
+        repository.addCredit(car("CAR003", "100000", "toyota", "Corolla", 2019, "200000", false));
+        repository.addCredit(car("CAR004", "180000", "TOYOTA", "camry", 2024, "200000", true));
+        repository.addCredit(new Credit("CR001", testBank, "CAR", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+    }
+
+    @Test
+    void testBrandAndModelAreCaseInsensitive() {
+        assertEquals(List.of("CAR001", "CAR003", "CAR004"), ids(repository.findCarCredits("Toyota",
+                null, null, null, null, null)));
+        assertEquals(List.of("CAR001", "CAR004"), ids(repository.findCarCredits("toyota",
+                "CAMRY", null, null, null, null)));
+        assertTrue(repository.findCarCredits("Skoda", null, null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void testYearRange() {
+        assertEquals(List.of("CAR001", "CAR002"), ids(repository.findCarCredits(null, null,
+                2020, 2023, null, null)));
+        assertEquals(List.of("CAR001", "CAR004"), ids(repository.findCarCredits("Toyota", null,
+                2020, null, null, null)));
+    }
+
+    @Test
+    void testNewCarAndFinancedToValue() {
+        assertEquals(List.of("CAR001", "CAR004"), ids(repository.findCarCredits(null, null,
+                null, null, true, null)));
+        assertEquals(List.of("CAR001", "CAR003"), ids(repository.findCarCredits(null, null,
+                null, null, null, new BigDecimal("80"))));
+        assertEquals(List.of("CAR003"), ids(repository.findCarCredits("Toyota", null,
+                null, null, false, new BigDecimal("80"))));
+    }
+
+    @Test
+    void testFindByFinancedToValueIsSorted() {
+        List<CarCredit> found = repository.findCarCreditsByFinancedToValue(new BigDecimal("50"),
+                new BigDecimal("85"));
+
+        assertEquals(List.of("CAR003", "CAR001", "CAR002"),
+                found.stream().map(Credit::getId).collect(Collectors.toList()));
+        for (CarCredit car : found) {
+            assertTrue(car.calculateDepreciationRate().compareTo(new BigDecimal("85")) <= 0);
+        }
+    }
+
+    @Test
+    void testOpenAndInvertedRanges() {
+        assertEquals(List.of("CAR001", "CAR003"), ids(repository.findCarCreditsByFinancedToValue(null,
+                new BigDecimal("80"))));
+        assertEquals(List.of("CAR002", "CAR004"), ids(repository.findCarCreditsByFinancedToValue(
+                new BigDecimal("81"), null)));
+        assertEquals(4, repository.findCarCreditsByFinancedToValue(null, null).size());
+        assertTrue(repository.findCarCreditsByFinancedToValue(new BigDecimal("90"),
+                new BigDecimal("50")).isEmpty());
+        assertTrue(repository.findCarCredits(null, null, 2024, 2020, null, null).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndClearUpdateIndex() {
+        repository.removeCredit("CAR001");
+        assertEquals(List.of("CAR004"), ids(repository.findCarCredits("Toyota", "Camry",
+                null, null, null, null)));
+        assertEquals(List.of("CAR002"), ids(repository.findCarCredits(null, null, 2020, 2023, null, null)));
+
+        repository.clear();
+        assertTrue(repository.findCarCredits(null, null, null, null, null, null).isEmpty());
+        assertTrue(repository.findCarCreditsByFinancedToValue(BigDecimal.ZERO, new BigDecimal("1000")).isEmpty());
+    }
+
+    private CarCredit car(String id, String amount, String brand, String model, int year, String carValue,
+                          boolean newCar) {
+        return new CarCredit(id, testBank, new BigDecimal(amount), new BigDecimal("15.5"), 60, true, false,
+                brand, model, year, new BigDecimal(carValue), newCar);
+    }
+
+    private List<String> ids(List<CarCredit> cars) {
+        return cars.stream().map(Credit::getId).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,170 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Client;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRepositoryTest {
+
+    private ClientRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ClientRepository();
+    }
+
+    @Test
+    void testFindByIdAndEmail() {
+        repository.addClient(client("CLI001", "John.Doe@Example.com", "50000", 720));
+        repository.addClient(null);
+        repository.addClient(new Client());
+
+        assertEquals(1, repository.size());
+        assertTrue(repository.findById("CLI001").isPresent());
+        assertFalse(repository.findById("CLI999").isPresent());
+        assertFalse(repository.findById(null).isPresent());
+        assertEquals("CLI001", repository.findByEmail(" john.doe@example.COM ").get().getId());
+        assertFalse(repository.findByEmail(null).isPresent());
+    }
+
+    @Test
+    void testAddClientReindexesChangedClient() {
+        Client client = client("CLI001", "john@example.com", "30000", 650);
+        repository.addClient(client);
+
+        client.setCreditScore(780);
+        client.setMonthlyIncome(new BigDecimal("90000"));
+        client.setEmail("john.new@example.com");
+        repository.addClient(client);
+
+        assertEquals(1, repository.size());
+        assertTrue(repository.findByScoreRange(600, 699).isEmpty());
+        assertEquals(1, repository.findByScoreRange(750, 799).size());
+        assertTrue(repository.findByIncomeRange(null, new BigDecimal("50000")).isEmpty());
+        assertFalse(repository.findByEmail("john@example.com").isPresent());
+        assertTrue(repository.findByEmail("john.new@example.com").isPresent());
+    }
+
+    @Test
+    void testDuplicateEmailIsRejected() {
+        repository.addClient(client("CLI001", "a@example.com", "30000", 650));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.addClient(client("CLI002", "A@Example.com", "40000", 700)));
+        assertEquals(1, repository.size());
+        assertEquals("CLI001", repository.findByEmail("a@example.com").get().getId());
+
+        // Той самий клієнт зі своїм email - оновлення, а не дублікат
+        repository.addClient(client("CLI001", "a@example.com", "35000", 650));
+        assertEquals(new BigDecimal("35000"), repository.findByEmail("a@example.com").get().getMonthlyIncome());
+    }
+
+    @Test
+    void testRemoveClient() {
+        repository.addClient(client("CLI001", "a@example.com", "30000", 650));
+        repository.addClient(client("CLI002", "b@example.com", "30000", 660));
+
+        repository.removeClient("CLI001");
+        repository.removeClient("CLI999");
+        repository.removeClient(null);
+
+        assertEquals(1, repository.size());
+        assertFalse(repository.findByEmail("a@example.com").isPresent());
+        assertEquals(1, repository.findByIncomeRange(new BigDecimal("30000"), new BigDecimal("30000")).size());
+        assertEquals(1, repository.findByScoreRange(600, 700).size());
+
+        repository.clear();
+        assertEquals(0, repository.size());
+        assertEquals(0, repository.countByScoreBand()[7]);
+    }
+
+    @Test
+    void testScoreBands() {
+        assertEquals(300, ClientRepository.scoreBandStart(300));
+        assertEquals(300, ClientRepository.scoreBandStart(349));
+        assertEquals(350, ClientRepository.scoreBandStart(350));
+        assertEquals(800, ClientRepository.scoreBandStart(850));
+        assertEquals(300, ClientRepository.scoreBandStart(100));
+        assertEquals(800, ClientRepository.scoreBandStart(900));
+
+        repository.addClient(client("CLI001", "a@example.com", "30000", 349));
+        repository.addClient(client("CLI002", "b@example.com", "30000", 350));
+        repository.addClient(client("CLI003", "c@example.com", "30000", 850));
+
+        int[] counts = repository.countByScoreBand();
+        assertEquals(11, counts.length);
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(1, counts[10]);
+        assertEquals(1, repository.findByScoreRange(349, 349).size());
+        assertEquals(2, repository.findByScoreRange(349, 350).size());
+        assertEquals(List.of("CLI003"), ids(repository.findByScoreRange(800, 900)));
+        assertTrue(repository.findByScoreRange(851, 900).isEmpty());
+        assertTrue(repository.findByScoreRange(700, 600).isEmpty());
+    }
+
+    @Test
+    void testFindByIncomeRange() {
+        repository.addClient(client("CLI001", "a@example.com", "20000", 700));
+        repository.addClient(client("CLI002", "b@example.com", "40000", 700));
+        repository.addClient(client("CLI003", "c@example.com", "60000", 700));
+        repository.addClient(client("CLI004", "d@example.com", null, 700));
+
+        assertEquals(List.of("CLI001", "CLI002", "CLI003"), ids(repository.findByIncomeRange(null, null)));
+        assertEquals(List.of("CLI002", "CLI003"), ids(repository.findByIncomeRange(new BigDecimal("40000"), null)));
+        assertEquals(List.of("CLI001", "CLI002"), ids(repository.findByIncomeRange(null, new BigDecimal("40000.00"))));
+        assertTrue(repository.findByIncomeRange(new BigDecimal("60000"), new BigDecimal("20000")).isEmpty());
+        assertTrue(repository.findByMinScoreAndIncome(300, new BigDecimal("70000")).isEmpty());
+        assertEquals(4, repository.findByMinScoreAndIncome(700, null).size());
+    }
+
+    @Test
+    void testFindByMinScoreAndIncomeMatchesFullScan() {
+        Random random = new Random(7);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String income = i % 100 == 0 ? null : String.valueOf(5_000 + random.nextInt(95_000));
+            Client client = client("CLI" + i, "c" + i + "@example.com", income, 300 + random.nextInt(551));
+            clients.add(client);
+            repository.addClient(client);
+        }
+
+        int[] scores = {300, 599, 600, 700, 725, 850};
+        String[] incomes = {"5000", "40000", "40000.50", "99999"};
+        for (int minScore : scores) {
+            for (String minIncome : incomes) {
+                BigDecimal min = new BigDecimal(minIncome);
+                List<String> expected = new ArrayList<>();
+                for (Client client : clients) {
+                    if (client.getCreditScore() >= minScore && client.getMonthlyIncome() != null
+                            && client.getMonthlyIncome().compareTo(min) >= 0) {
+                        expected.add(client.getId());
+                    }
+                }
+                List<String> actual = ids(repository.findByMinScoreAndIncome(minScore, min));
+                assertEquals(expected.size(), actual.size(), minScore + " / " + minIncome);
+                assertEquals(new HashSet<>(expected), new HashSet<>(actual), minScore + " / " + minIncome);
+            }
+        }
+    }
+
+    private static Client client(String id, String email, String income, int score) {
+        return new Client(id, "First", "Last", email, income == null ? null : new BigDecimal(income), score, false);
+    }
+
+    private static List<String> ids(List<Client> clients) {
+        List<String> ids = new ArrayList<>();
+        for (Client client : clients) {
+            ids.add(client.getId());
+        }
+        return ids;
+    }
+}
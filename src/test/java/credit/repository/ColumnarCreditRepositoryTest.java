@@ -0,0 +1,355 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.Client;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+import credit.service.CreditSearchService;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarCreditRepositoryTest {
+
+    private ColumnarCreditRepository columnar;
+    private CreditRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        columnar = new ColumnarCreditRepository();
+        reference = new CreditRepository();
+        for (Credit credit : catalog(600)) {
+            columnar.addCredit(credit);
+            reference.addCredit(credit);
+        }
+    }
+
+    @Test
+    void testRoundTripKeepsAllFields() {
+        List<Credit> stored = columnar.findAll();
+        List<Credit> original = reference.findAll();
+
+        assertEquals(original.size(), stored.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.get(i), stored.get(i));
+            assertNotSame(original.get(i), stored.get(i));
+            assertEquals(original.get(i).getType(), stored.get(i).getType());
+        }
+    }
+
+    @Test
+    void testViewsMatchReference() {
+        List<Credit> visited = new ArrayList<>();
+        columnar.forEach(visited::add);
+
+        assertEquals(reference.findAll(), visited);
+        assertEquals(reference.findAll(), new ArrayList<>(columnar.view()));
+        assertEquals(new ArrayList<>(reference.viewByBankName("Bank2")),
+                new ArrayList<>(columnar.viewByBankName("bank2")));
+        assertEquals(new ArrayList<>(reference.viewByCreditType("Leasing")),
+                new ArrayList<>(columnar.viewByCreditType("LEASING")));
+        assertEquals(new ArrayList<>(reference.viewByCreditType(CreditType.CAR)),
+                new ArrayList<>(columnar.viewByCreditType(CreditType.CAR)));
+        assertThrows(UnsupportedOperationException.class, () -> columnar.view().clear());
+    }
+
+    @Test
+    void testAddCreditWithExistingIdReplacesIt() {
+        Bank bank1 = new Bank("Bank1", "B001", 4.5);
+        Bank bank2 = new Bank("Bank2", "B002", 4.8);
+        columnar.clear();
+        columnar.addCredit(new Credit("CR001", bank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        columnar.addCredit(new Credit("CR002", bank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+        Credit replacement = new MortgageCredit("CR001", bank2, new BigDecimal("500000"),
+                new BigDecimal("12.0"), 240, true, true,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT");
+        columnar.addCredit(replacement);
+
+        assertEquals(2, columnar.size());
+        assertEquals(replacement, columnar.findById("CR001").get());
+        assertEquals(List.of("CR002", "CR001"), ids(columnar.findAll()));
+        assertEquals(1, columnar.findByCreditType(CreditType.CONSUMER).size());
+        assertEquals(1, columnar.findByCreditType(CreditType.MORTGAGE).size());
+        assertEquals(1, columnar.findByBankName("Bank1").size());
+        assertEquals(1, columnar.findByBankName("Bank2").size());
+    }
+
+    @Test
+    void testRemoveCreditKeepsIdLookup() {
+        columnar.removeCredit("M0");
+        columnar.removeCredit(null);
+        columnar.removeCredit("UNKNOWN");
+        reference.removeCredit("M0");
+
+        assertEquals(reference.size(), columnar.size());
+        assertFalse(columnar.findById("M0").isPresent());
+        for (Credit credit : reference.findAll()) {
+            assertEquals(credit, columnar.findById(credit.getId()).get());
+        }
+
+        columnar.clear();
+        assertFalse(columnar.findById(reference.findAll().get(0).getId()).isPresent());
+    }
+
+    @Test
+    void testRoundTripKeepsSubclassFields() {
+        Bank bank = new Bank("Bank1", "B001", 4.5);
+        columnar.clear();
+        columnar.addCredit(new MortgageCredit("M1", bank, new BigDecimal("500000.50"), new BigDecimal("12.125"),
+                240, true, false, new BigDecimal("600000"), null, "HOUSE"));
+        columnar.addCredit(new ConsumerCredit("C1", bank, new BigDecimal("30000"), new BigDecimal("19.2"),
+                36, false, true, "EDUCATION", true, null));
+        columnar.addCredit(new CarCredit("A1", bank, new BigDecimal("150000.0"), new BigDecimal("16"),
+                48, true, true, "BMW", null, 2021, new BigDecimal("180000"), true));
+
+        MortgageCredit mortgage = (MortgageCredit) columnar.findById("M1").get();
+        assertEquals(new BigDecimal("500000.50"), mortgage.getAmount());
+        assertEquals(new BigDecimal("12.125"), mortgage.getInterestRate());
+        assertEquals(new BigDecimal("600000"), mortgage.getPropertyValue());
+        assertNull(mortgage.getDownPayment());
+        assertEquals("HOUSE", mortgage.getPropertyType());
+
+        ConsumerCredit consumer = (ConsumerCredit) columnar.findById("C1").get();
+        assertEquals("EDUCATION", consumer.getPurpose());
+        assertTrue(consumer.isRequiresCollateral());
+        assertNull(consumer.getMaxAmount());
+
+        CarCredit car = (CarCredit) columnar.findById("A1").get();
+        assertEquals(new BigDecimal("150000.0"), car.getAmount());
+        assertEquals("BMW", car.getCarBrand());
+        assertNull(car.getCarModel());
+        assertEquals(2021, car.getCarYear());
+        assertTrue(car.isNewCar());
+        assertSame(bank, car.getBank());
+    }
+
+    @Test
+    void testPlainCreditWithCustomTypeAndNullFields() {
+        Credit credit = new Credit("X1", null, "Leasing", null, null, 12, false, false);
+        credit.setStartDate(null);
+        columnar.addCredit(credit);
+
+        Credit stored = columnar.findById("X1").get();
+        assertEquals(credit, stored);
+        assertEquals(ids(reference.findByCreditType("LEASING")).size() + 1,
+                columnar.findByCreditType("LEASING").size());
+        assertTrue(columnar.findByAmountRange(BigDecimal.ZERO, BigDecimal.TEN).stream()
+                .noneMatch(found -> found.getId().equals("X1")));
+    }
+
+    @Test
+    void testFindMatchingSameAsListRepository() {
+        List<CreditCriteria> criteria = List.of(
+                new CreditCriteria(),
+                new CreditCriteria().minAmount(new BigDecimal("100000")),
+                new CreditCriteria().minAmount(new BigDecimal("50000.005")).maxAmount(new BigDecimal("300000.999")),
+                new CreditCriteria().creditType(CreditType.CAR).minTermMonths(36),
+                new CreditCriteria().maxMonthlyPaymentMinor(500_000).earlyRepaymentAllowed(false),
+                new CreditCriteria().flexibleOnly(true).creditLineIncreaseAllowed(false),
+                new CreditCriteria().creditType(CreditType.MORTGAGE).minAmount(new BigDecimal("400000"))
+                        .maxMonthlyPaymentMinor(1_000_000));
+
+        for (CreditCriteria criterion : criteria) {
+            assertEquals(ids(reference.findMatching(criterion)), ids(columnar.findMatching(criterion)));
+        }
+    }
+
+    @Test
+    void testSimpleQueriesSameAsListRepository() {
+        assertEquals(ids(reference.findByBankName("bank2")), ids(columnar.findByBankName("bank2")));
+        assertEquals(ids(reference.findByCreditType(CreditType.CONSUMER)),
+                ids(columnar.findByCreditType(CreditType.CONSUMER)));
+        assertEquals(ids(reference.findByCreditType("mortgage")), ids(columnar.findByCreditType("mortgage")));
+        assertEquals(ids(reference.findByAmountRange(new BigDecimal("20000"), new BigDecimal("200000"))),
+                ids(columnar.findByAmountRange(new BigDecimal("20000"), new BigDecimal("200000"))));
+        assertEquals(ids(reference.findWithEarlyRepayment()), ids(columnar.findWithEarlyRepayment()));
+        assertEquals(ids(reference.findWithCreditLineIncrease()), ids(columnar.findWithCreditLineIncrease()));
+    }
+
+    @Test
+    void testSubclassQueriesSameAsIndexes() {
+        for (LtvBand band : LtvBand.values()) {
+            assertEquals(idSet(reference.findMortgagesByLtvBand(band, null, null)),
+                    idSet(columnar.findMortgagesByLtvBand(band, null, null)));
+            assertEquals(idSet(reference.findMortgagesByLtvBand(band, "house", new BigDecimal("25.5"))),
+                    idSet(columnar.findMortgagesByLtvBand(band, "house", new BigDecimal("25.5"))));
+        }
+        assertEquals(idSet(reference.findCarCredits("toyota", null, 2018, null, null, new BigDecimal("80"))),
+                idSet(columnar.findCarCredits("toyota", null, 2018, null, null, new BigDecimal("80"))));
+        assertEquals(idSet(reference.findCarCredits(null, "X5", null, 2020, false, null)),
+                idSet(columnar.findCarCredits(null, "X5", null, 2020, false, null)));
+        assertEquals(ids(reference.findCarCreditsByFinancedToValue(new BigDecimal("60"), new BigDecimal("75.5"))),
+                ids(columnar.findCarCreditsByFinancedToValue(new BigDecimal("60"), new BigDecimal("75.5"))));
+        assertEquals(idSet(reference.findCarCreditsByFinancedToValue(null, new BigDecimal("75.5"))),
+                idSet(columnar.findCarCreditsByFinancedToValue(null, new BigDecimal("75.5"))));
+        assertTrue(columnar.findCarCreditsByFinancedToValue(new BigDecimal("75.5"), new BigDecimal("60")).isEmpty());
+        assertTrue(columnar.findCarCredits(null, null, 2024, 2018, null, null).isEmpty());
+        assertEquals(idSet(reference.findConsumerCredits("education", false, new BigDecimal("90000"))),
+                idSet(columnar.findConsumerCredits("education", false, new BigDecimal("90000"))));
+        assertEquals(idSet(reference.findConsumerCredits(null, null, null)),
+                idSet(columnar.findConsumerCredits(null, null, null)));
+        assertEquals(idSet(reference.findConsumerCreditsOverLimit()), idSet(columnar.findConsumerCreditsOverLimit()));
+    }
+
+    @Test
+    void testSearchServiceSameResultsOnBothBackends() {
+        CreditSearchService onList = new CreditSearchService(reference);
+        CreditSearchService onColumns = new CreditSearchService(columnar);
+        Client client = new Client("CLI001", "John", "Doe", "john@example.com",
+                new BigDecimal("25000"), 720, false);
+
+        assertEquals(ids(onList.searchByClientNeeds(client, new BigDecimal("50000"), 24)),
+                ids(onColumns.searchByClientNeeds(client, new BigDecimal("50000"), 24)));
+        assertEquals(ids(onList.searchByClientNeeds(client, new BigDecimal("50000"), 24, CreditType.CAR)),
+                ids(onColumns.searchByClientNeeds(client, new BigDecimal("50000"), 24, CreditType.CAR)));
+        assertEquals(ids(onList.findBestOffers(client, new BigDecimal("20000"), 12)),
+                ids(onColumns.findBestOffers(client, new BigDecimal("20000"), 12)));
+        assertEquals(ids(onList.findFlexibleCredits(new BigDecimal("100000"))),
+                ids(onColumns.findFlexibleCredits(new BigDecimal("100000"))));
+        assertEquals(ids(onList.findWithBestBankRating(new BigDecimal("100000"))),
+                ids(onColumns.findWithBestBankRating(new BigDecimal("100000"))));
+    }
+
+    @Test
+    void testColumnsSameAsFromCredits() {
+        CreditColumns expected = reference.toColumns();
+        CreditColumns actual = columnar.toColumns();
+
+        assertArrayEquals(expected.getIds(), actual.getIds());
+        assertArrayEquals(expected.getAmountMinor(), actual.getAmountMinor());
+        assertArrayEquals(expected.getRateBasisPoints(), actual.getRateBasisPoints());
+        assertArrayEquals(expected.getTermMonths(), actual.getTermMonths());
+    }
+
+    @Test
+    void testRemoveKeepsOrder() {
+        List<String> before = ids(columnar.findAll());
+        columnar.removeCredit(before.get(1));
+        reference.removeCredit(before.get(1));
+
+        assertEquals(before.size() - 1, columnar.size());
+        assertEquals(ids(reference.findAll()), ids(columnar.findAll()));
+        assertFalse(columnar.findById(before.get(1)).isPresent());
+    }
+
+    @Test
+    void testRemovedRowsAreSkippedThenCompacted() {
+        List<String> before = ids(columnar.findAll());
+        for (int i = 0; i < 300; i += 2) {
+            columnar.removeCredit(before.get(i));
+            reference.removeCredit(before.get(i));
+        }
+
+        assertEquals(600, columnar.rowCount());
+        assertEquals(450, columnar.size());
+        assertEquals(ids(reference.findAll()), ids(columnar.findAll()));
+        assertEquals(ids(reference.findWithEarlyRepayment()), ids(columnar.findWithEarlyRepayment()));
+        assertEquals(reference.toColumns().getIds().length, columnar.toColumns().getIds().length);
+
+        for (int i = 300; i < 600; i += 2) {
+            columnar.removeCredit(before.get(i));
+            reference.removeCredit(before.get(i));
+        }
+        columnar.removeCredit(before.get(1));
+        reference.removeCredit(before.get(1));
+
+        assertEquals(299, columnar.rowCount());
+        assertEquals(299, columnar.size());
+        assertEquals(ids(reference.findAll()), ids(columnar.findAll()));
+        assertEquals(before.get(3), columnar.findById(before.get(3)).get().getId());
+        assertFalse(columnar.findById(before.get(1)).isPresent());
+    }
+
+    @Test
+    void testReturnedCreditIsDetached() {
+        Credit found = columnar.findById("C1").get();
+        found.setAmount(new BigDecimal("1"));
+
+        assertEquals(reference.findById("C1").get().getAmount(), columnar.findById("C1").get().getAmount());
+    }
+
+    @Test
+    void testFractionalKopecksRejected() {
+        Credit credit = new Credit("F1", null, "CONSUMER", new BigDecimal("100.005"),
+                new BigDecimal("10"), 12, false, false);
+
+        assertThrows(IllegalArgumentException.class, () -> columnar.addCredit(credit));
+        assertFalse(columnar.findById("F1").isPresent());
+    }
+
+    @Test
+    void testClear() {
+        columnar.clear();
+
+        assertEquals(0, columnar.size());
+        assertTrue(columnar.findAll().isEmpty());
+    }
+
+    private static List<String> ids(List<? extends Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+
+    private static Set<String> idSet(List<? extends Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toSet());
+    }
+
+    private static List<Credit> catalog(int size) {
+        Random random = new Random(7);
+        Bank[] banks = {new Bank("Bank1", "B001", 4.5), new Bank("Bank2", "B002", 4.8)};
+        String[] types = {"APARTMENT", "House", "TOWNHOUSE"};
+        String[] purposes = {"EDUCATION", "TRAVEL", "Medical"};
+        String[] brands = {"Toyota", "BMW"};
+        String[] models = {"Camry", "X5"};
+        List<Credit> credits = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Bank bank = banks[random.nextInt(banks.length)];
+            BigDecimal amount = BigDecimal.valueOf(1_000_000 + random.nextInt(40_000_000), 2);
+            BigDecimal rate = BigDecimal.valueOf(500 + random.nextInt(2000), 2);
+            int term = 6 + 6 * random.nextInt(40);
+            boolean early = random.nextBoolean();
+            boolean increase = random.nextBoolean();
+            Credit credit;
+            switch (i % 4) {
+                case 0:
+                    BigDecimal propertyValue = amount.multiply(BigDecimal.valueOf(100 + random.nextInt(100)))
+                            .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+                    credit = new MortgageCredit("M" + i, bank, amount, rate, term, early, increase,
+                            propertyValue, propertyValue.subtract(amount), types[random.nextInt(types.length)]);
+                    break;
+                case 1:
+                    credit = new ConsumerCredit("C" + i, bank, amount, rate, term, early, increase,
+                            purposes[random.nextInt(purposes.length)], random.nextBoolean(),
+                            random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(400_000)));
+                    break;
+                case 2:
+                    int brand = random.nextInt(brands.length);
+                    credit = new CarCredit("A" + i, bank, amount, rate, term, early, increase, brands[brand],
+                            models[brand], 2015 + random.nextInt(10),
+                            amount.add(BigDecimal.valueOf(random.nextInt(200_000))), random.nextBoolean());
+                    break;
+                default:
+                    credit = new Credit("P" + i, bank, random.nextBoolean() ? "CONSUMER" : "Leasing",
+                            amount, rate, term, early, increase);
+            }
+            credit.setStartDate(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365)));
+            credits.add(credit);
+        }
+        return credits;
+    }
+}
@@ -0,0 +1,115 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsumerCreditIndexTest {
+
+    private CreditRepository repository;
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CreditRepository();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+
+        repository.addCredit(consumer("C001", "50000", "EDUCATION", false, "100000"));
+        repository.addCredit(consumer("C002", "30000", "education", false, "60000"));
+        repository.addCredit(consumer("C003", "50000", "EDUCATION", true, "200000"));
+        repository.addCredit(consumer("C004", "90000", "TRAVEL", false, "80000"));
+        repository.addCredit(consumer("C005", "20000", "TRAVEL", false, null));
+        repository.addCredit(new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+    }
+
+    @Test
+    void testNoCollateralEducationCoveringAmount() {
+        assertEquals(List.of("C001"), ids(repository.findConsumerCredits("EDUCATION", false,
+                new BigDecimal("80000"))));
+        assertEquals(List.of("C001", "C003"), ids(repository.findConsumerCredits("Education", null,
+                new BigDecimal("80000"))));
+    }
+
+    @Test
+    void testLimitBoundaryIsInclusive() {
+        assertEquals(List.of("C004"), ids(repository.findConsumerCredits("TRAVEL", null,
+                new BigDecimal("80000"))));
+        assertTrue(repository.findConsumerCredits("TRAVEL", null, new BigDecimal("80000.01")).isEmpty());
+    }
+
+    @Test
+    void testOptionalFilters() {
+        assertEquals(List.of("C001", "C002", "C003", "C004", "C005"),
+                ids(repository.findConsumerCredits(null, null, null)));
+        assertEquals(List.of("C001", "C004"), ids(repository.findConsumerCredits(null, false,
+                new BigDecimal("70000"))));
+        assertTrue(repository.findConsumerCredits("MEDICAL", null, null).isEmpty());
+    }
+
+    @Test
+    void testResultsSortedByLimitWithinPurpose() {
+        List<ConsumerCredit> found = repository.findConsumerCredits("EDUCATION", false, null);
+
+        assertEquals("C002", found.get(0).getId());
+        assertEquals("C001", found.get(1).getId());
+    }
+
+    @Test
+    void testOverLimitMatchesIsAmountWithinLimit() {
+        List<String> expected = repository.findAll().stream()
+                .filter(credit -> credit instanceof ConsumerCredit)
+                .filter(credit -> !((ConsumerCredit) credit).isAmountWithinLimit())
+                .map(Credit::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("C004", "C005"), expected);
+        assertEquals(expected, ids(repository.findConsumerCreditsOverLimit()));
+    }
+
+    @Test
+    void testOverLimitKeepsCatalogOrder() {
+        for (int i = 50; i > 0; i--) {
+            repository.addCredit(consumer("X" + i, "90000", "TRAVEL", false, "1000"));
+        }
+        repository.addCredit(consumer("C004", "95000", "TRAVEL", false, "80000"));
+
+        List<String> expected = repository.findAll().stream()
+                .filter(credit -> credit instanceof ConsumerCredit)
+                .filter(credit -> !((ConsumerCredit) credit).isAmountWithinLimit())
+                .map(Credit::getId)
+                .collect(Collectors.toList());
+        assertEquals(expected, repository.findConsumerCreditsOverLimit().stream()
+                .map(Credit::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRemoveAndClearUpdateIndex() {
+        repository.removeCredit("C004");
+        assertTrue(repository.findConsumerCredits("TRAVEL", null, new BigDecimal("1")).isEmpty());
+        assertEquals(List.of("C005"), ids(repository.findConsumerCreditsOverLimit()));
+
+        repository.clear();
+        assertTrue(repository.findConsumerCredits(null, null, null).isEmpty());
+        assertTrue(repository.findConsumerCreditsOverLimit().isEmpty());
+    }
+
+    private ConsumerCredit consumer(String id, String amount, String purpose, boolean requiresCollateral,
+                                    String maxAmount) {
+        return new ConsumerCredit(id, testBank, new BigDecimal(amount), new BigDecimal("18.5"), 60,
+                true, false, purpose, requiresCollateral, maxAmount == null ? null : new BigDecimal(maxAmount));
+    }
+
+    private List<String> ids(List<ConsumerCredit> consumers) {
+        return consumers.stream().map(Credit::getId).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+package credit.repository;
+
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditAmountIndexTest {
+
+    private final Bank bank = new Bank("Bank1", "B001", 4.5);
+
+    @Test
+    void testFindReturnsAmountOrder() {
+        CreditAmountIndex index = new CreditAmountIndex();
+        index.add(credit("CR001", "300000"));
+        index.add(credit("CR002", "100000"));
+        index.add(credit("CR003", "200000"));
+        index.add(credit("CR004", "50000"));
+
+        assertEquals(List.of("CR002", "CR003", "CR001"),
+                ids(index.find(new BigDecimal("100000"), new BigDecimal("300000"))));
+        assertEquals(List.of("CR004", "CR002"), ids(index.find(null, new BigDecimal("100000"))));
+        assertTrue(index.find(new BigDecimal("300000"), new BigDecimal("100000")).isEmpty());
+    }
+
+    @Test
+    void testRangeOverLimit() {
+        CreditAmountIndex index = new CreditAmountIndex();
+        index.add(credit("CR001", "100000"));
+        index.add(credit("CR002", "100000"));
+        index.add(credit("CR003", "200000"));
+
+        assertNull(index.range(new BigDecimal("100000"), null, 2));
+        assertEquals(1, index.range(new BigDecimal("150000"), null, 2).size());
+        assertEquals(1, index.range(new BigDecimal("100000"), new BigDecimal("100000"), 2).size());
+    }
+
+    @Test
+    void testRemoveUsesAmountAtAdd() {
+        CreditAmountIndex index = new CreditAmountIndex();
+        Credit credit = credit("CR001", "100000");
+        index.add(credit);
+        credit.setAmount(new BigDecimal("500000"));
+        index.remove(credit);
+
+        assertEquals(0, index.size());
+        assertTrue(index.find(null, null).isEmpty());
+    }
+
+    private Credit credit(String id, String amount) {
+        return new Credit(id, bank, "CONSUMER", new BigDecimal(amount), new BigDecimal("15.0"), 60, true, false);
+    }
+
+    private List<String> ids(List<Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+}
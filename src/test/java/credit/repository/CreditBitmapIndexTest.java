@@ -0,0 +1,98 @@
+package credit.repository;
+
+import org.junit.jupiter.api.Test;
+import credit.benchmark.BenchmarkData;
+import credit.model.Bank;
+import credit.model.Credit;
+import credit.model.CreditType;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditBitmapIndexTest {
+
+    private final Bank bank = new Bank("Bank1", "B001", 4.5);
+
+    @Test
+    void testFlagsAndTypeBitmaps() {
+        CreditBitmapIndex index = new CreditBitmapIndex();
+        index.add(credit("CR001", "CONSUMER", true, false));
+        index.add(credit("CR002", "MORTGAGE", false, true));
+        index.add(credit("CR003", "CONSUMER", true, true));
+        index.add(credit("CR004", "PERSONAL", false, false));
+
+        assertEquals(List.of("CR001", "CR003"), ids(index.findWithEarlyRepayment()));
+        assertEquals(List.of("CR002", "CR003"), ids(index.findWithCreditLineIncrease()));
+        assertEquals(List.of("CR001", "CR002", "CR003"),
+                ids(index.credits(index.select(new CreditCriteria().flexibleOnly(true)))));
+        assertEquals(List.of("CR001"), ids(index.credits(index.select(new CreditCriteria()
+                .creditType(CreditType.CONSUMER).creditLineIncreaseAllowed(false)))));
+        assertEquals(List.of("CR004"), ids(index.credits(index.select(new CreditCriteria()
+                .earlyRepaymentAllowed(false).creditLineIncreaseAllowed(false)))));
+        assertNull(index.select(new CreditCriteria().minAmount(BigDecimal.ONE)));
+    }
+
+    @Test
+    void testRemoveAndCompact() {
+        CreditBitmapIndex index = new CreditBitmapIndex();
+        List<Credit> credits = BenchmarkData.catalog(300, 2);
+        credits.forEach(index::add);
+        for (int i = 0; i < 250; i++) {
+            index.remove(credits.get(i));
+        }
+        index.remove(credits.get(0));
+
+        assertEquals(50, index.size());
+        List<Credit> remaining = credits.subList(250, 300);
+        assertEquals(remaining.stream().filter(Credit::isEarlyRepaymentAllowed).collect(Collectors.toList()),
+                index.findWithEarlyRepayment());
+        BitSet mortgages = index.select(new CreditCriteria().creditType(CreditType.MORTGAGE));
+        assertEquals(remaining.stream().filter(credit -> credit.getType() == CreditType.MORTGAGE).count(),
+                mortgages.cardinality());
+        assertTrue(index.contains(mortgages, credits.get(252)));
+        assertFalse(index.contains(mortgages, credits.get(0)));
+
+        index.clear();
+        assertTrue(index.findWithCreditLineIncrease().isEmpty());
+    }
+
+    @Test
+    void testRepositoryMultiCriteriaSameAsFullScan() {
+        CreditRepository repository = new CreditRepository();
+        List<Credit> catalog = BenchmarkData.catalog(3_000, 6);
+        catalog.forEach(repository::addCredit);
+        for (int i = 0; i < 3_000; i += 7) {
+            repository.removeCredit(catalog.get(i).getId());
+        }
+        List<Credit> stored = repository.findAll();
+
+        CreditCriteria[] queries = {
+                new CreditCriteria().flexibleOnly(true),
+                new CreditCriteria().creditType(CreditType.CAR).earlyRepaymentAllowed(true),
+                new CreditCriteria().earlyRepaymentAllowed(true).creditLineIncreaseAllowed(false)
+                        .minAmount(new BigDecimal("500000")),
+                new CreditCriteria().creditType(CreditType.MORTGAGE).minAmount(new BigDecimal("900000"))
+                        .maxAmount(new BigDecimal("950000")),
+                new CreditCriteria().creditLineIncreaseAllowed(true).minTermMonths(120)
+        };
+        for (CreditCriteria criteria : queries) {
+            assertEquals(stored.stream().filter(criteria::matches).collect(Collectors.toList()),
+                    repository.findMatching(criteria));
+        }
+        assertEquals(stored.stream().filter(Credit::isCreditLineIncreaseAllowed).collect(Collectors.toList()),
+                repository.findWithCreditLineIncrease());
+    }
+
+    private Credit credit(String id, String type, boolean earlyRepayment, boolean creditLineIncrease) {
+        return new Credit(id, bank, type, new BigDecimal("100000"), new BigDecimal("15.0"), 60,
+                earlyRepayment, creditLineIncrease);
+    }
+
+    private static List<String> ids(List<Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+}
@@ -2,15 +2,22 @@ package credit.repository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import credit.benchmark.BenchmarkData;
 import credit.model.Bank;
 import credit.model.CarCredit;
 import credit.model.ConsumerCredit;
 import credit.model.Credit;
+import credit.model.CreditType;
 import credit.model.MortgageCredit;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Random;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -206,5 +213,232 @@ class CreditRepositoryTest {
 
         assertEquals(3, repository.size());
     }
-}
 
+    @Test
+    void testFindByCreditTypeEnumAndCaseInsensitiveString() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new MortgageCredit("M001", testBank2, new BigDecimal("500000"),
+                new BigDecimal("12.0"), 240, true, true,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT"));
+        repository.addCredit(new Credit("CR002", testBank1, "consumer", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+
+        List<Credit> consumers = repository.findByCreditType(CreditType.CONSUMER);
+        assertEquals(2, consumers.size());
+        assertEquals("CR001", consumers.get(0).getId());
+        assertEquals(2, repository.findByCreditType("Consumer").size());
+        assertEquals(1, repository.findByCreditType(CreditType.MORTGAGE).size());
+        assertTrue(repository.findByCreditType(CreditType.CAR).isEmpty());
+    }
+
+    @Test
+    void testFindByNonStandardCreditType() {
+        repository.addCredit(new Credit("CR001", testBank1, "PERSONAL", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+
+        assertEquals(1, repository.findByCreditType("personal").size());
+        assertTrue(repository.findByCreditType("UNKNOWN").isEmpty());
+        assertTrue(repository.findByCreditType((String) null).isEmpty());
+    }
+
+    @Test
+    void testRemoveCreditUpdatesTypePartition() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+
+        repository.removeCredit("CR001");
+
+        assertEquals(1, repository.findByCreditType(CreditType.CONSUMER).size());
+        repository.clear();
+        assertTrue(repository.findByCreditType(CreditType.CONSUMER).isEmpty());
+    }
+
+    @Test
+    void testFindMatching() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, false, false));
+        repository.addCredit(new MortgageCredit("M001", testBank2, new BigDecimal("500000"),
+                new BigDecimal("12.0"), 240, false, true,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT"));
+
+        assertEquals(3, repository.findMatching(new CreditCriteria()).size());
+        assertEquals(List.of("CR001", "M001"), repository.findMatching(new CreditCriteria()
+                .minAmount(new BigDecimal("60000")).flexibleOnly(true)).stream().map(Credit::getId)
+                .collect(Collectors.toList()));
+        assertEquals("CR001", repository.findMatching(new CreditCriteria()
+                .creditType(CreditType.CONSUMER).minTermMonths(48)).get(0).getId());
+        Credit cheap = repository.findById("CR002").get();
+        assertEquals(List.of(cheap), repository.findMatching(new CreditCriteria()
+                .maxMonthlyPaymentMinor(cheap.calculateMonthlyPaymentMinor())));
+    }
+
+    @Test
+    void testAddCreditWithExistingIdReplacesIt() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+        Credit replacement = new MortgageCredit("CR001", testBank2, new BigDecimal("500000"),
+                new BigDecimal("12.0"), 240, true, true,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT");
+        repository.addCredit(replacement);
+
+        assertEquals(2, repository.size());
+        assertSame(replacement, repository.findById("CR001").get());
+        assertEquals("CR002", repository.findAll().get(0).getId());
+        assertEquals(1, repository.findByCreditType(CreditType.CONSUMER).size());
+        assertEquals(1, repository.findByCreditType(CreditType.MORTGAGE).size());
+        assertEquals(1, repository.findByBankName("Bank1").size());
+        assertEquals(1, repository.findByBankName("Bank2").size());
+    }
+
+    @Test
+    void testRemoveCreditUpdatesIndexes() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+        repository.removeCredit("CR001");
+        repository.removeCredit(null);
+
+        assertEquals(List.of("CR002"), repository.findByBankName("bank1").stream()
+                .map(Credit::getId).collect(Collectors.toList()));
+        assertEquals(1, repository.findByCreditType(CreditType.CONSUMER).size());
+
+        repository.clear();
+        assertTrue(repository.findByBankName("Bank1").isEmpty());
+        assertFalse(repository.findById("CR002").isPresent());
+    }
+
+    @Test
+    void testFlagClearedAfterAddIsNotReturned() {
+        Credit credit = new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, true);
+        repository.addCredit(credit);
+        credit.setEarlyRepaymentAllowed(false);
+        credit.setCreditLineIncreaseAllowed(false);
+
+        assertTrue(repository.findWithEarlyRepayment().isEmpty());
+        assertTrue(repository.findWithCreditLineIncrease().isEmpty());
+        assertTrue(repository.findMatching(new CreditCriteria()
+                .creditType(CreditType.CONSUMER).earlyRepaymentAllowed(true)).isEmpty());
+        assertTrue(repository.findMatching(new CreditCriteria().flexibleOnly(true)).isEmpty());
+    }
+
+    @Test
+    void testRemoveAfterIdChangeClearsIndexes() {
+        Credit credit = new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false);
+        repository.addCredit(credit);
+        credit.setId("CR999");
+        repository.removeCredit("CR001");
+
+        assertEquals(0, repository.size());
+        assertTrue(repository.findByBankName("Bank1").isEmpty());
+        assertTrue(repository.viewByBankName("Bank1").isEmpty());
+        assertTrue(repository.findByCreditType(CreditType.CONSUMER).isEmpty());
+    }
+
+    @Test
+    void testFindByBankNameIgnoresCaseAndMissingBank() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", null, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+
+        assertEquals(1, repository.findByBankName("BANK1").size());
+        assertTrue(repository.findByBankName("Unknown").isEmpty());
+        assertTrue(repository.findByBankName(null).isEmpty());
+        assertFalse(repository.findById(null).isPresent());
+    }
+
+    @Test
+    void testFindByAmountRangeKeepsCatalogOrder() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("300000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("100000.00"),
+                new BigDecimal("16.0"), 36, true, false));
+        repository.addCredit(new Credit("CR003", testBank2, "CONSUMER", new BigDecimal("200000"),
+                new BigDecimal("14.0"), 48, true, false));
+        repository.addCredit(new Credit("CR004", testBank2, "CONSUMER", null,
+                new BigDecimal("14.0"), 48, true, false));
+
+        assertEquals(List.of("CR001", "CR002", "CR003"), ids(repository.findByAmountRange(null, null)));
+        assertEquals(List.of("CR002", "CR003"), ids(repository.findByAmountRange(new BigDecimal("100000"),
+                new BigDecimal("250000"))));
+        assertEquals(List.of("CR001", "CR003"), ids(repository.findByAmountRange(new BigDecimal("200000"), null)));
+        assertTrue(repository.findByAmountRange(new BigDecimal("300000"), new BigDecimal("100000")).isEmpty());
+
+        // Заміна переносить кредит у кінець каталогу і на нову суму
+        repository.addCredit(new Credit("CR002", testBank1, "CONSUMER", new BigDecimal("250000"),
+                new BigDecimal("16.0"), 36, true, false));
+        repository.removeCredit("CR003");
+        assertEquals(List.of("CR001", "CR002"), ids(repository.findByAmountRange(new BigDecimal("200000"), null)));
+        assertTrue(repository.findByAmountRange(null, new BigDecimal("200000")).isEmpty());
+    }
+
+    @Test
+    void testFindMatchingByAmountSameAsFullScan() {
+        List<Credit> catalog = BenchmarkData.catalog(2_000, 11);
+        catalog.forEach(repository::addCredit);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 100; i++) {
+            BigDecimal min = BigDecimal.valueOf(random.nextInt(1_000_000));
+            BigDecimal max = i % 2 == 0 ? null : min.add(BigDecimal.valueOf(random.nextInt(200_000)));
+            CreditCriteria criteria = new CreditCriteria().minAmount(min).maxAmount(max).earlyRepaymentAllowed(true);
+            List<Credit> expected = catalog.stream().filter(criteria::matches).collect(Collectors.toList());
+
+            assertEquals(expected, repository.findMatching(criteria));
+        }
+    }
+
+    @Test
+    void testViewIsLiveAndReadOnly() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        Collection<Credit> view = repository.view();
+
+        repository.addCredit(new Credit("CR002", testBank2, "MORTGAGE", new BigDecimal("500000"),
+                new BigDecimal("10.0"), 240, false, true));
+
+        assertEquals(List.of("CR001", "CR002"), ids(new ArrayList<>(view)));
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Credit credit : view) {
+                repository.removeCredit(credit.getId());
+            }
+        });
+    }
+
+    @Test
+    void testViewByBankAndType() {
+        repository.addCredit(new Credit("CR001", testBank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new Credit("CR002", testBank2, "MORTGAGE", new BigDecimal("500000"),
+                new BigDecimal("10.0"), 240, false, true));
+        repository.addCredit(new Credit("CR003", testBank1, "MORTGAGE", new BigDecimal("700000"),
+                new BigDecimal("9.5"), 240, false, false));
+
+        assertEquals(List.of("CR001", "CR003"), ids(new ArrayList<>(repository.viewByBankName("bank1"))));
+        assertEquals(List.of("CR002", "CR003"), ids(new ArrayList<>(repository.viewByCreditType(CreditType.MORTGAGE))));
+        assertEquals(1, repository.viewByCreditType("consumer").size());
+        assertTrue(repository.viewByBankName("Unknown").isEmpty());
+        assertTrue(repository.viewByBankName(null).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> repository.viewByCreditType(CreditType.MORTGAGE).clear());
+
+        List<String> visited = new ArrayList<>();
+        repository.forEach(credit -> visited.add(credit.getId()));
+        assertEquals(List.of("CR001", "CR002", "CR003"), visited);
+    }
+
+    private static List<String> ids(List<Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+}
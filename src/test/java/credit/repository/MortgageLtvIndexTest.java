@@ -0,0 +1,122 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.Credit;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageLtvIndexTest {
+
+    private CreditRepository repository;
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CreditRepository();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+
+        // LTV 50%, внесок 50%
+        repository.addCredit(mortgage("M001", "500000", "1000000", "500000", "APARTMENT"));
+        // LTV рівно 60% - ще перший діапазон, внесок 40%
+        repository.addCredit(mortgage("M002", "600000", "1000000", "400000", "HOUSE"));
+        // LTV 75%, внесок 25%
+        repository.addCredit(mortgage("M003", "750000", "1000000", "250000", "apartment"));
+        // LTV 80%, внесок 20%
+        repository.addCredit(mortgage("M004", "800000", "1000000", "200000", "HOUSE"));
+        // LTV 90%, внесок 10%
+        repository.addCredit(mortgage("M005", "900000", "1000000", "100000", "APARTMENT"));
+        repository.addCredit(new Credit("CR001", testBank, "MORTGAGE", new BigDecimal("100000"),
+                new BigDecimal("12.0"), 120, true, false));
+    }
+
+    @Test
+    void testBandsMatchLoanToValue() {
+        for (LtvBand band : LtvBand.values()) {
+            List<MortgageCredit> found = repository.findMortgagesByLtvBand(band, null, null);
+            List<MortgageCredit> scanned = repository.findAll().stream()
+                    .filter(credit -> credit instanceof MortgageCredit)
+                    .map(credit -> (MortgageCredit) credit)
+                    .filter(mortgage -> mortgage.getLtvBand() == band)
+                    .collect(Collectors.toList());
+            assertEquals(ids(scanned).stream().sorted().collect(Collectors.toList()),
+                    ids(found).stream().sorted().collect(Collectors.toList()), band.name());
+        }
+    }
+
+    @Test
+    void testBoundariesAreInclusive() {
+        assertEquals(List.of("M001", "M002"), sortedIds(LtvBand.UP_TO_60, null, null));
+        assertEquals(List.of("M003", "M004"), sortedIds(LtvBand.FROM_60_TO_80, null, null));
+        assertEquals(List.of("M005"), sortedIds(LtvBand.ABOVE_80, null, null));
+    }
+
+    @Test
+    void testPropertyTypeIsCaseInsensitive() {
+        assertEquals(List.of("M003"), sortedIds(LtvBand.FROM_60_TO_80, "APARTMENT", null));
+        assertEquals(List.of("M004"), sortedIds(LtvBand.FROM_60_TO_80, "house", null));
+        assertTrue(sortedIds(LtvBand.FROM_60_TO_80, "TOWNHOUSE", null).isEmpty());
+    }
+
+    @Test
+    void testMinDownPaymentRatio() {
+        assertEquals(List.of("M003"), sortedIds(LtvBand.FROM_60_TO_80, null, new BigDecimal("25")));
+        assertEquals(List.of("M001"), sortedIds(LtvBand.UP_TO_60, "APARTMENT", new BigDecimal("45")));
+        assertTrue(sortedIds(LtvBand.ABOVE_80, null, new BigDecimal("10.01")).isEmpty());
+    }
+
+    @Test
+    void testRemoveAndClearUpdateIndex() {
+        repository.removeCredit("M003");
+        assertEquals(List.of("M004"), sortedIds(LtvBand.FROM_60_TO_80, null, null));
+
+        repository.clear();
+        for (LtvBand band : LtvBand.values()) {
+            assertTrue(repository.findMortgagesByLtvBand(band, null, null).isEmpty());
+        }
+    }
+
+    @Test
+    void testRemoveAfterFieldChange() {
+        MortgageCredit mortgage = (MortgageCredit) repository.findById("M005").get();
+        mortgage.setPropertyType("HOUSE");
+        mortgage.setAmount(new BigDecimal("100000"));
+
+        repository.removeCredit("M005");
+
+        assertTrue(sortedIds(LtvBand.ABOVE_80, null, null).isEmpty());
+    }
+
+    @Test
+    void testMortgageWithoutPropertyValue() {
+        MortgageCredit mortgage = new MortgageCredit();
+        mortgage.setId("M006");
+        mortgage.setAmount(new BigDecimal("100000"));
+        repository.addCredit(mortgage);
+
+        assertTrue(sortedIds(LtvBand.UP_TO_60, null, null).contains("M006"));
+    }
+
+    private MortgageCredit mortgage(String id, String amount, String propertyValue, String downPayment,
+                                    String propertyType) {
+        return new MortgageCredit(id, testBank, new BigDecimal(amount), new BigDecimal("12.0"), 240,
+                true, false, new BigDecimal(propertyValue), new BigDecimal(downPayment), propertyType);
+    }
+
+    private List<String> sortedIds(LtvBand band, String propertyType, BigDecimal minDownPaymentRatio) {
+        return ids(repository.findMortgagesByLtvBand(band, propertyType, minDownPaymentRatio)).stream()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private List<String> ids(List<MortgageCredit> mortgages) {
+        return mortgages.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+}
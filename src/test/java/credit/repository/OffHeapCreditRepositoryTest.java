@@ -0,0 +1,233 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapCreditRepositoryTest {
+
+    private OffHeapCreditRepository offHeap;
+    private CreditRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        // Маленькі сегменти, щоб записи і рядки точно переходили між сегментами
+        offHeap = new OffHeapCreditRepository(8, 64, ByteBuffer::allocateDirect);
+        reference = new CreditRepository();
+        for (Credit credit : catalog(300)) {
+            offHeap.addCredit(credit);
+            reference.addCredit(credit);
+        }
+    }
+
+    @Test
+    void testRoundTripAcrossSegments() {
+        List<Credit> stored = offHeap.findAll();
+        List<Credit> original = reference.findAll();
+
+        assertEquals(300, offHeap.size());
+        assertEquals(original, stored);
+        assertEquals(((CarCredit) original.get(2)).getCarModel(), ((CarCredit) stored.get(2)).getCarModel());
+    }
+
+    @Test
+    void testQuerySurfaceSameAsListRepository() {
+        assertEquals(ids(reference.findById("C100").stream().collect(Collectors.toList())),
+                ids(offHeap.findById("C100").stream().collect(Collectors.toList())));
+        assertFalse(offHeap.findById("C1010").isPresent());
+        assertEquals(ids(reference.findByAmountRange(new BigDecimal("50000"), new BigDecimal("250000.50"))),
+                ids(offHeap.findByAmountRange(new BigDecimal("50000"), new BigDecimal("250000.50"))));
+        assertEquals(ids(reference.findByCreditType(CreditType.MORTGAGE)),
+                ids(offHeap.findByCreditType(CreditType.MORTGAGE)));
+        assertEquals(ids(reference.findByCreditType("car")), ids(offHeap.findByCreditType("car")));
+        assertEquals(ids(reference.findWithEarlyRepayment()), ids(offHeap.findWithEarlyRepayment()));
+        assertEquals(ids(reference.findWithCreditLineIncrease()), ids(offHeap.findWithCreditLineIncrease()));
+        CreditCriteria criteria = new CreditCriteria().minAmount(new BigDecimal("100000"))
+                .maxMonthlyPaymentMinor(800_000).flexibleOnly(true);
+        assertEquals(ids(reference.findMatching(criteria)), ids(offHeap.findMatching(criteria)));
+    }
+
+    @Test
+    void testAddCreditWithExistingIdReplacesIt() {
+        Bank bank1 = new Bank("Bank1", "B001", 4.5);
+        Bank bank2 = new Bank("Bank2", "B002", 4.8);
+        offHeap.clear();
+        offHeap.addCredit(new Credit("CR001", bank1, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        offHeap.addCredit(new Credit("CR002", bank1, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, true, false));
+        Credit replacement = new MortgageCredit("CR001", bank2, new BigDecimal("500000"),
+                new BigDecimal("12.0"), 240, true, true,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT");
+        offHeap.addCredit(replacement);
+
+        assertEquals(2, offHeap.size());
+        assertEquals(replacement, offHeap.findById("CR001").get());
+        assertEquals(List.of("CR002", "CR001"), ids(offHeap.findAll()));
+        assertEquals(1, offHeap.findByCreditType(CreditType.CONSUMER).size());
+        assertEquals(1, offHeap.findByCreditType(CreditType.MORTGAGE).size());
+        assertEquals(1, offHeap.findByBankName("Bank1").size());
+        assertEquals(1, offHeap.findByBankName("Bank2").size());
+    }
+
+    @Test
+    void testRemoveCreditKeepsIdLookup() {
+        offHeap.removeCredit("M0");
+        offHeap.removeCredit(null);
+        offHeap.removeCredit("UNKNOWN");
+        reference.removeCredit("M0");
+
+        assertEquals(reference.size(), offHeap.size());
+        assertFalse(offHeap.findById("M0").isPresent());
+        for (Credit credit : reference.findAll()) {
+            assertEquals(credit, offHeap.findById(credit.getId()).get());
+        }
+
+        offHeap.clear();
+        assertFalse(offHeap.findById(reference.findAll().get(0).getId()).isPresent());
+    }
+
+    @Test
+    void testNonLatinIds() {
+        Bank bank = new Bank("Банк", "B003", 4.1);
+        offHeap.addCredit(new Credit("КР-001", bank, "CONSUMER", new BigDecimal("1000"),
+                new BigDecimal("10"), 12, true, false));
+
+        Credit stored = offHeap.findById("КР-001").get();
+        assertEquals("КР-001", stored.getId());
+        assertSame(bank, stored.getBank());
+        assertFalse(offHeap.findById("КР-002").isPresent());
+    }
+
+    @Test
+    void testRemoveAcrossSegments() {
+        offHeap.removeCredit("M0");
+        offHeap.removeCredit("A152");
+        reference.removeCredit("M0");
+        reference.removeCredit("A152");
+
+        assertEquals(298, offHeap.size());
+        assertEquals(reference.findAll(), offHeap.findAll());
+    }
+
+    @Test
+    void testCompactionAcrossSegments() {
+        List<Credit> before = reference.findAll();
+        for (int i = 0; i < 300; i += 2) {
+            offHeap.removeCredit(before.get(i).getId());
+            reference.removeCredit(before.get(i).getId());
+        }
+        assertEquals(300, offHeap.rowCount());
+        offHeap.removeCredit(before.get(1).getId());
+        reference.removeCredit(before.get(1).getId());
+
+        assertEquals(149, offHeap.size());
+        assertEquals(149, offHeap.rowCount());
+        assertEquals(reference.findAll(), offHeap.findAll());
+        assertEquals(ids(reference.findByCreditType("car")), ids(offHeap.findByCreditType("car")));
+        assertTrue(offHeap.findById(before.get(299).getId()).isPresent());
+    }
+
+    @Test
+    void testCompactionReclaimsIdSpace() {
+        Bank bank = new Bank("Банк", "B003", 4.1);
+        Credit nonLatin = new Credit("КР-001", bank, "CONSUMER", new BigDecimal("1000"),
+                new BigDecimal("10"), 12, true, false);
+        offHeap.addCredit(nonLatin);
+        reference.addCredit(nonLatin);
+        long used = offHeap.usedStringBytes();
+        for (int round = 0; round < 10; round++) {
+            for (Credit credit : catalog(300)) {
+                offHeap.addCredit(credit);
+                reference.addCredit(credit);
+            }
+        }
+
+        assertTrue(offHeap.usedStringBytes() < used * 3, offHeap.usedStringBytes() + " bytes used");
+        assertEquals(301, offHeap.size());
+        assertEquals(reference.findAll(), offHeap.findAll());
+        assertEquals("КР-001", offHeap.findById("КР-001").get().getId());
+        assertEquals("C100", offHeap.findById("C100").get().getId());
+    }
+
+    @Test
+    void testClearReusesSegments() {
+        long allocated = offHeap.allocatedBytes();
+        offHeap.clear();
+        for (Credit credit : catalog(300)) {
+            offHeap.addCredit(credit);
+        }
+
+        assertEquals(allocated, offHeap.allocatedBytes());
+        assertEquals(reference.findAll(), offHeap.findAll());
+    }
+
+    @Test
+    void testMappedFile(@TempDir Path directory) {
+        OffHeapCreditRepository mapped = OffHeapCreditRepository.mapped(directory.resolve("catalog.bin"));
+        for (Credit credit : catalog(100)) {
+            mapped.addCredit(credit);
+        }
+
+        assertEquals(catalog(100), mapped.findAll());
+        assertTrue(directory.resolve("catalog.bin").toFile().length() >= mapped.allocatedBytes());
+    }
+
+    @Test
+    void testInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapCreditRepository(10, 64, ByteBuffer::allocateDirect));
+    }
+
+    private static List<String> ids(List<? extends Credit> credits) {
+        return credits.stream().map(Credit::getId).collect(Collectors.toList());
+    }
+
+    private static List<Credit> catalog(int size) {
+        Random random = new Random(11);
+        Bank[] banks = {new Bank("Bank1", "B001", 4.5), new Bank("Bank2", "B002", 4.8)};
+        List<Credit> credits = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Bank bank = banks[random.nextInt(banks.length)];
+            BigDecimal amount = BigDecimal.valueOf(1_000_000 + random.nextInt(40_000_000), 2);
+            BigDecimal rate = BigDecimal.valueOf(500 + random.nextInt(2000), 2);
+            int term = 6 + 6 * random.nextInt(40);
+            boolean early = random.nextBoolean();
+            boolean increase = random.nextBoolean();
+            Credit credit;
+            switch (i % 3) {
+                case 0:
+                    credit = new MortgageCredit("M" + i, bank, amount, rate, term, early, increase,
+                            amount.multiply(BigDecimal.valueOf(2)), amount, "APARTMENT");
+                    break;
+                case 1:
+                    credit = new ConsumerCredit("C" + i, bank, amount, rate, term, early, increase,
+                            "EDUCATION", random.nextBoolean(), amount.add(BigDecimal.TEN));
+                    break;
+                default:
+                    credit = new CarCredit("A" + i, bank, amount, rate, term, early, increase, "Skoda",
+                            "Octavia", 2015 + random.nextInt(10), amount.add(BigDecimal.ONE), random.nextBoolean());
+            }
+            credit.setStartDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            credits.add(credit);
+        }
+        return credits;
+    }
+}
@@ -0,0 +1,62 @@
+package credit.repository;
+
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotBankRepositoryTest {
+
+    @Test
+    void testReadsAndWrites() {
+        SnapshotBankRepository repository = new SnapshotBankRepository();
+        repository.addBank(new Bank("Bank1", "B001", 4.5));
+        repository.addBank(new Bank("Bank2", "B002", 3.9));
+        repository.addBank(null);
+        List<Bank> before = repository.findAll();
+        List<Bank> view = repository.view();
+
+        repository.removeBank("bank1");
+
+        assertEquals(2, before.size());
+        assertEquals(2, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Bank("X", "X", 1)));
+        before.add(new Bank("X", "X", 1));
+        assertEquals(1, repository.size());
+        assertFalse(repository.findByName("Bank1").isPresent());
+        assertTrue(repository.findByLicenseNumber("B002").isPresent());
+        assertEquals(1, repository.findByMinRating(3.5).size());
+
+        repository.clear();
+        assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    void testConcurrentCanonicalizeReturnsOneInstance() throws InterruptedException {
+        SnapshotBankRepository repository = new SnapshotBankRepository();
+        Set<Bank> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    Bank canonical = repository.canonicalize(new Bank("Bank" + (i % 10), "B" + (i % 10), 4.0));
+                    seen.add(canonical);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(10, repository.size());
+        // Рівні банки - один екземпляр на назву
+        assertEquals(10, seen.size());
+    }
+}
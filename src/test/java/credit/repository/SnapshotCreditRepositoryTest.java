@@ -0,0 +1,219 @@
+package credit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.MortgageCredit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCreditRepositoryTest {
+
+    private SnapshotCreditRepository repository;
+    private Bank bank;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SnapshotCreditRepository();
+        bank = new Bank("Bank1", "B001", 4.5);
+        repository.addCredit(new Credit("CR001", bank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        repository.addCredit(new MortgageCredit("M001", bank, new BigDecimal("800000"), new BigDecimal("10.5"),
+                240, true, true, new BigDecimal("1000000"), new BigDecimal("200000"), "APARTMENT"));
+        repository.addCredit(new CarCredit("A001", bank, new BigDecimal("400000"), new BigDecimal("12.0"), 60,
+                false, false, "Skoda", "Octavia", 2022, new BigDecimal("500000"), true));
+    }
+
+    @Test
+    void testStoresSnapshots() {
+        Credit original = new Credit("CR002", bank, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, false, true);
+        repository.addCredit(original);
+        original.setInterestRate(new BigDecimal("1.0"));
+
+        Credit stored = repository.findById("CR002").get();
+        assertTrue(stored.isSnapshot());
+        assertEquals(new BigDecimal("16.0"), stored.getInterestRate());
+        assertEquals(4, repository.size());
+        assertEquals(1, repository.findByCreditType(CreditType.MORTGAGE).size());
+        assertEquals(1, repository.findCarCredits("skoda", null, null, null, null, null).size());
+    }
+
+    @Test
+    void testSnapshotsBank() {
+        Bank stored = repository.findById("CR001").get().getBank();
+        assertTrue(stored.isSnapshot());
+        assertSame(stored, repository.findById("A001").get().getBank());
+        assertThrows(IllegalStateException.class, () -> stored.setRating(1.0));
+
+        bank.setRating(2.0);
+        assertEquals(4.5, repository.findById("CR001").get().getBank().getRating());
+
+        repository.addCredit(new Credit("CR002", bank, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("16.0"), 36, false, true));
+        assertEquals(2.0, repository.findById("CR002").get().getBank().getRating());
+        assertEquals(4.5, repository.findById("CR001").get().getBank().getRating());
+    }
+
+    @Test
+    void testEveryWritePublishesNewVersion() {
+        long version = repository.getVersion();
+        CatalogVersion before = repository.currentVersion();
+
+        repository.removeCredit("A001");
+
+        assertEquals(version + 1, repository.getVersion());
+        assertEquals(3, before.size());
+        assertTrue(before.findById("A001").isPresent());
+        assertEquals(2, repository.size());
+        assertFalse(repository.findById("A001").isPresent());
+    }
+
+    @Test
+    void testUpdatePublishesBatchOnce() {
+        long version = repository.getVersion();
+
+        repository.update(credits -> credits.replaceAll(credit -> {
+            Credit repriced = credit.copy();
+            repriced.setInterestRate(credit.getInterestRate().add(BigDecimal.ONE));
+            return repriced;
+        }));
+
+        assertEquals(version + 1, repository.getVersion());
+        assertEquals(new BigDecimal("16.0"), repository.findById("CR001").get().getInterestRate());
+        assertEquals(new BigDecimal("11.5"), repository.findById("M001").get().getInterestRate());
+        assertTrue(repository.findAll().stream().allMatch(Credit::isSnapshot));
+    }
+
+    @Test
+    void testVersionIsReadOnly() {
+        CatalogVersion version = repository.currentVersion();
+
+        assertThrows(UnsupportedOperationException.class, () -> version.addCredit(
+                new Credit("CR009", bank, "CONSUMER", BigDecimal.TEN, BigDecimal.ONE, 12, false, false)));
+        assertThrows(UnsupportedOperationException.class, () -> version.removeCredit("CR001"));
+        assertThrows(UnsupportedOperationException.class, version::clear);
+        assertThrows(IllegalStateException.class,
+                () -> version.findById("CR001").get().setAmount(BigDecimal.ONE));
+        assertSame(version, version.currentVersion());
+    }
+
+    @Test
+    void testReplaceAllAndClear() {
+        List<Credit> credits = new ArrayList<>();
+        credits.add(new Credit("CR010", bank, "CONSUMER", BigDecimal.TEN, BigDecimal.ONE, 12, false, false));
+        credits.add(new Credit(null, bank, "CONSUMER", BigDecimal.TEN, BigDecimal.ONE, 12, false, false));
+        repository.replaceAll(credits);
+
+        assertEquals(1, repository.size());
+        assertTrue(repository.findById("CR010").isPresent());
+
+        repository.clear();
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void testReadersSeeWholeVersionsDuringWrites() throws InterruptedException {
+        // Кожна версія переоцінює всі кредити на ту саму ставку - читач не має бачити суміш
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 2000 && failure.get() == null; i++) {
+                List<Credit> credits = repository.findAll();
+                long rates = credits.stream().map(Credit::getInterestRate).distinct().count();
+                if (credits.size() != 3 || rates != 1) {
+                    failure.set("version with " + credits.size() + " credits and " + rates + " rates");
+                }
+            }
+        });
+        repository.update(credits -> credits.replaceAll(credit -> repriced(credit, 1)));
+        reader.start();
+        for (int rate = 2; rate < 200; rate++) {
+            int next = rate;
+            repository.update(credits -> credits.replaceAll(credit -> repriced(credit, next)));
+        }
+        reader.join();
+
+        assertNull(failure.get());
+    }
+
+    @Test
+    void testFindAllCopiesAndViewIsShared() {
+        List<Credit> copy = repository.findAll();
+        Collection<Credit> view = repository.view();
+
+        copy.remove(0);
+        assertEquals(3, repository.size());
+        assertSame(view, repository.view());
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+
+        repository.removeCredit("CR001");
+        assertEquals(3, view.size());
+        assertEquals(2, repository.findAll().size());
+    }
+
+    @Test
+    void testViewsBelongToOneVersion() {
+        Collection<Credit> view = repository.view();
+        Collection<Credit> mortgages = repository.viewByCreditType(CreditType.MORTGAGE);
+
+        repository.removeCredit("M001");
+        for (Credit credit : view) {
+            repository.removeCredit(credit.getId());
+        }
+
+        assertEquals(3, view.size());
+        assertEquals(1, mortgages.size());
+        assertEquals(0, repository.size());
+        assertTrue(repository.viewByBankName("Bank1").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+    }
+
+    @Test
+    void testImporterPublishesBatches() {
+        long version = repository.getVersion();
+        try (SnapshotCreditRepository.Importer importer = repository.importer(10)) {
+            for (int i = 0; i < 25; i++) {
+                importer.add(new Credit("IMP" + i, bank, "CONSUMER", new BigDecimal("10000"),
+                        new BigDecimal("15.0"), 12, false, false));
+            }
+            assertEquals(version + 2, repository.getVersion());
+            assertEquals(23, repository.size());
+        }
+
+        assertEquals(version + 3, repository.getVersion());
+        assertEquals(28, repository.size());
+        assertEquals("IMP24", repository.findAll().get(27).getId());
+        assertThrows(IllegalArgumentException.class, () -> repository.importer(0));
+    }
+
+    @Test
+    void testAddAllPublishesOneVersion() {
+        long version = repository.getVersion();
+        List<Credit> credits = new ArrayList<>();
+        credits.add(new Credit("CR001", bank, "CONSUMER", new BigDecimal("20000"),
+                new BigDecimal("11.0"), 12, false, false));
+        credits.add(new Credit("CR002", bank, "CONSUMER", new BigDecimal("30000"),
+                new BigDecimal("12.0"), 12, false, false));
+
+        repository.addAll(credits);
+
+        assertEquals(version + 1, repository.getVersion());
+        assertEquals(4, repository.size());
+        assertEquals(new BigDecimal("20000"), repository.findById("CR001").get().getAmount());
+    }
+
+    private static Credit repriced(Credit credit, int rate) {
+        Credit copy = credit.copy();
+        copy.setInterestRate(BigDecimal.valueOf(rate));
+        return copy;
+    }
+}
@@ -0,0 +1,112 @@
+package credit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.ConsumerCredit;
+import credit.model.Credit;
+import credit.model.MortgageCredit;
+import credit.repository.CreditColumns;
+import credit.repository.CreditRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchPaymentCalculatorTest {
+
+    private BatchPaymentCalculator calculator;
+    private Bank testBank;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new BatchPaymentCalculator();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+    }
+
+    @Test
+    void testMatchesPerObjectCalculation() {
+        CreditRepository repository = new CreditRepository();
+        repository.addCredit(new MortgageCredit("M001", testBank, new BigDecimal("500000"),
+                new BigDecimal("12.5"), 240, true, false,
+                new BigDecimal("600000"), new BigDecimal("100000"), "APARTMENT"));
+        repository.addCredit(new ConsumerCredit("C001", testBank, new BigDecimal("50000"),
+                new BigDecimal("18.5"), 60, true, true,
+                "HOME_RENOVATION", false, new BigDecimal("200000")));
+        repository.addCredit(new CarCredit("CAR001", testBank, new BigDecimal("200000"),
+                new BigDecimal("15.5"), 60, true, true,
+                "Toyota", "Camry", 2023, new BigDecimal("250000"), true));
+        repository.addCredit(new Credit("Z001", testBank, "CONSUMER", new BigDecimal("12000"),
+                BigDecimal.ZERO, 12, false, false));
+
+        CreditColumns columns = repository.toColumns();
+        calculator.calculate(columns);
+
+        List<Credit> credits = repository.findAll();
+        for (int i = 0; i < credits.size(); i++) {
+            Credit credit = credits.get(i);
+            assertEquals(credit.getId(), columns.getIds()[i]);
+            assertEquals(credit.calculateMonthlyPaymentMinor(), columns.getMonthlyPaymentMinor()[i]);
+            assertEquals(credit.calculateTotalPaymentMinor(), columns.getTotalPaymentMinor()[i]);
+        }
+    }
+
+    @Test
+    void testLargeArraysAreSplitAcrossChunks() {
+        int size = BatchPaymentCalculator.PARALLEL_THRESHOLD + 1234;
+        long[] amount = new long[size];
+        int[] rate = new int[size];
+        int[] term = new int[size];
+        for (int i = 0; i < size; i++) {
+            amount[i] = 1_000_000L + i * 37L;
+            rate[i] = 500 + (i % 300) * 5;
+            term[i] = 12 * (1 + i % 25);
+        }
+        long[] monthly = new long[size];
+        long[] total = new long[size];
+
+        calculator.calculate(amount, rate, term, monthly, total);
+
+        for (int i = 0; i < size; i += 997) {
+            Credit credit = new Credit("CR" + i, testBank, "CONSUMER", BigDecimal.valueOf(amount[i], 2),
+                    BigDecimal.valueOf(rate[i], 2), term[i], false, false);
+            assertEquals(credit.calculateMonthlyPaymentMinor(), monthly[i], "row " + i);
+            assertEquals(credit.calculateTotalPaymentMinor(), total[i], "row " + i);
+        }
+    }
+
+    @Test
+    void testRepricingReusesColumns() {
+        List<Credit> credits = new ArrayList<>();
+        credits.add(new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+        CreditColumns columns = CreditColumns.from(credits);
+        calculator.calculate(columns);
+        long before = columns.getMonthlyPaymentMinor()[0];
+
+        columns.getRateBasisPoints()[0] = 1000;
+        calculator.calculate(columns);
+
+        assertTrue(columns.getMonthlyPaymentMinor()[0] < before);
+    }
+
+    @Test
+    void testZeroTermGivesZeroPayments() {
+        long[] monthly = new long[1];
+        long[] total = new long[1];
+
+        calculator.calculate(new long[]{100000}, new int[]{1500}, new int[]{0}, monthly, total);
+
+        assertEquals(0, monthly[0]);
+        assertEquals(0, total[0]);
+    }
+
+    @Test
+    void testMismatchedColumnsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculate(
+                new long[2], new int[2], new int[1], new long[2], new long[2]));
+    }
+}
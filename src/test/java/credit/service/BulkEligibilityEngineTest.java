@@ -0,0 +1,115 @@
+package credit.service;
+
+import org.junit.jupiter.api.Test;
+import credit.benchmark.BenchmarkData;
+import credit.model.AffordabilityMatrix;
+import credit.model.Client;
+import credit.model.Credit;
+import credit.repository.CreditRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkEligibilityEngineTest {
+
+    @Test
+    void testMatchesPerPairEligibility() {
+        List<Credit> credits = BenchmarkData.catalog(130, 5);
+        AffordabilityMatrix matrix = new BulkEligibilityEngine(repository(credits)).evaluate(clients(300, 9));
+
+        assertEquals(300, matrix.clientCount());
+        assertEquals(130, matrix.creditCount());
+        assertPairsMatch(matrix, clients(300, 9), credits);
+    }
+
+    @Test
+    void testParallelSweepMatchesPerPairEligibility() {
+        // 300 x 14 000 пар - більше за PARALLEL_THRESHOLD
+        List<Credit> credits = BenchmarkData.catalog(14_000, 3);
+        List<Client> clients = clients(300, 4);
+        AffordabilityMatrix matrix = new BulkEligibilityEngine(repository(credits)).evaluate(clients);
+
+        assertTrue((long) clients.size() * credits.size() >= BulkEligibilityEngine.PARALLEL_THRESHOLD);
+        assertPairsMatch(matrix, clients, credits);
+    }
+
+    @Test
+    void testGatesAndWholeCatalog() {
+        List<Credit> credits = BenchmarkData.catalog(70, 1);
+        List<Client> clients = new ArrayList<>();
+        clients.add(new Client("RICH", "A", "B", "a@example.com", new BigDecimal("100000000"), 800, false));
+        clients.add(new Client("LOW_SCORE", "A", "B", "a@example.com", new BigDecimal("100000000"), 599, false));
+        clients.add(new Client("NO_INCOME", "A", "B", "a@example.com", null, 800, false));
+        clients.add(null);
+        AffordabilityMatrix matrix = new BulkEligibilityEngine(repository(credits)).evaluate(clients);
+
+        assertEquals(70, matrix.countAffordable(0));
+        assertEquals(70, matrix.getAffordable(0).cardinality());
+        assertEquals(0, matrix.countAffordable(1));
+        assertEquals(0, matrix.countAffordable(2));
+        assertEquals(0, matrix.countAffordable(3));
+        assertEquals("RICH", matrix.getClientId(0));
+        assertNull(matrix.getClientId(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.isAffordable(0, 70));
+    }
+
+    @Test
+    void testAffordableCreditIds() {
+        List<Credit> credits = BenchmarkData.catalog(100, 2);
+        Client client = new Client("CLI001", "A", "B", "a@example.com", new BigDecimal("30000"), 700, false);
+        List<Client> clients = new ArrayList<>();
+        clients.add(client);
+        AffordabilityMatrix matrix = new BulkEligibilityEngine(repository(credits)).evaluate(clients);
+
+        List<String> expected = new ArrayList<>();
+        for (Credit credit : credits) {
+            if (client.isEligibleForCredit(credit.getAmount(), credit.calculateMonthlyPayment())) {
+                expected.add(credit.getId());
+            }
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, matrix.getAffordableCreditIds(0));
+    }
+
+    @Test
+    void testEmptyCatalogAndMismatchedColumns() {
+        BulkEligibilityEngine engine = new BulkEligibilityEngine(new CreditRepository());
+        AffordabilityMatrix matrix = engine.evaluate(clients(3, 1));
+
+        assertEquals(0, matrix.creditCount());
+        assertEquals(0, matrix.countAffordable(2));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.evaluate(clients(3, 1), new String[2], new long[3]));
+    }
+
+    private static void assertPairsMatch(AffordabilityMatrix matrix, List<Client> clients, List<Credit> credits) {
+        for (int i = 0; i < clients.size(); i++) {
+            Client client = clients.get(i);
+            for (int j = 0; j < credits.size(); j++) {
+                boolean expected = client.isEligibleForCredit(credits.get(j).calculateMonthlyPaymentMinor());
+                assertEquals(expected, matrix.isAffordable(i, j), client.getId() + " / " + credits.get(j).getId());
+            }
+        }
+    }
+
+    private static CreditRepository repository(List<Credit> credits) {
+        CreditRepository repository = new CreditRepository();
+        credits.forEach(repository::addCredit);
+        return repository;
+    }
+
+    private static List<Client> clients(int count, long seed) {
+        Random random = new Random(seed);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BigDecimal income = i % 50 == 0 ? null : BigDecimal.valueOf(500_000 + random.nextInt(20_000_000), 2);
+            clients.add(new Client("CLI" + i, "First", "Last", "c" + i + "@example.com", income,
+                    300 + random.nextInt(551), random.nextBoolean()));
+        }
+        return clients;
+    }
+}
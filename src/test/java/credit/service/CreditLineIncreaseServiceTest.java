@@ -0,0 +1,123 @@
+package credit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.Bank;
+import credit.model.Client;
+import credit.model.Credit;
+import credit.model.CreditLineIncrease;
+import credit.model.CreditLineIncreaseResult;
+import credit.repository.CreditRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditLineIncreaseServiceTest {
+
+    private CreditRepository creditRepository;
+    private CreditLineIncreaseService service;
+    private Bank testBank;
+    private Client testClient;
+
+    @BeforeEach
+    void setUp() {
+        creditRepository = new CreditRepository();
+        service = new CreditLineIncreaseService(creditRepository);
+        testBank = new Bank("TestBank", "TB001", 4.5);
+        // Межа платежу - 40% від 10000 = 4000
+        testClient = new Client("CLI001", "John", "Doe", "john@example.com",
+                new BigDecimal("10000"), 750, false);
+
+        creditRepository.addCredit(new Credit("CR001", testBank, "CONSUMER",
+                new BigDecimal("100000"), new BigDecimal("15.0"), 60, true, true));
+        creditRepository.addCredit(new Credit("CR002", testBank, "CONSUMER",
+                new BigDecimal("150000"), new BigDecimal("14.0"), 60, true, false));
+        creditRepository.addCredit(new Credit("CR003", testBank, "MORTGAGE",
+                new BigDecimal("400000"), new BigDecimal("12.0"), 240, true, true));
+        creditRepository.addCredit(new Credit("CR004", testBank, "CONSUMER",
+                new BigDecimal("12000"), BigDecimal.ZERO, 12, false, true));
+    }
+
+    @Test
+    void testNewPaymentMatchesRebuiltCredit() {
+        for (String percent : new String[]{"0", "10", "12.5", "33.33", "100"}) {
+            for (Credit credit : creditRepository.findWithCreditLineIncrease()) {
+                CreditLineIncreaseResult result = service.evaluate(testClient, credit,
+                        CreditLineIncrease.byPercent(new BigDecimal(percent)));
+
+                Credit rebuilt = new Credit(credit.getId(), testBank, credit.getCreditType(), result.getNewAmount(),
+                        credit.getInterestRate(), credit.getTermMonths(), true, true);
+                assertEquals(rebuilt.calculateMonthlyPayment(), result.getNewMonthlyPayment(),
+                        credit.getId() + " +" + percent + "%");
+                assertEquals(credit.calculateMonthlyPayment(), result.getCurrentMonthlyPayment());
+            }
+        }
+    }
+
+    @Test
+    void testIncreaseByPercentAndAmount() {
+        Credit credit = creditRepository.findById("CR001").get();
+
+        assertEquals(new BigDecimal("110000.00"), service.evaluate(testClient, credit,
+                CreditLineIncrease.byPercent(new BigDecimal("10"))).getNewAmount());
+        assertEquals(new BigDecimal("125000.00"), service.evaluate(testClient, credit,
+                CreditLineIncrease.byAmount(new BigDecimal("25000"))).getNewAmount());
+    }
+
+    @Test
+    void testEligibilityUsesNewPayment() {
+        Credit credit = creditRepository.findById("CR003").get();
+
+        // 400000 під 12% на 240 місяців - близько 4400, більше за межу
+        CreditLineIncreaseResult result = service.evaluate(testClient, credit,
+                CreditLineIncrease.byPercent(BigDecimal.ZERO));
+        assertFalse(result.isClientEligible());
+        assertEquals(client(new BigDecimal("20000")).isEligibleForCredit(
+                        credit.getAmount(), result.getNewMonthlyPayment()),
+                service.evaluate(client(new BigDecimal("20000")), credit,
+                        CreditLineIncrease.byPercent(BigDecimal.ZERO)).isClientEligible());
+    }
+
+    @Test
+    void testEvaluateAllCoversOnlyAllowedCredits() {
+        List<CreditLineIncreaseResult> results = service.evaluateAll(testClient,
+                CreditLineIncrease.byPercent(new BigDecimal("20")));
+
+        assertEquals(3, results.size());
+        assertEquals("CR001", results.get(0).getCreditId());
+        assertEquals("CR003", results.get(1).getCreditId());
+        assertEquals("CR004", results.get(2).getCreditId());
+    }
+
+    @Test
+    void testFindAffordableIncreases() {
+        List<CreditLineIncreaseResult> results = service.findAffordableIncreases(testClient,
+                CreditLineIncrease.byPercent(new BigDecimal("20")));
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(CreditLineIncreaseResult::isClientEligible));
+        assertTrue(results.stream().allMatch(result -> result.getPaymentIncrease().signum() > 0));
+    }
+
+    @Test
+    void testCreditWithoutIncreaseRejected() {
+        Credit credit = creditRepository.findById("CR002").get();
+
+        assertThrows(IllegalArgumentException.class, () -> service.evaluate(testClient, credit,
+                CreditLineIncrease.byPercent(BigDecimal.TEN)));
+    }
+
+    @Test
+    void testNegativeIncreaseRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CreditLineIncrease.byPercent(new BigDecimal("-5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CreditLineIncrease.byAmount(null));
+    }
+
+    private Client client(BigDecimal monthlyIncome) {
+        return new Client("CLI002", "Jane", "Doe", "jane@example.com", monthlyIncome, 750, false);
+    }
+}
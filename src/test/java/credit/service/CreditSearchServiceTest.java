@@ -2,14 +2,21 @@ package credit.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import credit.benchmark.BenchmarkData;
 import credit.model.Bank;
 import credit.model.Client;
 import credit.model.ConsumerCredit;
 import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.LtvBand;
+import credit.model.MortgageCredit;
 import credit.repository.CreditRepository;
+import credit.repository.SnapshotCreditRepository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -166,5 +173,120 @@ class CreditSearchServiceTest {
 
         assertTrue(results.isEmpty());
     }
-}
 
+    @Test
+    void testFindMortgagesByLtvBandSortedByRate() {
+        creditRepository.addCredit(new MortgageCredit("M001", testBank1, new BigDecimal("700000"),
+                new BigDecimal("12.5"), 240, true, false,
+                new BigDecimal("1000000"), new BigDecimal("300000"), "APARTMENT"));
+        creditRepository.addCredit(new MortgageCredit("M002", testBank2, new BigDecimal("750000"),
+                new BigDecimal("11.8"), 300, true, true,
+                new BigDecimal("1000000"), new BigDecimal("250000"), "APARTMENT"));
+
+        List<MortgageCredit> results = searchService.findMortgagesByLtvBand(LtvBand.FROM_60_TO_80,
+                "APARTMENT", null);
+
+        assertEquals(2, results.size());
+        assertEquals("M002", results.get(0).getId());
+        assertTrue(searchService.findMortgagesByLtvBand(null, null, null).isEmpty());
+    }
+
+    @Test
+    void testFindConsumerCreditsCoveringSortedByRate() {
+        creditRepository.addCredit(new ConsumerCredit("C001", testBank1, new BigDecimal("50000"),
+                new BigDecimal("18.5"), 60, true, true, "EDUCATION", false, new BigDecimal("100000")));
+        creditRepository.addCredit(new ConsumerCredit("C002", testBank2, new BigDecimal("30000"),
+                new BigDecimal("16.0"), 36, true, false, "EDUCATION", false, new BigDecimal("90000")));
+        creditRepository.addCredit(new ConsumerCredit("C003", testBank2, new BigDecimal("30000"),
+                new BigDecimal("14.0"), 36, true, false, "EDUCATION", true, new BigDecimal("90000")));
+
+        List<ConsumerCredit> results = searchService.findConsumerCreditsCovering("EDUCATION", false,
+                new BigDecimal("80000"));
+
+        assertEquals(2, results.size());
+        assertEquals("C002", results.get(0).getId());
+        assertTrue(searchService.findConsumerCreditsCovering("EDUCATION", false, null).isEmpty());
+    }
+
+    @Test
+    void testSearchByClientNeedsWithinCreditType() {
+        List<Credit> consumers = searchService.searchByClientNeeds(testClient, new BigDecimal("50000"), 60,
+                CreditType.CONSUMER);
+        List<Credit> mortgages = searchService.searchByClientNeeds(testClient, new BigDecimal("50000"), 60,
+                CreditType.MORTGAGE);
+
+        assertEquals(2, consumers.size());
+        assertTrue(consumers.stream().allMatch(credit -> credit.getType() == CreditType.CONSUMER));
+        assertEquals(1, mortgages.size());
+        assertTrue(searchService.searchByClientNeeds(testClient, new BigDecimal("50000"), 60, null).isEmpty());
+    }
+
+    @Test
+    void testSearchOverSnapshotRepository() {
+        SnapshotCreditRepository snapshots = new SnapshotCreditRepository();
+        snapshots.replaceAll(creditRepository.findAll());
+        CreditSearchService snapshotService = new CreditSearchService(snapshots);
+
+        assertEquals(searchService.searchByClientNeeds(testClient, new BigDecimal("150000"), 60),
+                snapshotService.searchByClientNeeds(testClient, new BigDecimal("150000"), 60));
+        assertEquals(searchService.findFlexibleCredits(new BigDecimal("50000")),
+                snapshotService.findFlexibleCredits(new BigDecimal("50000")));
+        assertTrue(snapshotService.findBestOffers(testClient, new BigDecimal("150000"), 60).stream()
+                .allMatch(Credit::isSnapshot));
+    }
+
+    @Test
+    void testSearchByClientNeedsSameAsFullCheck() {
+        // Відсікання за мінімальним терміном не має змінювати результат
+        CreditRepository catalog = new CreditRepository();
+        List<Credit> credits = BenchmarkData.catalog(900, 8);
+        credits.forEach(catalog::addCredit);
+        CreditSearchService service = new CreditSearchService(catalog);
+        Random random = new Random(8);
+
+        for (int i = 0; i < 200; i++) {
+            Client client = new Client("CLI" + i, "John", "Doe", "john@example.com",
+                    BigDecimal.valueOf(500_000 + random.nextInt(10_000_000), 2), 650, false);
+            BigDecimal amount = BigDecimal.valueOf(5_000 + random.nextInt(300) * 1_000L);
+            int term = 6 + random.nextInt(60);
+            List<Credit> expected = credits.stream()
+                    .filter(credit -> credit.getAmount().compareTo(amount) >= 0 && credit.getTermMonths() >= term)
+                    .filter(credit -> client.isEligibleForCredit(credit.getAmount(), credit.calculateMonthlyPayment()))
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, service.searchByClientNeeds(client, amount, term));
+        }
+    }
+
+    @Test
+    void testPrequalificationCacheGivesSameResults() {
+        CreditRepository catalog = new CreditRepository();
+        BenchmarkData.catalog(600, 4).forEach(catalog::addCredit);
+        PrequalificationCache cache = new PrequalificationCache(8);
+        CreditSearchService cached = new CreditSearchService(catalog, cache);
+        CreditSearchService plain = new CreditSearchService(catalog);
+        Random random = new Random(4);
+
+        for (int i = 0; i < 300; i++) {
+            // 5 профілів доходу - більшість запитів мають потрапляти в кеш
+            Client client = new Client("CLI" + i, "John", "Doe", "john@example.com",
+                    BigDecimal.valueOf(20_000 + 10_000 * random.nextInt(5)), 700, random.nextBoolean());
+            BigDecimal amount = BigDecimal.valueOf(5_000 + random.nextInt(300) * 1_000L);
+            int term = 6 + random.nextInt(60);
+
+            assertEquals(plain.searchByClientNeeds(client, amount, term),
+                    cached.searchByClientNeeds(client, amount, term));
+            assertEquals(plain.searchByClientNeeds(client, amount, term, CreditType.MORTGAGE),
+                    cached.searchByClientNeeds(client, amount, term, CreditType.MORTGAGE));
+        }
+        assertEquals(5, cache.getMissCount());
+        assertEquals(595, cache.getHitCount());
+
+        // Зміна каталогу робить збережені результати недійсними
+        catalog.addCredit(new Credit("NEW", testBank1, "CONSUMER",
+                new BigDecimal("300000"), new BigDecimal("1.0"), 60, true, false));
+        List<Credit> results = cached.searchByClientNeeds(testClient, new BigDecimal("250000"), 60);
+        assertTrue(results.stream().anyMatch(credit -> credit.getId().equals("NEW")));
+        assertEquals(1, cache.size());
+    }
+}
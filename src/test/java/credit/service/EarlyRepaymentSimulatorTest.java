@@ -0,0 +1,143 @@
+package credit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import credit.model.AmortizationEntry;
+import credit.model.Bank;
+import credit.model.Credit;
+import credit.model.MortgageCredit;
+import credit.model.PrepaymentResult;
+import credit.model.PrepaymentScenario;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EarlyRepaymentSimulatorTest {
+
+    private EarlyRepaymentSimulator simulator;
+    private Bank testBank;
+    private MortgageCredit mortgage;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new EarlyRepaymentSimulator();
+        testBank = new Bank("TestBank", "TB001", 4.5);
+        mortgage = new MortgageCredit("M001", testBank, new BigDecimal("800000"),
+                new BigDecimal("11.8"), 300, true, true,
+                new BigDecimal("1000000"), new BigDecimal("200000"), "HOUSE");
+    }
+
+    @Test
+    void testEmptyScenarioSavesNothing() {
+        PrepaymentResult result = simulator.simulate(mortgage, PrepaymentScenario.extraMonthly(BigDecimal.ZERO));
+
+        assertEquals(0, result.getInterestSaved().signum());
+        assertEquals(result.getOriginalTermMonths(), result.getNewTermMonths());
+        assertEquals(0, result.getMonthsSaved());
+    }
+
+    @Test
+    void testExtraMonthlyPaymentMatchesManualSchedule() {
+        BigDecimal extra = new BigDecimal("1000");
+        PrepaymentResult result = simulator.simulate(mortgage, PrepaymentScenario.extraMonthly(extra));
+
+        // Ручний розрахунок на BigDecimal з тим самим округленням, що й у графіку
+        BigDecimal baselineInterest = mortgage.getAmortizationSchedule().stream()
+                .map(AmortizationEntry::getInterest)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal rate = new BigDecimal("0.0098");
+        BigDecimal balance = mortgage.getAmount();
+        BigDecimal interestPaid = BigDecimal.ZERO;
+        int months = 0;
+        while (balance.signum() > 0) {
+            months++;
+            BigDecimal interest = balance.multiply(rate).setScale(2, java.math.RoundingMode.HALF_UP);
+            BigDecimal principal = mortgage.calculateMonthlyPayment().add(extra).subtract(interest);
+            if (months == 300 || principal.compareTo(balance) >= 0) {
+                principal = balance;
+            }
+            balance = balance.subtract(principal);
+            interestPaid = interestPaid.add(interest);
+        }
+
+        assertEquals(0, baselineInterest.subtract(interestPaid).compareTo(result.getInterestSaved()));
+        assertEquals(months, result.getNewTermMonths());
+        assertTrue(result.getMonthsSaved() > 0);
+    }
+
+    @Test
+    void testLumpSumClosingBalanceEndsCredit() {
+        PrepaymentResult result = simulator.simulate(mortgage,
+                PrepaymentScenario.lumpSum(1, new BigDecimal("800000")));
+
+        assertEquals(1, result.getNewTermMonths());
+        assertEquals(result.getOriginalTermMonths() - 1, result.getMonthsSaved());
+        assertTrue(result.getInterestSaved().compareTo(new BigDecimal("1000000")) > 0);
+    }
+
+    @Test
+    void testLaterLumpSumSavesLess() {
+        List<PrepaymentScenario> scenarios = new ArrayList<>();
+        for (int month = 12; month <= 240; month += 12) {
+            scenarios.add(PrepaymentScenario.lumpSum(month, new BigDecimal("50000")));
+        }
+
+        List<PrepaymentResult> results = simulator.simulate(mortgage, scenarios);
+
+        assertEquals(scenarios.size(), results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i).getInterestSaved().compareTo(results.get(i - 1).getInterestSaved()) < 0);
+            assertEquals(scenarios.get(i), results.get(i).getScenario());
+        }
+    }
+
+    @Test
+    void testScenarioAfterPayoffHasNoEffect() {
+        PrepaymentResult result = simulator.simulate(mortgage,
+                PrepaymentScenario.lumpSum(400, new BigDecimal("50000")));
+
+        assertEquals(0, result.getInterestSaved().signum());
+        assertEquals(0, result.getMonthsSaved());
+    }
+
+    @Test
+    void testSimulateAllSkipsCreditsWithoutEarlyRepayment() {
+        List<Credit> credits = new ArrayList<>();
+        credits.add(mortgage);
+        credits.add(new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, false, false));
+        credits.add(new Credit("CR002", testBank, "CONSUMER", new BigDecimal("50000"),
+                new BigDecimal("18.0"), 36, true, false));
+        List<PrepaymentScenario> scenarios = List.of(
+                PrepaymentScenario.extraMonthly(new BigDecimal("500")),
+                PrepaymentScenario.lumpSum(6, new BigDecimal("10000")));
+
+        List<PrepaymentResult> results = simulator.simulateAll(credits, scenarios);
+
+        assertEquals(4, results.size());
+        assertEquals("M001", results.get(0).getCreditId());
+        assertEquals("M001", results.get(1).getCreditId());
+        assertEquals("CR002", results.get(2).getCreditId());
+        assertEquals(simulator.simulate(credits.get(2), scenarios), results.subList(2, 4));
+    }
+
+    @Test
+    void testCreditWithoutEarlyRepaymentRejected() {
+        Credit credit = new Credit("CR001", testBank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, false, false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.simulate(credit, PrepaymentScenario.extraMonthly(BigDecimal.ONE)));
+    }
+
+    @Test
+    void testInvalidScenarioRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PrepaymentScenario.lumpSum(0, BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class,
+                () -> PrepaymentScenario.extraMonthly(new BigDecimal("-1")));
+    }
+}
@@ -0,0 +1,100 @@
+package credit.service;
+
+import org.junit.jupiter.api.Test;
+import credit.model.Credit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrequalificationCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        PrequalificationCache cache = new PrequalificationCache();
+        PrequalifiedCredits credits = new PrequalifiedCredits(new ArrayList<>());
+
+        assertEquals(0, cache.getHitRate());
+        assertNull(cache.get(1, 2_000_000));
+        cache.put(1, 2_000_000, credits);
+        assertSame(credits, cache.get(1, 2_000_000));
+        assertSame(credits, cache.get(1, 2_000_000));
+        assertNull(cache.get(1, 2_000_001));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        PrequalificationCache cache = new PrequalificationCache(2);
+        cache.put(1, 100, new PrequalifiedCredits(new ArrayList<>()));
+        cache.put(1, 200, new PrequalifiedCredits(new ArrayList<>()));
+        cache.get(1, 100);
+        cache.put(1, 300, new PrequalifiedCredits(new ArrayList<>()));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.get(1, 100));
+        assertNull(cache.get(1, 200));
+        assertNotNull(cache.get(1, 300));
+    }
+
+    @Test
+    void testBoundedByCachedCredits() {
+        PrequalificationCache cache = new PrequalificationCache(10, 5);
+        cache.put(1, 100, credits(2));
+        cache.put(1, 200, credits(2));
+        cache.get(1, 100);
+        cache.put(1, 300, credits(3));
+
+        assertEquals(5, cache.getCachedCredits());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get(1, 200));
+        assertNotNull(cache.get(1, 100));
+
+        // Запис, більший за всю межу, не кешується і нічого не витісняє
+        cache.put(1, 400, credits(6));
+        assertNull(cache.get(1, 400));
+        assertEquals(2, cache.size());
+        assertEquals(5, cache.getCachedCredits());
+    }
+
+    @Test
+    void testNewVersionReplacesEntries() {
+        PrequalificationCache cache = new PrequalificationCache();
+        cache.put(1, 100, new PrequalifiedCredits(new ArrayList<>()));
+        cache.put(2, 200, new PrequalifiedCredits(new ArrayList<>()));
+
+        assertNull(cache.get(1, 100));
+        assertNull(cache.get(2, 100));
+        assertNotNull(cache.get(2, 200));
+
+        // Старіша версія не витісняє новішу
+        cache.put(1, 300, new PrequalifiedCredits(new ArrayList<>()));
+        assertEquals(1, cache.size());
+        assertNull(cache.get(1, 300));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void testInvalidMaxEntries() {
+        assertThrows(IllegalArgumentException.class, () -> new PrequalificationCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new PrequalificationCache(10, 0));
+    }
+
+    private static PrequalifiedCredits credits(int count) {
+        List<Credit> credits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            credits.add(new Credit("CR" + i, null, "CONSUMER", new BigDecimal("10000"),
+                    new BigDecimal("15.0"), 12, false, false));
+        }
+        return new PrequalifiedCredits(credits);
+    }
+}
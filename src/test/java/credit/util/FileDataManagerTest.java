@@ -2,12 +2,20 @@ package credit.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import credit.model.Bank;
+import credit.model.CarCredit;
+import credit.model.Client;
+import credit.model.ConsumerCredit;
 import credit.model.Credit;
+import credit.model.CreditType;
+import credit.model.MortgageCredit;
+import credit.repository.BankRepository;
 
 import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -152,5 +160,124 @@ class FileDataManagerTest {
         assertEquals(1, loadedCredits.size());
         assertEquals("CR002", loadedCredits.get(0).getId());
     }
-}
 
+    @Test
+    void testLoadedCreditsComputePaymentsFromLoadedFields() throws IOException {
+        Bank bank = new Bank("TestBank", "TB001", 4.5);
+        Credit credit = new Credit("CR001", bank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false);
+        BigDecimal monthlyPayment = credit.calculateMonthlyPayment();
+        BigDecimal totalPayment = credit.calculateTotalPayment();
+
+        List<Credit> credits = new ArrayList<>();
+        credits.add(credit);
+        fileDataManager.saveCredits(credits);
+        Credit loaded = fileDataManager.loadCredits().get(0);
+
+        assertEquals(monthlyPayment, loaded.calculateMonthlyPayment());
+        assertEquals(totalPayment, loaded.calculateTotalPayment());
+
+        loaded.setAmount(new BigDecimal("50000"));
+        assertTrue(loaded.calculateMonthlyPayment().compareTo(monthlyPayment) < 0);
+    }
+
+    @Test
+    void testLoadedCreditsKeepCreditType() throws IOException {
+        Bank bank = new Bank("TestBank", "TB001", 4.5);
+        Credit credit = new Credit("CR001", bank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false);
+        credit.setType(CreditType.MORTGAGE);
+
+        List<Credit> credits = new ArrayList<>();
+        credits.add(credit);
+        fileDataManager.saveCredits(credits);
+        Credit loaded = fileDataManager.loadCredits().get(0);
+
+        assertEquals("MORTGAGE", loaded.getCreditType());
+        assertEquals(CreditType.MORTGAGE, loaded.getType());
+    }
+
+    @Test
+    void testLoadedCreditsKeepSubclass() throws IOException {
+        Bank bank = new Bank("TestBank", "TB001", 4.5);
+        List<Credit> credits = new ArrayList<>();
+        credits.add(new MortgageCredit("M001", bank, new BigDecimal("800000"), new BigDecimal("10.5"), 240,
+                true, false, new BigDecimal("1000000"), new BigDecimal("200000"), "APARTMENT"));
+        credits.add(new ConsumerCredit("C001", bank, new BigDecimal("50000"), new BigDecimal("18.0"), 24,
+                true, true, "EDUCATION", false, new BigDecimal("100000")));
+        credits.add(new CarCredit("A001", bank, new BigDecimal("400000"), new BigDecimal("12.0"), 60,
+                false, false, "Skoda", "Octavia", 2022, new BigDecimal("500000"), true));
+        credits.add(new Credit("CR001", bank, "CONSUMER", new BigDecimal("100000"),
+                new BigDecimal("15.0"), 60, true, false));
+
+        fileDataManager.saveCredits(credits);
+        List<Credit> loaded = fileDataManager.loadCredits();
+
+        assertEquals(credits, loaded);
+        assertTrue(loaded.get(0) instanceof MortgageCredit);
+        assertTrue(loaded.get(1) instanceof ConsumerCredit);
+        assertTrue(loaded.get(2) instanceof CarCredit);
+        assertEquals(Credit.class, loaded.get(3).getClass());
+        assertEquals("Octavia", ((CarCredit) loaded.get(2)).getCarModel());
+    }
+
+    @Test
+    void testLoadCreditsSharesBanksAndValues() throws IOException {
+        List<Credit> credits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Bank bank = new Bank(i % 2 == 0 ? "Bank1" : "Bank2", "B00" + (i % 2), 4.5);
+            credits.add(new CarCredit("A00" + i, bank, new BigDecimal("400000"), new BigDecimal("12.0"), 60,
+                    false, false, "Skoda", "Octavia", 2022, new BigDecimal("500000"), true));
+        }
+        fileDataManager.saveCredits(credits);
+
+        BankRepository bankRepository = new BankRepository();
+        Bank known = new Bank("Bank1", "B000", 4.5);
+        bankRepository.addBank(known);
+        List<Credit> loaded = fileDataManager.loadCredits(bankRepository);
+
+        assertEquals(credits, loaded);
+        assertSame(known, loaded.get(0).getBank());
+        assertSame(known, loaded.get(2).getBank());
+        assertSame(loaded.get(1).getBank(), loaded.get(3).getBank());
+        assertEquals(2, bankRepository.findAll().size());
+        CarCredit first = (CarCredit) loaded.get(0);
+        CarCredit last = (CarCredit) loaded.get(3);
+        assertSame(first.getCreditType(), last.getCreditType());
+        assertSame(first.getCarBrand(), last.getCarBrand());
+        assertSame(first.getCarModel(), last.getCarModel());
+        assertSame(first.getInterestRate(), last.getInterestRate());
+    }
+
+    @Test
+    void testCustomDataDirectory(@TempDir Path directory) throws IOException {
+        FileDataManager manager = new FileDataManager(directory.toString());
+        List<Bank> banks = new ArrayList<>();
+        banks.add(new Bank("Bank1", "B001", 4.5));
+
+        manager.saveBanks(banks);
+
+        assertTrue(directory.resolve("banks.json").toFile().exists());
+        assertEquals(1, manager.loadBanks().size());
+        assertTrue(fileDataManager.loadBanks().isEmpty());
+    }
+
+    @Test
+    void testSaveAndLoadClients(@TempDir Path directory) throws IOException {
+        FileDataManager manager = new FileDataManager(directory.toString());
+        List<Client> clients = new ArrayList<>();
+        clients.add(new Client("CLI001", "John", "Doe", "john@example.com", new BigDecimal("50000"), 720, false));
+        clients.add(new Client("CLI002", "Jane", "Roe", "jane@example.com", null, 640, true));
+
+        assertTrue(manager.loadClients().isEmpty());
+        manager.saveClients(clients);
+        List<Client> loaded = manager.loadClients();
+
+        assertEquals(2, loaded.size());
+        assertEquals("CLI001", loaded.get(0).getId());
+        assertEquals(0, new BigDecimal("50000").compareTo(loaded.get(0).getMonthlyIncome()));
+        assertEquals(720, loaded.get(0).getCreditScore());
+        assertNull(loaded.get(1).getMonthlyIncome());
+        assertTrue(loaded.get(1).isHasExistingCredits());
+    }
+}